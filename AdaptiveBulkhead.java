@@ -0,0 +1,97 @@
+package com.billdesk.banks.support;
+
+import com.billdesk.banks.config.BulkheadConfig;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit for one bank. Calls beyond the current limit are rejected instead of queued. The limit is adjusted
+ * once per window of one limit's worth of completed calls, roughly one round trip, in the style of a gradient limiter.
+ * When more than maxFailureRate of the window failed, or its average latency exceeds latencyTolerance times a smoothed
+ * baseline, the limit is scaled down by the latency ratio, but by no more than backoffRatio. Otherwise it grows by one
+ * if the window used at least half of the limit. The baseline is an exponential average of window latencies over
+ * baselineWindows windows, so ordinary latency tails move the baseline instead of shrinking the limit.
+ */
+public class AdaptiveBulkhead {
+
+  private final BulkheadConfig.Limits limits;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private volatile double limit;
+  private double baselineNanos;
+  private int windowSamples;
+  private int windowFailures;
+  private long windowLatencyNanos;
+  private int windowMaxInFlight;
+
+  public AdaptiveBulkhead(final BulkheadConfig.Limits limits) {
+
+    this.limits = limits;
+    this.limit = limits.getInitialLimit();
+  }
+
+  public boolean tryAcquire() {
+
+    while (true) {
+      final int current = inFlight.get();
+      if (current >= (int) limit) {
+        return false;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  public void release() {
+
+    inFlight.decrementAndGet();
+  }
+
+  public void release(final long latencyNanos, final boolean failed) {
+
+    onSample(latencyNanos, failed, inFlight.getAndDecrement());
+  }
+
+  public int getInFlight() {
+
+    return inFlight.get();
+  }
+
+  public int getLimit() {
+
+    return (int) limit;
+  }
+
+  private synchronized void onSample(final long latencyNanos, final boolean failed, final int concurrency) {
+
+    windowMaxInFlight = Math.max(windowMaxInFlight, concurrency);
+    if (failed) {
+      windowFailures++;
+    } else {
+      windowLatencyNanos += latencyNanos;
+    }
+    if (++windowSamples < Math.max(1, (int) limit)) {
+      return;
+    }
+    final int succeeded = windowSamples - windowFailures;
+    if (windowFailures > windowSamples * limits.getMaxFailureRate() || succeeded == 0) {
+      limit = Math.max(limits.getMinLimit(), limit * limits.getBackoffRatio());
+    } else {
+      final double averageNanos = (double) windowLatencyNanos / succeeded;
+      if (baselineNanos == 0) {
+        baselineNanos = averageNanos;
+      }
+      final double gradient = limits.getLatencyTolerance() * baselineNanos / averageNanos;
+      if (gradient < 1) {
+        limit = Math.max(limits.getMinLimit(), limit * Math.max(limits.getBackoffRatio(), gradient));
+      } else if (windowMaxInFlight * 2 >= limit) {
+        limit = Math.min(limits.getMaxLimit(), limit + 1);
+      }
+      baselineNanos += (averageNanos - baselineNanos) * 2 / (limits.getBaselineWindows() + 1);
+    }
+    windowSamples = 0;
+    windowFailures = 0;
+    windowLatencyNanos = 0;
+    windowMaxInFlight = 0;
+  }
+}
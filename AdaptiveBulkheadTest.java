@@ -0,0 +1,105 @@
+package com.billdesk.banks.support;
+
+import com.billdesk.banks.config.BulkheadConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class AdaptiveBulkheadTest {
+
+  private static final long FAST = TimeUnit.MILLISECONDS.toNanos(20);
+  private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+
+  @Test
+  void testRejectsOverLimit() {
+
+    final AdaptiveBulkhead bulkhead = new AdaptiveBulkhead(limits(2));
+    Assertions.assertTrue(bulkhead.tryAcquire());
+    Assertions.assertTrue(bulkhead.tryAcquire());
+    Assertions.assertFalse(bulkhead.tryAcquire());
+    bulkhead.release();
+    Assertions.assertTrue(bulkhead.tryAcquire());
+  }
+
+  @Test
+  void testLimitGrowsOncePerSaturatedWindow() {
+
+    final AdaptiveBulkhead bulkhead = new AdaptiveBulkhead(limits(10));
+    for (int i = 0; i < 10; i++) {
+      window(bulkhead, FAST, false);
+    }
+    Assertions.assertEquals(20, bulkhead.getLimit());
+  }
+
+  @Test
+  void testLimitDoesNotGrowWhenUnderused() {
+
+    final AdaptiveBulkhead bulkhead = new AdaptiveBulkhead(limits(10));
+    for (int i = 0; i < 100; i++) {
+      bulkhead.tryAcquire();
+      bulkhead.release(FAST, false);
+    }
+    Assertions.assertEquals(10, bulkhead.getLimit());
+  }
+
+  @Test
+  void testLatencyTailDoesNotShrinkLimit() {
+
+    final AdaptiveBulkhead bulkhead = new AdaptiveBulkhead(limits(10));
+    int calls = 0;
+    for (int i = 0; i < 50; i++) {
+      int acquired = 0;
+      while (bulkhead.tryAcquire()) {
+        acquired++;
+      }
+      for (int j = 0; j < acquired; j++) {
+        // One call in ten is five times slower than the rest
+        bulkhead.release(++calls % 10 == 0 ? FAST * 5 : FAST, false);
+      }
+    }
+    Assertions.assertTrue(bulkhead.getLimit() > 10);
+  }
+
+  @Test
+  void testSlowWindowShrinksLimitOnce() {
+
+    final AdaptiveBulkhead bulkhead = new AdaptiveBulkhead(limits(10));
+    for (int i = 0; i < 10; i++) {
+      window(bulkhead, FAST, false);
+    }
+    window(bulkhead, SLOW, false);
+    Assertions.assertEquals(18, bulkhead.getLimit());
+  }
+
+  @Test
+  void testFailuresShrinkLimitToMinimum() {
+
+    final AdaptiveBulkhead bulkhead = new AdaptiveBulkhead(limits(10));
+    for (int i = 0; i < 100; i++) {
+      window(bulkhead, FAST, true);
+    }
+    Assertions.assertEquals(2, bulkhead.getLimit());
+    Assertions.assertEquals(0, bulkhead.getInFlight());
+  }
+
+  // Fills the bulkhead and completes every call, which is one adjustment window
+  private static void window(final AdaptiveBulkhead bulkhead, final long latencyNanos, final boolean failed) {
+
+    int acquired = 0;
+    while (bulkhead.tryAcquire()) {
+      acquired++;
+    }
+    for (int i = 0; i < acquired; i++) {
+      bulkhead.release(latencyNanos, failed);
+    }
+  }
+
+  private BulkheadConfig.Limits limits(final int initialLimit) {
+
+    final BulkheadConfig.Limits limits = new BulkheadConfig.Limits();
+    limits.setInitialLimit(initialLimit);
+    limits.setMinLimit(2);
+    return limits;
+  }
+}
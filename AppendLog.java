@@ -0,0 +1,174 @@
+package com.billdesk.banks.support;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Memory-mapped, length-prefixed record log of fixed capacity. The header keeps the offset of the first record that
+ * has not been committed yet and the current write offset, so records appended before a restart are handed out
+ * again by {@link #pending}. Both offsets are packed into one long so the header is always updated in a single
+ * write. Committed space is reclaimed by moving the pending records to the start of the log when an append would
+ * not fit otherwise. With forceOnAppend, appends and commits wait until they are on disk, but the force runs outside
+ * the append lock and covers every update made before it started, so callers that arrive while one force is running
+ * share the next one instead of each forcing the mapping in turn.
+ */
+public class AppendLog implements Closeable {
+
+  private static final int HEADER_SIZE = 16;
+  // committed offset in the high half, write offset in the low half
+  private static final int HEADER_POSITION = 0;
+  private final FileChannel channel;
+  private final MappedByteBuffer buffer;
+  private final boolean forceOnAppend;
+  private final Object syncLock = new Object();
+  private int pendingCount;
+  // Header updates made so far and the number known to be on disk, the latter guarded by syncLock
+  private long updates;
+  private long synced;
+
+  public AppendLog(final Path path, final int capacity, final boolean forceOnAppend) throws IOException {
+
+    if (path.getParent() != null) {
+      Files.createDirectories(path.getParent());
+    }
+    this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                    StandardOpenOption.WRITE);
+    this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    this.forceOnAppend = forceOnAppend;
+    if (written() < HEADER_SIZE) {
+      header(HEADER_SIZE, HEADER_SIZE);
+    }
+    for (int offset = committed(); offset < written(); offset += Integer.BYTES + buffer.getInt(offset)) {
+      pendingCount++;
+    }
+  }
+
+  /**
+   * @return false when the record does not fit even after reclaiming committed space
+   */
+  public boolean append(final byte[] record) {
+
+    final long update;
+    synchronized (this) {
+      final int size = Integer.BYTES + record.length;
+      if (written() + size > buffer.capacity()) {
+        compact();
+        if (written() + size > buffer.capacity()) {
+          return false;
+        }
+      }
+      final int offset = written();
+      buffer.putInt(offset, record.length);
+      buffer.put(offset + Integer.BYTES, record, 0, record.length);
+      header(committed(), offset + size);
+      pendingCount++;
+      update = ++updates;
+    }
+    if (forceOnAppend) {
+      sync(update);
+    }
+    return true;
+  }
+
+  public synchronized List<byte[]> pending(final int max) {
+
+    final List<byte[]> records = new ArrayList<>(Math.min(max, pendingCount));
+    int offset = committed();
+    while (records.size() < max && offset < written()) {
+      final byte[] record = new byte[buffer.getInt(offset)];
+      buffer.get(offset + Integer.BYTES, record, 0, record.length);
+      records.add(record);
+      offset += Integer.BYTES + record.length;
+    }
+    return records;
+  }
+
+  // Records are committed by count, so a compaction between pending() and commit() does not matter
+  public void commit(final int count) {
+
+    final long update;
+    synchronized (this) {
+      int offset = committed();
+      for (int i = 0; i < count && offset < written(); i++) {
+        offset += Integer.BYTES + buffer.getInt(offset);
+        pendingCount--;
+      }
+      if (offset == written()) {
+        header(HEADER_SIZE, HEADER_SIZE);
+      } else {
+        header(offset, written());
+      }
+      update = ++updates;
+    }
+    if (forceOnAppend) {
+      sync(update);
+    }
+  }
+
+  public synchronized int size() {
+
+    return pendingCount;
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+
+    buffer.force();
+    channel.close();
+  }
+
+  // Returns once the given update is on disk, forcing at most once for everything queued behind a running force
+  private void sync(final long update) {
+
+    synchronized (syncLock) {
+      if (synced >= update) {
+        return;
+      }
+      final long target;
+      synchronized (this) {
+        target = updates;
+      }
+      buffer.force();
+      synced = target;
+    }
+  }
+
+  private void compact() {
+
+    final int committed = committed();
+    final int length = written() - committed;
+    // Only move records into free space, so a crash halfway through still leaves the original copy intact
+    if (committed - HEADER_SIZE < length || committed == HEADER_SIZE) {
+      return;
+    }
+    final byte[] pendingBytes = new byte[length];
+    buffer.get(committed, pendingBytes, 0, length);
+    buffer.put(HEADER_SIZE, pendingBytes, 0, length);
+    // The moved copy must be on disk before the header points at it
+    buffer.force();
+    header(HEADER_SIZE, HEADER_SIZE + length);
+    buffer.force();
+  }
+
+  private void header(final int committed, final int written) {
+
+    buffer.putLong(HEADER_POSITION, (long) committed << Integer.SIZE | written);
+  }
+
+  private int committed() {
+
+    return (int) (buffer.getLong(HEADER_POSITION) >>> Integer.SIZE);
+  }
+
+  private int written() {
+
+    return (int) buffer.getLong(HEADER_POSITION);
+  }
+}
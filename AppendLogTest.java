@@ -0,0 +1,117 @@
+package com.billdesk.banks.support;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class AppendLogTest {
+
+  private static final int CAPACITY = 1024;
+  @TempDir
+  Path tempDir;
+
+  @Test
+  @SneakyThrows
+  void testAppendAndCommit() {
+
+    try (AppendLog appendLog = new AppendLog(tempDir.resolve("write-behind.log"), CAPACITY, false)) {
+      appendLog.append(bytes("first"));
+      appendLog.append(bytes("second"));
+      final List<byte[]> pending = appendLog.pending(10);
+      Assertions.assertEquals(2, pending.size());
+      Assertions.assertEquals("first", new String(pending.get(0), StandardCharsets.UTF_8));
+      appendLog.commit(1);
+      Assertions.assertEquals(1, appendLog.size());
+      Assertions.assertEquals("second", new String(appendLog.pending(10).get(0), StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void testPendingRecordsSurviveReopen() {
+
+    final Path path = tempDir.resolve("write-behind.log");
+    try (AppendLog appendLog = new AppendLog(path, CAPACITY, true)) {
+      appendLog.append(bytes("first"));
+      appendLog.append(bytes("second"));
+      appendLog.commit(1);
+    }
+    try (AppendLog appendLog = new AppendLog(path, CAPACITY, true)) {
+      Assertions.assertEquals(1, appendLog.size());
+      Assertions.assertEquals("second", new String(appendLog.pending(10).get(0), StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void testFullLogRejectsAppendUntilCommitted() {
+
+    try (AppendLog appendLog = new AppendLog(tempDir.resolve("write-behind.log"), CAPACITY, false)) {
+      final byte[] record = new byte[200];
+      int appended = 0;
+      while (appendLog.append(record)) {
+        appended++;
+      }
+      Assertions.assertEquals(appended, appendLog.size());
+      appendLog.commit(appended);
+      Assertions.assertTrue(appendLog.append(record));
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void testCompactionKeepsPendingRecordsAcrossReopen() {
+
+    final Path path = tempDir.resolve("write-behind.log");
+    try (AppendLog appendLog = new AppendLog(path, CAPACITY, false)) {
+      for (int i = 0; i < 4; i++) {
+        Assertions.assertTrue(appendLog.append(new byte[200]));
+      }
+      appendLog.commit(3);
+      // Only fits once the committed records are reclaimed
+      Assertions.assertTrue(appendLog.append(bytes("last")));
+    }
+    try (AppendLog appendLog = new AppendLog(path, CAPACITY, false)) {
+      final List<byte[]> pending = appendLog.pending(10);
+      Assertions.assertEquals(2, pending.size());
+      Assertions.assertEquals(200, pending.get(0).length);
+      Assertions.assertEquals("last", new String(pending.get(1), StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void testConcurrentForcedAppendsSurviveReopen() {
+
+    final Path path = tempDir.resolve("write-behind.log");
+    try (AppendLog appendLog = new AppendLog(path, CAPACITY * 4, true)) {
+      final ExecutorService executor = Executors.newFixedThreadPool(4);
+      final List<Future<Boolean>> appends = new ArrayList<>();
+      for (int i = 0; i < 40; i++) {
+        final byte[] record = bytes("record-" + i);
+        appends.add(executor.submit(() -> appendLog.append(record)));
+      }
+      for (final Future<Boolean> append : appends) {
+        Assertions.assertTrue(append.get());
+      }
+      executor.shutdown();
+    }
+    try (AppendLog appendLog = new AppendLog(path, CAPACITY * 4, true)) {
+      Assertions.assertEquals(40, appendLog.size());
+    }
+  }
+
+  private static byte[] bytes(final String value) {
+
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
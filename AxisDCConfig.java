@@ -0,0 +1,18 @@
+package com.billdesk.banks.axis.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "axis.dc")
+public class AxisDCConfig {
+
+  private String url;
+  private String userId;
+  private String password;
+  // TransUnion does not return an expiry with the token, so it is reused for this long
+  private long tokenTtlSeconds = 1800;
+  private long timeoutMillis = 10000;
+}
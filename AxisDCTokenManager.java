@@ -0,0 +1,205 @@
+package com.billdesk.banks.axis.impl;
+
+import com.billdesk.banks.axis.config.AxisDCConfig;
+import com.billdesk.banks.support.HttpClientFactory;
+import com.billdesk.banks.support.SoapResponseReader;
+import com.billdesk.core.enums.FlexErrorCode;
+import com.billdesk.core.exception.FlexException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Reuses the TransUnion DC session token from AuthenticateXMLString across Axis requests until the configured TTL
+ * elapses or a call reports an authentication failure. Only one AuthenticateXMLString call is made at a time, other
+ * callers wait for its result.
+ */
+@Component
+@Log4j2
+public class AxisDCTokenManager {
+
+  private static final String POOL_NAME = "axis-dc";
+  private static final String AUTHENTICATE_ACTION = "http://tempuri.org/IExternalSolutionExecution/AuthenticateXMLString";
+  private static final String AUTHENTICATE_ENVELOPE =
+    "<SOAP-ENV:Envelope xmlns:SOAP-ENV=\"http://schemas.xmlsoap.org/soap/envelope/\"><SOAP-ENV:Header/><SOAP-ENV:Body>"
+    + "<ns2:AuthenticateXMLString xmlns:ns2=\"http://tempuri.org/\"><ns2:request>%s</ns2:request>"
+    + "</ns2:AuthenticateXMLString></SOAP-ENV:Body></SOAP-ENV:Envelope>";
+  private static final String AUTHENTICATE_REQUEST =
+    "<DCRequest xmlns=\"http://transunion.com/dc/extsvc\"><Authentication type=\"Token\"><UserId>%s</UserId>"
+    + "<Password>%s</Password></Authentication></DCRequest>";
+  private static final String TOKEN = "Token";
+  private static final Set<String> TOKEN_FIELDS = Set.of(TOKEN);
+  private static final Set<String> NESTED_DOCUMENTS = Set.of("AuthenticateXMLStringResult");
+  private final AtomicReference<CachedToken> token = new AtomicReference<>();
+  private final AtomicReference<CompletableFuture<CachedToken>> inFlight = new AtomicReference<>();
+  @Autowired
+  private AxisDCConfig axisDCConfig;
+  @Autowired
+  private HttpClientFactory httpClientFactory;
+  @Autowired
+  private MeterRegistry meterRegistry;
+  private WebClient webClient;
+  private Counter hits;
+  private Counter misses;
+  private Counter refreshes;
+
+  @PostConstruct
+  public void init() {
+
+    webClient = WebClient.builder()
+                         .clientConnector(new ReactorClientHttpConnector(httpClientFactory.create(POOL_NAME)))
+                         .build();
+    hits = Counter.builder("axis.dc.token").tag("result", "hit").register(meterRegistry);
+    misses = Counter.builder("axis.dc.token").tag("result", "miss").register(meterRegistry);
+    refreshes = Counter.builder("axis.dc.token").tag("result", "refresh").register(meterRegistry);
+  }
+
+  public String getToken() {
+
+    final CachedToken cachedToken = token.get();
+    if (cachedToken != null && !cachedToken.isExpired()) {
+      hits.increment();
+      return cachedToken.value;
+    }
+    misses.increment();
+    return refresh().value;
+  }
+
+  /**
+   * Runs the call with the cached token. If the response shows the token was rejected, the token is dropped and the
+   * call is retried once with a fresh one.
+   */
+  public <T> T withToken(final Function<String, T> call, final Predicate<T> authenticationFailed) {
+
+    final String current = getToken();
+    final T response = call.apply(current);
+    if (!authenticationFailed.test(response)) {
+      return response;
+    }
+    log.info("Axis DC token rejected, authenticating again");
+    invalidate(current);
+    return call.apply(getToken());
+  }
+
+  public void invalidate(final String rejected) {
+
+    final CachedToken cachedToken = token.get();
+    if (cachedToken != null && cachedToken.value.equals(rejected)) {
+      token.compareAndSet(cachedToken, null);
+    }
+  }
+
+  private CachedToken refresh() {
+
+    final CompletableFuture<CachedToken> created = new CompletableFuture<>();
+    if (!inFlight.compareAndSet(null, created)) {
+      final CompletableFuture<CachedToken> existing = inFlight.get();
+      if (existing != null) {
+        return await(existing);
+      }
+      return refresh();
+    }
+    try {
+      final CachedToken cachedToken =
+        new CachedToken(authenticate(),
+                        System.nanoTime() + TimeUnit.SECONDS.toNanos(axisDCConfig.getTokenTtlSeconds()));
+      token.set(cachedToken);
+      refreshes.increment();
+      created.complete(cachedToken);
+      return cachedToken;
+    } catch (final RuntimeException e) {
+      created.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.compareAndSet(created, null);
+    }
+  }
+
+  String authenticate() {
+
+    final String response;
+    try {
+      response = webClient.post()
+                          .uri(axisDCConfig.getUrl())
+                          .contentType(MediaType.TEXT_XML)
+                          .header("SOAPAction", AUTHENTICATE_ACTION)
+                          .bodyValue(authenticateEnvelope(axisDCConfig.getUserId(), axisDCConfig.getPassword()))
+                          .retrieve()
+                          .bodyToMono(String.class)
+                          .block(Duration.ofMillis(axisDCConfig.getTimeoutMillis()));
+    } catch (final Exception e) {
+      log.error("Encountered exception while authenticating with Axis DC. Details - {}", e.getMessage());
+      throw new FlexException(FlexErrorCode.GENERIC_ERROR);
+    }
+    final String dcToken = response == null
+      ? null
+      : SoapResponseReader.read(response, TOKEN_FIELDS, NESTED_DOCUMENTS).get(TOKEN);
+    if (StringUtils.isBlank(dcToken)) {
+      log.error("Axis DC authentication did not return a token");
+      throw new FlexException(FlexErrorCode.GENERIC_ERROR);
+    }
+    return dcToken;
+  }
+
+  // The credentials are escaped into the DCRequest document, which then travels as escaped text inside the SOAP
+  // request element
+  static String authenticateEnvelope(final String userId, final String password) {
+
+    final String request = String.format(AUTHENTICATE_REQUEST, escape(userId), escape(password));
+    return String.format(AUTHENTICATE_ENVELOPE, escape(request));
+  }
+
+  private static String escape(final String text) {
+
+    return text.replace("&", "&amp;")
+               .replace("<", "&lt;")
+               .replace(">", "&gt;")
+               .replace("\"", "&quot;")
+               .replace("'", "&apos;");
+  }
+
+  private static CachedToken await(final CompletableFuture<CachedToken> future) {
+
+    try {
+      return future.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof FlexException) {
+        throw (FlexException) e.getCause();
+      }
+      throw new FlexException(FlexErrorCode.GENERIC_ERROR);
+    }
+  }
+
+  private static class CachedToken {
+
+    private final String value;
+    private final long expiresAtNanos;
+
+    CachedToken(final String value, final long expiresAtNanos) {
+
+      this.value = value;
+      this.expiresAtNanos = expiresAtNanos;
+    }
+
+    boolean isExpired() {
+
+      return System.nanoTime() - expiresAtNanos >= 0;
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package com.billdesk.banks.axis.impl;
+
+import com.billdesk.banks.AbstractTest;
+import com.billdesk.banks.axis.config.AxisDCConfig;
+import com.billdesk.banks.support.HttpClientFactory;
+import com.billdesk.core.enums.FlexErrorCode;
+import com.billdesk.core.exception.FlexException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+import reactor.netty.http.client.HttpClient;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.StringReader;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AxisDCTokenManagerTest extends AbstractTest {
+
+  private static final String DC_TOKEN = "32b3d392-be00-4fab-b64b-ee19904ad61b";
+  private static final String NEW_DC_TOKEN = "5f0c7f52-3c1d-4b43-a0f5-4d2f0ab0c9e1";
+  @Spy
+  private AxisDCConfig axisDCConfig = new AxisDCConfig();
+  @Spy
+  private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  @Mock
+  private HttpClientFactory httpClientFactory;
+  @Spy
+  @InjectMocks
+  private AxisDCTokenManager tokenManager;
+
+  @BeforeEach
+  void setUp() {
+
+    when(httpClientFactory.create(anyString())).thenReturn(HttpClient.create());
+    tokenManager.init();
+  }
+
+  @Test
+  void testTokenIsCached() {
+
+    doReturn(DC_TOKEN).when(tokenManager).authenticate();
+    Assertions.assertEquals(DC_TOKEN, tokenManager.getToken());
+    Assertions.assertEquals(DC_TOKEN, tokenManager.getToken());
+    verify(tokenManager, times(1)).authenticate();
+  }
+
+  @Test
+  void testTokenExpiresAfterTtl() {
+
+    axisDCConfig.setTokenTtlSeconds(0);
+    doReturn(DC_TOKEN).when(tokenManager).authenticate();
+    tokenManager.getToken();
+    tokenManager.getToken();
+    verify(tokenManager, times(2)).authenticate();
+  }
+
+  @Test
+  void testAuthenticationFailureRetriesWithNewToken() {
+
+    doReturn(DC_TOKEN, NEW_DC_TOKEN).when(tokenManager).authenticate();
+    final String response = tokenManager.withToken(dcToken -> DC_TOKEN.equals(dcToken) ? "Failure" : "Success",
+                                                   "Failure"::equals);
+    Assertions.assertEquals("Success", response);
+    Assertions.assertEquals(NEW_DC_TOKEN, tokenManager.getToken());
+    verify(tokenManager, times(2)).authenticate();
+  }
+
+  @Test
+  void testCredentialsAreEscaped() throws Exception {
+
+    final String password = "p&ss<wo>rd\"'";
+    final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+    factory.setNamespaceAware(true);
+    final Document envelope = factory.newDocumentBuilder().parse(new InputSource(
+      new StringReader(AxisDCTokenManager.authenticateEnvelope("bill&desk", password))));
+    final String request = envelope.getElementsByTagNameNS("http://tempuri.org/", "request").item(0).getTextContent();
+    final Document dcRequest = factory.newDocumentBuilder().parse(new InputSource(new StringReader(request)));
+    Assertions.assertEquals("bill&desk", dcRequest.getElementsByTagName("UserId").item(0).getTextContent());
+    Assertions.assertEquals(password, dcRequest.getElementsByTagName("Password").item(0).getTextContent());
+  }
+
+  @Test
+  void testAuthenticationError() {
+
+    doThrow(new FlexException(FlexErrorCode.GENERIC_ERROR)).when(tokenManager).authenticate();
+    Assertions.assertThrows(FlexException.class, () -> tokenManager.getToken());
+  }
+}
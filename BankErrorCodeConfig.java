@@ -0,0 +1,25 @@
+package com.billdesk.banks.config;
+
+import com.billdesk.core.enums.API;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "bank-error-codes")
+public class BankErrorCodeConfig {
+
+  // Failure codes each bank is known to return per API, keyed by the bank name used by the client (icici, sbi, hdfc,
+  // axis). An entry may be a single code or an inclusive range of equal width such as A001..A167 or 701400..701490.
+  private Map<String, Map<API, List<String>>> banks = new HashMap<>(
+    Map.of("sbi", new EnumMap<>(Map.of(API.ORDER_CONFIRMATION, List.of("1111"))),
+           "hdfc", new EnumMap<>(Map.of(API.ORDER_CONFIRMATION, List.of("A001..A167"))),
+           "icici", new EnumMap<>(Map.of(API.ORDER_CONFIRMATION, List.of("701400..701490", "8001..8009"))),
+           "axis", new EnumMap<>(Map.of(API.ORDER_CONFIRMATION, List.of("002..012")))));
+}
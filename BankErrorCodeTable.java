@@ -0,0 +1,181 @@
+package com.billdesk.banks.support;
+
+import com.billdesk.core.enums.API;
+import com.billdesk.core.enums.FlexErrorCode;
+import com.billdesk.core.exception.FlexException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Immutable bank error code to FlexErrorCode table for one bank, one section per API. Each code is resolved once when
+ * the table is built; a lookup then creates a fresh exception through {@link FlexExceptions}, without a stack trace for
+ * the expected outcomes a bank decline maps to. Exceptions are not shared between requests, since Reactor and callers
+ * add suppressed exceptions and causes to what they throw. Numeric codes (701400, 0000, 002) are kept as primitive
+ * keys, length included so leading zeros still tell codes apart, and found by binary search; any other code falls
+ * back to a hash map.
+ */
+public final class BankErrorCodeTable {
+
+  private static final int MAX_NUMERIC_LENGTH = 17;
+  private static final int LENGTH_BITS = 5;
+  private static final int MAX_RANGE_SIZE = 10_000;
+  private static final String RANGE_SEPARATOR = "..";
+  private final Map<API, Section> sections;
+
+  private BankErrorCodeTable(final Map<API, Section> sections) {
+
+    this.sections = sections;
+  }
+
+  /**
+   * @param resolver maps a bank code to its FlexErrorCode, or to null to leave the code out of the table
+   */
+  public static BankErrorCodeTable build(final Map<API, List<String>> codes,
+                                         final BiFunction<String, API, FlexErrorCode> resolver) {
+
+    final Map<API, Section> sections = new EnumMap<>(API.class);
+    for (final Map.Entry<API, List<String>> entry : codes.entrySet()) {
+      final Map<String, FlexErrorCode> errorCodes = new HashMap<>();
+      for (final String spec : entry.getValue()) {
+        for (final String code : expand(spec)) {
+          errorCodes.computeIfAbsent(code, key -> resolver.apply(key, entry.getKey()));
+        }
+      }
+      sections.put(entry.getKey(), new Section(errorCodes));
+    }
+    return new BankErrorCodeTable(sections);
+  }
+
+  /**
+   * @return a new exception for the code, or null if the code is not in the table
+   */
+  public FlexException get(final API api, final String code) {
+
+    if (code == null) {
+      return null;
+    }
+    final Section section = sections.get(api);
+    final FlexErrorCode errorCode = section == null ? null : section.get(code);
+    return errorCode == null ? null : FlexExceptions.of(errorCode, api);
+  }
+
+  public int size() {
+
+    int size = 0;
+    for (final Section section : sections.values()) {
+      size += section.size();
+    }
+    return size;
+  }
+
+  static List<String> expand(final String spec) {
+
+    final String trimmed = spec.trim();
+    final int separator = trimmed.indexOf(RANGE_SEPARATOR);
+    if (separator < 0) {
+      return Collections.singletonList(trimmed);
+    }
+    final String from = trimmed.substring(0, separator).trim();
+    final String to = trimmed.substring(separator + RANGE_SEPARATOR.length()).trim();
+    final int digits = from.length() - prefixLength(from);
+    final String prefix = from.substring(0, from.length() - digits);
+    if (digits == 0 || from.length() != to.length() || !to.startsWith(prefix)
+        || prefixLength(to) != prefix.length()) {
+      throw new IllegalArgumentException("Invalid error code range " + spec);
+    }
+    final long start = Long.parseLong(from.substring(prefix.length()));
+    final long end = Long.parseLong(to.substring(prefix.length()));
+    if (end < start || end - start >= MAX_RANGE_SIZE) {
+      throw new IllegalArgumentException("Invalid error code range " + spec);
+    }
+    final List<String> codes = new ArrayList<>((int) (end - start + 1));
+    final StringBuilder code = new StringBuilder(from.length());
+    for (long value = start; value <= end; value++) {
+      code.setLength(0);
+      code.append(prefix);
+      final String number = Long.toString(value);
+      for (int i = number.length(); i < digits; i++) {
+        code.append('0');
+      }
+      codes.add(code.append(number).toString());
+    }
+    return codes;
+  }
+
+  // Length of the part of the code before its trailing digits
+  private static int prefixLength(final String code) {
+
+    int i = code.length();
+    while (i > 0 && code.charAt(i - 1) >= '0' && code.charAt(i - 1) <= '9') {
+      i--;
+    }
+    return i;
+  }
+
+  // Numeric code packed with its length, or -1 if the code is not all ASCII digits or too long
+  private static long numericKey(final String code) {
+
+    final int length = code.length();
+    if (length == 0 || length > MAX_NUMERIC_LENGTH) {
+      return -1;
+    }
+    long value = 0;
+    for (int i = 0; i < length; i++) {
+      final char c = code.charAt(i);
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      value = value * 10 + (c - '0');
+    }
+    return value << LENGTH_BITS | length;
+  }
+
+  private static final class Section {
+
+    private final long[] keys;
+    private final FlexErrorCode[] values;
+    private final Map<String, FlexErrorCode> fallback;
+
+    Section(final Map<String, FlexErrorCode> errorCodes) {
+
+      final Map<Long, FlexErrorCode> numeric = new HashMap<>();
+      final Map<String, FlexErrorCode> other = new HashMap<>();
+      for (final Map.Entry<String, FlexErrorCode> entry : errorCodes.entrySet()) {
+        final long key = numericKey(entry.getKey());
+        if (key >= 0) {
+          numeric.put(key, entry.getValue());
+        } else {
+          other.put(entry.getKey(), entry.getValue());
+        }
+      }
+      keys = numeric.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+      values = new FlexErrorCode[keys.length];
+      for (int i = 0; i < keys.length; i++) {
+        values[i] = numeric.get(keys[i]);
+      }
+      fallback = Map.copyOf(other);
+    }
+
+    FlexErrorCode get(final String code) {
+
+      final long key = numericKey(code);
+      if (key < 0) {
+        return fallback.get(code);
+      }
+      final int index = Arrays.binarySearch(keys, key);
+      return index >= 0 ? values[index] : null;
+    }
+
+    int size() {
+
+      return keys.length + fallback.size();
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package com.billdesk.banks.support;
+
+import com.billdesk.core.enums.API;
+import com.billdesk.core.enums.FlexErrorCode;
+import com.billdesk.core.exception.FlexException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BankErrorCodeTableTest {
+
+  @Test
+  void testLookup() {
+
+    final AtomicInteger created = new AtomicInteger();
+    final BankErrorCodeTable table = BankErrorCodeTable.build(
+      Map.of(API.ORDER_CONFIRMATION, List.of("A001..A167", "701400..701490", "002..012", "0000", "1111", "E-1")),
+      (code, api) -> {
+        created.incrementAndGet();
+        return FlexErrorCode.INVALID_OTP;
+      });
+    Assertions.assertEquals(167 + 91 + 11 + 3, table.size());
+    Assertions.assertEquals(table.size(), created.get());
+    Assertions.assertNotNull(table.get(API.ORDER_CONFIRMATION, "A001"));
+    Assertions.assertNotNull(table.get(API.ORDER_CONFIRMATION, "A167"));
+    Assertions.assertNotNull(table.get(API.ORDER_CONFIRMATION, "701490"));
+    Assertions.assertNotNull(table.get(API.ORDER_CONFIRMATION, "002"));
+    Assertions.assertNotNull(table.get(API.ORDER_CONFIRMATION, "E-1"));
+    Assertions.assertNull(table.get(API.ORDER_CONFIRMATION, "2"));
+    Assertions.assertNull(table.get(API.ORDER_CONFIRMATION, "00"));
+    Assertions.assertNull(table.get(API.ORDER_CONFIRMATION, "A168"));
+    Assertions.assertNull(table.get(API.ORDER_CONFIRMATION, ""));
+    Assertions.assertNull(table.get(API.ORDER_CONFIRMATION, null));
+  }
+
+  @Test
+  void testEachLookupCreatesItsOwnStacklessException() {
+
+    final BankErrorCodeTable table = BankErrorCodeTable.build(
+      Map.of(API.ORDER_CONFIRMATION, List.of("1111")), (code, api) -> FlexErrorCode.INVALID_OTP);
+    final FlexException exception = table.get(API.ORDER_CONFIRMATION, "1111");
+    exception.addSuppressed(new IllegalStateException("#block terminated with an error"));
+    final FlexException next = table.get(API.ORDER_CONFIRMATION, "1111");
+    Assertions.assertNotSame(exception, next);
+    Assertions.assertEquals(0, next.getSuppressed().length);
+    Assertions.assertEquals(0, next.getStackTrace().length);
+  }
+
+  @Test
+  void testUnresolvedCodesAreLeftOut() {
+
+    final BankErrorCodeTable table = BankErrorCodeTable.build(
+      Map.of(API.ORDER_CONFIRMATION, List.of("8001..8009")),
+      (code, api) -> "8005".equals(code) ? null : FlexErrorCode.INVALID_OTP);
+    Assertions.assertEquals(8, table.size());
+    Assertions.assertNull(table.get(API.ORDER_CONFIRMATION, "8005"));
+    Assertions.assertNotNull(table.get(API.ORDER_CONFIRMATION, "8004"));
+  }
+
+  @Test
+  void testInvalidRangeFails() {
+
+    Assertions.assertThrows(IllegalArgumentException.class, () -> BankErrorCodeTable.expand("A001..B010"));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> BankErrorCodeTable.expand("010..001"));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> BankErrorCodeTable.expand("1..100"));
+    Assertions.assertEquals(List.of("A009", "A010"), BankErrorCodeTable.expand("A009..A010"));
+  }
+}
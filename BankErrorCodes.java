@@ -0,0 +1,72 @@
+package com.billdesk.banks.support;
+
+import com.billdesk.banks.config.BankErrorCodeConfig;
+import com.billdesk.core.enums.API;
+import com.billdesk.core.enums.FlexErrorCode;
+import com.billdesk.core.exception.FlexException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Maps a bank's failure code to the FlexErrorCode FlexExceptionFactory resolves it to, from per bank tables preloaded
+ * at startup with the codes in {@link BankErrorCodeConfig}. Known codes cost a table lookup and a stackless exception;
+ * unknown codes still go to FlexExceptionFactory and are counted under bank.error-code.unmapped so they can be added
+ * to the configuration. A code is only tabled when the factory's exception for it is a plain FlexException a table
+ * entry reproduces exactly; any other is left to the factory on every call, so no state the factory sets is lost.
+ */
+@Component
+@Log4j2
+public class BankErrorCodes {
+
+  @Autowired
+  private BankErrorCodeConfig bankErrorCodeConfig;
+  @Autowired
+  private MeterRegistry meterRegistry;
+  private Map<String, BankErrorCodeTable> tables;
+
+  @PostConstruct
+  public void init() {
+
+    final Map<String, BankErrorCodeTable> built = new HashMap<>();
+    for (final Map.Entry<String, Map<API, List<String>>> bank : bankErrorCodeConfig.getBanks().entrySet()) {
+      final BankErrorCodeTable table = BankErrorCodeTable.build(bank.getValue(), BankErrorCodes::resolve);
+      built.put(bank.getKey(), table);
+      log.info("Preloaded {} error codes for bank {}", table.size(), bank.getKey());
+    }
+    tables = Map.copyOf(built);
+  }
+
+  public FlexException get(final String bank, final String errorCode, final API api) {
+
+    final BankErrorCodeTable table = tables.get(bank);
+    final FlexException exception = table == null ? null : table.get(api, errorCode);
+    if (exception != null) {
+      return exception;
+    }
+    meterRegistry.counter("bank.error-code.unmapped", "bank", bank, "api", api.name()).increment();
+    return FlexExceptionFactory.get(errorCode, api);
+  }
+
+  // Null leaves the code out of the table
+  private static FlexErrorCode resolve(final String errorCode, final API api) {
+
+    final FlexException resolved = FlexExceptionFactory.get(errorCode, api);
+    final FlexException tabled = new FlexException(resolved.getErrorCode(), api);
+    if (resolved.getClass() != FlexException.class || resolved.getCause() != null
+        || !Objects.equals(resolved.getMessage(), tabled.getMessage())
+        || !Objects.equals(resolved.toString(), tabled.toString())) {
+      log.debug("Error code {} for {} is left to FlexExceptionFactory, its exception carries more than the code",
+               errorCode, api);
+      return null;
+    }
+    return resolved.getErrorCode();
+  }
+}
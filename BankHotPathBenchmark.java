@@ -0,0 +1,228 @@
+package com.billdesk.banks.benchmark;
+
+import com.billdesk.banks.icici.config.ICICIConfig;
+import com.billdesk.banks.icici.impl.ICICIClient;
+import com.billdesk.banks.sbi.eligibility.CustomerBlockRequest;
+import com.billdesk.banks.sbi.eligibility.ObjectFactory;
+import com.billdesk.banks.sbi.translator.BDToSBIBookLoanRequestTranslator;
+import com.billdesk.banks.support.CipherPool;
+import com.billdesk.banks.support.HttpClientFactory;
+import com.billdesk.banks.support.JaxbContextRegistry;
+import com.billdesk.core.model.BookLoanRequest;
+import com.billdesk.core.model.BookLoanResponse;
+import com.billdesk.core.model.EligibilityRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.util.ResourceUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+
+import javax.net.ssl.TrustManagerFactory;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.Marshaller;
+import javax.xml.transform.stream.StreamResult;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.KeyStore;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Per-request costs of the bank integrations. Run with
+ * {@code java -cp ... com.billdesk.banks.benchmark.BankHotPathBenchmark [result-file]}; results are written as JSON
+ * (default jmh-result.json) so runs from different releases can be diffed. The gc profiler is attached, compare
+ * gc.alloc.rate.norm (bytes per operation) for allocation changes such as iciciHeadersFromProperties against
+ * iciciDefaultHeaders.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BankHotPathBenchmark {
+
+  private static final ObjectFactory objectFactory = new ObjectFactory();
+  private ConfigurableApplicationContext context;
+  private ICICIClient iciciClient;
+  private String keyStorePath;
+  private char[] keyStorePass;
+  private HttpClientFactory httpClientFactory;
+  private BDToSBIBookLoanRequestTranslator translator;
+  private CipherPool sbiCipherPool;
+  private ObjectMapper objectMapper;
+  private JAXBContext jaxbContext;
+  private JaxbContextRegistry jaxbContextRegistry;
+  private BookLoanRequest bookLoanRequest;
+  private EligibilityRequest eligibilityRequest;
+  private BookLoanResponse bookLoanResponse;
+  private CustomerBlockRequest customerBlockRequest;
+
+  public static void main(final String[] args) throws Exception {
+
+    new Runner(new OptionsBuilder().include(BankHotPathBenchmark.class.getSimpleName())
+                                   .addProfiler(GCProfiler.class)
+                                   .resultFormat(ResultFormatType.JSON)
+                                   .result(args.length > 0 ? args[0] : "jmh-result.json")
+                                   .build()).run();
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+
+    context = BenchmarkApplication.start();
+    iciciClient = context.getBean(ICICIClient.class);
+    final ICICIConfig iciciConfig = context.getBean(ICICIConfig.class);
+    // Without an ICICI keystore in the benchmark profile, the JDK trust store stands in for it
+    if (StringUtils.isBlank(iciciConfig.getKeyStorePath())) {
+      keyStorePath = Paths.get(System.getProperty("java.home"), "lib", "security", "cacerts").toString();
+      keyStorePass = "changeit".toCharArray();
+    } else {
+      keyStorePath = iciciConfig.getKeyStorePath();
+      keyStorePass = iciciConfig.getKeyStorePass().toCharArray();
+    }
+    translator = context.getBean(BDToSBIBookLoanRequestTranslator.class);
+    sbiCipherPool = context.getBean("sbiCipherPool", CipherPool.class);
+    objectMapper = context.getBean(ObjectMapper.class);
+    httpClientFactory = context.getBean(HttpClientFactory.class);
+    jaxbContext = JAXBContext.newInstance(ObjectFactory.class);
+    jaxbContextRegistry = context.getBean(JaxbContextRegistry.class);
+    bookLoanRequest = BenchmarkFixtures.bookLoanRequest();
+    eligibilityRequest = BenchmarkFixtures.eligibilityRequest();
+    bookLoanResponse = BenchmarkFixtures.bookLoanResponse(bookLoanRequest);
+    customerBlockRequest = translator.translate(bookLoanRequest);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+
+    context.close();
+  }
+
+  // What every request pays now, a read of the client built once per bank
+  @Benchmark
+  public WebClient iciciGetConnection() {
+
+    return iciciClient.getConnection();
+  }
+
+  // What every request paid before clients were cached: the keystore load, trust manager and SslContext build and a
+  // new WebClient, as ICICIClient.getConnection did on each call, kept as the baseline for iciciGetConnection
+  @Benchmark
+  public WebClient iciciConnectionPerRequest() throws Exception {
+
+    final KeyStore trustStore = KeyStore.getInstance("JKS");
+    try (InputStream inputStream = Files.newInputStream(ResourceUtils.getFile(keyStorePath).toPath())) {
+      trustStore.load(inputStream, keyStorePass);
+    }
+    final TrustManagerFactory trustManagerFactory =
+      TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+    trustManagerFactory.init(trustStore);
+    final SslContext sslContext =
+      SslContextBuilder.forClient().protocols("TLS").trustManager(trustManagerFactory).build();
+    final HttpClient httpClient = HttpClient.create().secure(spec -> spec.sslContext(sslContext));
+    return WebClient.builder()
+                    .clientConnector(new ReactorClientHttpConnector(httpClient))
+                    .build();
+  }
+
+  // Cost of building a bank's pooled client, now paid once per bank rather than per request. The pool is disposed
+  // again so the run does not accumulate connection providers.
+  @Benchmark
+  public HttpClient createPooledHttpClient() {
+
+    final HttpClient httpClient = httpClientFactory.create("benchmark");
+    httpClient.configuration().connectionProvider().dispose();
+    return httpClient;
+  }
+
+  // Per request header construction before default headers were precomputed, kept as the baseline
+  @Benchmark
+  public Map<String, String> iciciHeadersFromProperties() {
+
+    return iciciClient.getHeaders()
+                      .entrySet()
+                      .stream()
+                      .collect(Collectors.toMap(e -> String.valueOf(e.getKey()),
+                                                e -> String.valueOf(e.getValue()),
+                                                (prev, next) -> next,
+                                                HashMap::new));
+  }
+
+  // What sendAsync does now, copy the precomputed headers into the outgoing request
+  @Benchmark
+  public HttpHeaders iciciDefaultHeaders() {
+
+    final HttpHeaders headers = new HttpHeaders();
+    headers.addAll(iciciClient.getDefaultHeaders());
+    return headers;
+  }
+
+  @Benchmark
+  public CustomerBlockRequest sbiTranslate() {
+
+    return translator.translate(bookLoanRequest);
+  }
+
+  @Benchmark
+  public String[] sbiEncryptCardDetails() {
+
+    return sbiCipherPool.encrypt(BenchmarkFixtures.CARD_NUMBER, "223130");
+  }
+
+  @Benchmark
+  public String sbiMarshalCustomerBlockRequest() throws Exception {
+
+    final StringWriter writer = new StringWriter();
+    final Marshaller marshaller = jaxbContext.createMarshaller();
+    marshaller.marshal(objectFactory.createCustomerBlockRequest(customerBlockRequest), writer);
+    return writer.toString();
+  }
+
+  @Benchmark
+  public String sbiMarshalCustomerBlockRequestPooled() {
+
+    final StringWriter writer = new StringWriter();
+    jaxbContextRegistry.marshal(ObjectFactory.class,
+                                objectFactory.createCustomerBlockRequest(customerBlockRequest),
+                                new StreamResult(writer));
+    return writer.toString();
+  }
+
+  @Benchmark
+  public String serializeEligibilityRequest() throws Exception {
+
+    return objectMapper.writeValueAsString(eligibilityRequest);
+  }
+
+  @Benchmark
+  public String serializeBookLoanResponse() throws Exception {
+
+    return objectMapper.writeValueAsString(bookLoanResponse);
+  }
+}
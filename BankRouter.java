@@ -0,0 +1,79 @@
+package com.billdesk.banks.support;
+
+import com.billdesk.core.enums.FlexErrorCode;
+import com.billdesk.core.exception.FlexException;
+import com.billdesk.core.service.BookLoanService;
+import com.billdesk.core.service.EligibilityService;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.List;
+
+/**
+ * Routes a bank id to its BookLoanService and EligibilityService using tables precomputed from every registered
+ * service's getServiceType(). The tables are rebuilt by {@link #refresh()} once a configuration refresh has rebound
+ * the bank ids (see BankRouterRefreshListener); both tables are swapped together, and requests in flight keep the
+ * tables they started with. A refresh that leaves two services claiming one bank id keeps the previous tables.
+ */
+@Component
+@Log4j2
+public class BankRouter {
+
+  @Autowired
+  private List<BookLoanService> bookLoanServices;
+  @Autowired
+  private List<EligibilityService> eligibilityServices;
+  private volatile Routes routes;
+
+  @PostConstruct
+  public void rebuild() {
+
+    routes = new Routes(BankRoutingTable.build(bookLoanServices, BookLoanService::getServiceType),
+                        BankRoutingTable.build(eligibilityServices, EligibilityService::getServiceType));
+    log.info("Bank routing rebuilt for {} book-loan and {} eligibility services", bookLoanServices.size(),
+             eligibilityServices.size());
+  }
+
+  public void refresh() {
+
+    try {
+      rebuild();
+    } catch (final IllegalStateException e) {
+      log.error("Keeping the previous bank routing after a configuration refresh. Error - {}", e.getMessage());
+    }
+  }
+
+  public BookLoanService getBLService(final String bankId) {
+
+    final BookLoanService bookLoanService = routes.bookLoan.get(bankId);
+    if (bookLoanService == null) {
+      log.error("No book-loan service registered for bank id {}", bankId);
+      throw new FlexException(FlexErrorCode.INTERNAL_SERVER_ERROR);
+    }
+    return bookLoanService;
+  }
+
+  public EligibilityService getEligibilityService(final String bankId) {
+
+    final EligibilityService eligibilityService = routes.eligibility.get(bankId);
+    if (eligibilityService == null) {
+      log.error("No eligibility service registered for bank id {}", bankId);
+      throw new FlexException(FlexErrorCode.INTERNAL_SERVER_ERROR);
+    }
+    return eligibilityService;
+  }
+
+  private static class Routes {
+
+    private final BankRoutingTable<BookLoanService> bookLoan;
+    private final BankRoutingTable<EligibilityService> eligibility;
+
+    Routes(final BankRoutingTable<BookLoanService> bookLoan, final BankRoutingTable<EligibilityService> eligibility) {
+
+      this.bookLoan = bookLoan;
+      this.eligibility = eligibility;
+    }
+  }
+}
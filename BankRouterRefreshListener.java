@@ -0,0 +1,27 @@
+package com.billdesk.banks.support;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the bank routing after a Spring Cloud configuration refresh. RefreshScopeRefreshedEvent is published once
+ * the changed properties have been rebound, so getServiceType() already returns the new bank ids; an
+ * EnvironmentChangeEvent listener could run before the rebinder. Only registered when spring-cloud-context is on the
+ * classpath, without it bank ids are read once at startup.
+ */
+@Component
+@ConditionalOnClass(name = "org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent")
+public class BankRouterRefreshListener {
+
+  @Autowired
+  private BankRouter bankRouter;
+
+  @EventListener(RefreshScopeRefreshedEvent.class)
+  public void onRefresh() {
+
+    bankRouter.refresh();
+  }
+}
@@ -0,0 +1,63 @@
+package com.billdesk.banks.support;
+
+import com.billdesk.core.exception.FlexException;
+import com.billdesk.core.service.BookLoanService;
+import com.billdesk.core.service.EligibilityService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BankRouterTest {
+
+  private final List<String> sbiBankIds = new ArrayList<>(List.of("SBI"));
+  private final List<String> hdfcBankIds = new ArrayList<>(List.of("HL5"));
+  private final BookLoanService sbiBookLoanService = mock(BookLoanService.class);
+  private final BookLoanService hdfcBookLoanService = mock(BookLoanService.class);
+  private final EligibilityService hdfcEligibilityService = mock(EligibilityService.class);
+  private final BankRouter bankRouter = new BankRouter();
+
+  @BeforeEach
+  void setUp() {
+
+    // Bank ids are read on every rebuild, as from a rebound configuration bean
+    when(sbiBookLoanService.getServiceType()).thenAnswer(invocation -> sbiBankIds);
+    when(hdfcBookLoanService.getServiceType()).thenAnswer(invocation -> hdfcBankIds);
+    when(hdfcEligibilityService.getServiceType()).thenAnswer(invocation -> hdfcBankIds);
+    ReflectionTestUtils.setField(bankRouter, "bookLoanServices", List.of(sbiBookLoanService, hdfcBookLoanService));
+    ReflectionTestUtils.setField(bankRouter, "eligibilityServices", List.of(hdfcEligibilityService));
+    bankRouter.rebuild();
+  }
+
+  @Test
+  void testRefreshRebuildsRoutes() {
+
+    Assertions.assertSame(sbiBookLoanService, bankRouter.getBLService("SBI"));
+    sbiBankIds.add("SBN");
+    hdfcBankIds.set(0, "HD5");
+
+    bankRouter.refresh();
+
+    Assertions.assertSame(sbiBookLoanService, bankRouter.getBLService("SBN"));
+    Assertions.assertSame(hdfcBookLoanService, bankRouter.getBLService("HD5"));
+    Assertions.assertSame(hdfcEligibilityService, bankRouter.getEligibilityService("HD5"));
+    Assertions.assertThrows(FlexException.class, () -> bankRouter.getBLService("HL5"));
+  }
+
+  @Test
+  void testConflictingRefreshKeepsPreviousRoutes() {
+
+    sbiBankIds.add("HL5");
+
+    bankRouter.refresh();
+
+    Assertions.assertSame(sbiBookLoanService, bankRouter.getBLService("SBI"));
+    Assertions.assertSame(hdfcBookLoanService, bankRouter.getBLService("HL5"));
+  }
+}
@@ -0,0 +1,85 @@
+package com.billdesk.banks.support;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Immutable bankId to service table. Bank ids of up to three upper case letters or digits (HL5, ICE, ASE, ...) are
+ * mapped to a slot of a flat array, so a lookup is a few arithmetic operations and one array read with no hashing
+ * or allocation; any other id falls back to a hash map. Two services claiming the same bank id fail the build.
+ */
+public final class BankRoutingTable<S> {
+
+  private static final int MAX_DIRECT_LENGTH = 3;
+  private static final int RADIX = 37;
+  private static final int DIRECT_SIZE = RADIX * RADIX * RADIX;
+  private final Object[] direct = new Object[DIRECT_SIZE];
+  private final Map<String, S> fallback = new HashMap<>();
+
+  private BankRoutingTable() {
+
+  }
+
+  public static <S> BankRoutingTable<S> build(final Collection<? extends S> services,
+                                              final Function<S, List<String>> bankIds) {
+
+    final BankRoutingTable<S> table = new BankRoutingTable<>();
+    for (final S service : services) {
+      final List<String> ids = bankIds.apply(service);
+      if (ids == null) {
+        continue;
+      }
+      for (final String bankId : ids) {
+        final S existing = table.get(bankId);
+        if (existing != null) {
+          throw new IllegalStateException("Bank id " + bankId + " is registered by both "
+                                          + existing.getClass().getSimpleName() + " and "
+                                          + service.getClass().getSimpleName());
+        }
+        final int slot = slot(bankId);
+        if (slot >= 0) {
+          table.direct[slot] = service;
+        } else {
+          table.fallback.put(bankId, service);
+        }
+      }
+    }
+    return table;
+  }
+
+  @SuppressWarnings("unchecked")
+  public S get(final String bankId) {
+
+    if (bankId == null) {
+      return null;
+    }
+    final int slot = slot(bankId);
+    return slot >= 0 ? (S) direct[slot] : fallback.get(bankId);
+  }
+
+  private static int slot(final String bankId) {
+
+    final int length = bankId.length();
+    if (length == 0 || length > MAX_DIRECT_LENGTH) {
+      return -1;
+    }
+    int slot = 0;
+    for (int i = 0; i < length; i++) {
+      final char c = bankId.charAt(i);
+      final int digit;
+      if (c >= '0' && c <= '9') {
+        digit = c - '0';
+      } else if (c >= 'A' && c <= 'Z') {
+        digit = c - 'A' + 10;
+      } else {
+        return -1;
+      }
+      // digits are shifted by one so that "A" and "0A" land in different slots
+      slot = slot * RADIX + digit + 1;
+    }
+    return slot;
+  }
+}
@@ -0,0 +1,38 @@
+package com.billdesk.banks.support;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+public class BankRoutingTableTest {
+
+  private static final Map<String, List<String>> SERVICES = Map.of("hdfc", List.of("HL5"),
+                                                                   "icici", List.of("ICE"),
+                                                                   "axis", List.of("ASE", "axis-dc"),
+                                                                   "sbi", List.of("SBI", "A", "0A"));
+
+  @Test
+  void testLookup() {
+
+    final BankRoutingTable<String> table = BankRoutingTable.build(SERVICES.keySet(), SERVICES::get);
+    Assertions.assertEquals("hdfc", table.get("HL5"));
+    Assertions.assertEquals("icici", table.get("ICE"));
+    Assertions.assertEquals("axis", table.get("ASE"));
+    Assertions.assertEquals("axis", table.get("axis-dc"));
+    Assertions.assertEquals("sbi", table.get("A"));
+    Assertions.assertEquals("sbi", table.get("0A"));
+    Assertions.assertNull(table.get("HS"));
+    Assertions.assertNull(table.get(""));
+    Assertions.assertNull(table.get(null));
+  }
+
+  @Test
+  void testConflictingBankIdFails() {
+
+    final Map<String, List<String>> services = Map.of("hdfc", List.of("HL5"), "other", List.of("HL5"));
+    Assertions.assertThrows(IllegalStateException.class,
+                            () -> BankRoutingTable.build(services.keySet(), services::get));
+  }
+}
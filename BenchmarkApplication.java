@@ -0,0 +1,22 @@
+package com.billdesk.banks.benchmark;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Non-web application context used by the JMH benchmarks, so every benchmark measures the beans exactly as they are
+ * wired in the service. Bank specific settings come from the benchmark profile.
+ */
+@SpringBootApplication(scanBasePackages = "com.billdesk.banks")
+public class BenchmarkApplication {
+
+  public static ConfigurableApplicationContext start() {
+
+    return new SpringApplicationBuilder(BenchmarkApplication.class).web(WebApplicationType.NONE)
+                                                                   .profiles("benchmark")
+                                                                   .logStartupInfo(false)
+                                                                   .run();
+  }
+}
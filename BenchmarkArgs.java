@@ -0,0 +1,34 @@
+package com.billdesk.banks.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * key=value command line arguments shared by the benchmark runners.
+ */
+public final class BenchmarkArgs {
+
+  private final Map<String, String> values;
+
+  private BenchmarkArgs(final Map<String, String> values) {
+
+    this.values = values;
+  }
+
+  public static BenchmarkArgs parse(final String[] args) {
+
+    final Map<String, String> values = new HashMap<>();
+    for (final String arg : args) {
+      final int separator = arg.indexOf('=');
+      if (separator > 0) {
+        values.put(arg.substring(0, separator), arg.substring(separator + 1));
+      }
+    }
+    return new BenchmarkArgs(values);
+  }
+
+  public String get(final String key, final String defaultValue) {
+
+    return values.getOrDefault(key, defaultValue);
+  }
+}
@@ -0,0 +1,53 @@
+package com.billdesk.banks.benchmark;
+
+import com.billdesk.core.model.BookLoanRequest;
+import com.billdesk.core.model.BookLoanResponse;
+import com.billdesk.core.model.EligibilityRequest;
+
+/**
+ * Representative requests for the benchmarks, matching the stub data in LEAPNEO_APIs.json.
+ */
+public final class BenchmarkFixtures {
+
+  public static final String CARD_NUMBER = "4000000000000002";
+  public static final String MERC_ID = "BDMERCID01";
+
+  private BenchmarkFixtures() {
+
+  }
+
+  public static BookLoanRequest bookLoanRequest() {
+
+    final BookLoanRequest bookLoanRequest = new BookLoanRequest();
+    bookLoanRequest.setBankId("SBI");
+    bookLoanRequest.setMercId(MERC_ID);
+    bookLoanRequest.setTransactionId("SBIHI73779450230078964995");
+    bookLoanRequest.setInvoiceNumber("98692289779869");
+    bookLoanRequest.setPgRefNo("14568908092830");
+    bookLoanRequest.setAmount(20000.00);
+    bookLoanRequest.setTenure(6);
+    bookLoanRequest.setOtp(223130);
+    return bookLoanRequest;
+  }
+
+  public static EligibilityRequest eligibilityRequest() {
+
+    final EligibilityRequest eligibilityRequest = new EligibilityRequest();
+    eligibilityRequest.setBankId("HL5");
+    eligibilityRequest.setMercId(MERC_ID);
+    eligibilityRequest.setTransactionId("100000A031");
+    eligibilityRequest.setPgRefNo("14568908092830");
+    eligibilityRequest.setAmount(20000.00);
+    eligibilityRequest.setTenure(6);
+    return eligibilityRequest;
+  }
+
+  public static BookLoanResponse bookLoanResponse(final BookLoanRequest bookLoanRequest) {
+
+    final BookLoanResponse bookLoanResponse = new BookLoanResponse();
+    bookLoanResponse.setMercId(bookLoanRequest.getMercId());
+    bookLoanResponse.setPgRefNo(bookLoanRequest.getPgRefNo());
+    bookLoanResponse.setBankReferenceNo(bookLoanRequest.getTransactionId());
+    return bookLoanResponse;
+  }
+}
@@ -0,0 +1,126 @@
+package com.billdesk.banks.support;
+
+import com.billdesk.banks.config.IdempotencyConfig;
+import com.billdesk.core.enums.FlexErrorCode;
+import com.billdesk.core.exception.FlexException;
+import com.billdesk.core.model.BookLoanRequest;
+import com.billdesk.core.model.BookLoanResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import javax.annotation.PostConstruct;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Absorbs merchant retries of book-loan. Requests are keyed by bankId, pgRefNo and transactionId; a duplicate that
+ * arrives while the first call is in flight subscribes to the same upstream call, and one that arrives later is
+ * answered from the cached outcome until the TTL elapses. A duplicate whose payload differs from the first request is
+ * rejected rather than answered with the first outcome. Failures are kept for the TTL too, since a timed out call may
+ * still have booked the loan at the bank, except those that prove the bank never saw the request (a bulkhead or
+ * breaker rejection, a deadline that passed before sending, a malformed request): their entry is dropped so the
+ * merchant's retry is sent. Entries expire after the TTL and the cache holds at most maxEntries keys.
+ */
+@Component
+@Log4j2
+public class BookLoanIdempotencyCache {
+
+  private static final char KEY_SEPARATOR = '|';
+  @Autowired
+  private IdempotencyConfig idempotencyConfig;
+  @Autowired
+  private MeterRegistry meterRegistry;
+  @Autowired
+  private ObjectMapper objectMapper;
+  private Cache<String, Entry> entries;
+  private Counter hits;
+  private Counter misses;
+  private Counter mismatches;
+
+  @PostConstruct
+  public void init() {
+
+    entries = Caffeine.newBuilder()
+                      .maximumSize(idempotencyConfig.getMaxEntries())
+                      .expireAfterWrite(Duration.ofSeconds(idempotencyConfig.getTtlSeconds()))
+                      .build();
+    hits = Counter.builder("book-loan.idempotency").tag("result", "hit").register(meterRegistry);
+    misses = Counter.builder("book-loan.idempotency").tag("result", "miss").register(meterRegistry);
+    mismatches = Counter.builder("book-loan.idempotency").tag("result", "mismatch").register(meterRegistry);
+  }
+
+  public Mono<BookLoanResponse> execute(final BookLoanRequest bookLoanRequest,
+                                        final Supplier<Mono<BookLoanResponse>> bookLoan) {
+
+    if (!idempotencyConfig.isEnabled()) {
+      return bookLoan.get();
+    }
+    final String key = key(bookLoanRequest);
+    final byte[] fingerprint;
+    try {
+      fingerprint = fingerprint(bookLoanRequest);
+    } catch (final JsonProcessingException e) {
+      log.error("Unable to fingerprint book-loan request. Error - {}", e.getMessage());
+      return Mono.error(new FlexException(FlexErrorCode.INTERNAL_SERVER_ERROR));
+    }
+    final Entry created = new Entry(fingerprint);
+    created.response = Mono.defer(bookLoan)
+                           .doOnError(e -> {
+                             if (FlexExceptions.isNotSent(e)) {
+                               entries.asMap().remove(key, created);
+                             }
+                           })
+                           .cache();
+    final Entry existing = entries.asMap().putIfAbsent(key, created);
+    if (existing == null) {
+      misses.increment();
+      return created.response;
+    }
+    if (!MessageDigest.isEqual(existing.fingerprint, fingerprint)) {
+      mismatches.increment();
+      log.warn("Book-loan request for pgRefNo {} reuses a transaction with a different payload",
+               bookLoanRequest.getPgRefNo());
+      return Mono.error(FlexExceptions.rejected(FlexErrorCode.DUPLICATE_TRANSACTION_REQUEST));
+    }
+    hits.increment();
+    log.info("Duplicate book-loan request for pgRefNo {}, reusing the first outcome", bookLoanRequest.getPgRefNo());
+    return existing.response;
+  }
+
+  // Digest of the whole payload, so the OTP and card details are compared without being kept
+  private byte[] fingerprint(final BookLoanRequest bookLoanRequest) throws JsonProcessingException {
+
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(bookLoanRequest));
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String key(final BookLoanRequest bookLoanRequest) {
+
+    return bookLoanRequest.getBankId() + KEY_SEPARATOR + bookLoanRequest.getPgRefNo() + KEY_SEPARATOR
+           + bookLoanRequest.getTransactionId();
+  }
+
+  private static class Entry {
+
+    private final byte[] fingerprint;
+    private Mono<BookLoanResponse> response;
+
+    Entry(final byte[] fingerprint) {
+
+      this.fingerprint = fingerprint;
+    }
+  }
+}
@@ -0,0 +1,151 @@
+package com.billdesk.banks.support;
+
+import com.billdesk.banks.AbstractTest;
+import com.billdesk.banks.config.IdempotencyConfig;
+import com.billdesk.core.enums.FlexErrorCode;
+import com.billdesk.core.exception.FlexException;
+import com.billdesk.core.model.BookLoanRequest;
+import com.billdesk.core.model.BookLoanResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BookLoanIdempotencyCacheTest extends AbstractTest {
+
+  @Spy
+  private IdempotencyConfig idempotencyConfig = new IdempotencyConfig();
+  @Spy
+  private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  @Spy
+  private ObjectMapper objectMapper = new ObjectMapper();
+  @InjectMocks
+  private BookLoanIdempotencyCache bookLoanIdempotencyCache;
+
+  @BeforeEach
+  void setUp() {
+
+    bookLoanIdempotencyCache.init();
+  }
+
+  @Test
+  void testCompletedResponseIsReused() {
+
+    final BookLoanRequest bookLoanRequest = getBookLoanRequest();
+    final AtomicInteger calls = new AtomicInteger();
+    final BookLoanResponse first = bookLoanIdempotencyCache.execute(bookLoanRequest, () -> {
+      calls.incrementAndGet();
+      return Mono.just(getBookLoanResponse(bookLoanRequest));
+    }).block();
+    final BookLoanResponse second = bookLoanIdempotencyCache.execute(bookLoanRequest, () -> {
+      calls.incrementAndGet();
+      return Mono.just(getBookLoanResponse(bookLoanRequest));
+    }).block();
+    Assertions.assertSame(first, second);
+    Assertions.assertEquals(1, calls.get());
+  }
+
+  @Test
+  void testInFlightDuplicateSharesUpstreamCall() {
+
+    final BookLoanRequest bookLoanRequest = getBookLoanRequest();
+    final AtomicInteger calls = new AtomicInteger();
+    final Sinks.One<BookLoanResponse> upstream = Sinks.one();
+    final Mono<BookLoanResponse> first = bookLoanIdempotencyCache.execute(bookLoanRequest, () -> {
+      calls.incrementAndGet();
+      return upstream.asMono();
+    });
+    final Mono<BookLoanResponse> duplicate = bookLoanIdempotencyCache.execute(bookLoanRequest, () -> {
+      calls.incrementAndGet();
+      return upstream.asMono();
+    });
+    first.subscribe();
+    duplicate.subscribe();
+    upstream.tryEmitValue(getBookLoanResponse(bookLoanRequest));
+    Assertions.assertSame(first.block(), duplicate.block());
+    Assertions.assertEquals(1, calls.get());
+  }
+
+  @Test
+  void testFailureIsKeptForTtl() {
+
+    final BookLoanRequest bookLoanRequest = getBookLoanRequest();
+    final FlexException timeout = new FlexException(FlexErrorCode.RESPONSE_TIMEOUT);
+    final AtomicInteger calls = new AtomicInteger();
+    final FlexException first = Assertions.assertThrows(FlexException.class, () -> bookLoanIdempotencyCache.execute(
+      bookLoanRequest, () -> {
+        calls.incrementAndGet();
+        return Mono.error(timeout);
+      }).block());
+    // The bank may have booked the loan, so the retry must not reach it again
+    final FlexException retry = Assertions.assertThrows(FlexException.class, () -> bookLoanIdempotencyCache.execute(
+      bookLoanRequest, () -> {
+        calls.incrementAndGet();
+        return Mono.just(getBookLoanResponse(bookLoanRequest));
+      }).block());
+    Assertions.assertSame(first, retry);
+    Assertions.assertEquals(1, calls.get());
+  }
+
+  @Test
+  void testCallRejectedBeforeSendingIsNotKept() {
+
+    final BookLoanRequest bookLoanRequest = getBookLoanRequest();
+    final AtomicInteger calls = new AtomicInteger();
+    Assertions.assertThrows(FlexException.class, () -> bookLoanIdempotencyCache.execute(bookLoanRequest, () -> {
+      calls.incrementAndGet();
+      return Mono.error(FlexExceptions.rejected(FlexErrorCode.UNABLE_TO_PROCESS_REQUEST));
+    }).block());
+    final BookLoanResponse retry = bookLoanIdempotencyCache.execute(bookLoanRequest, () -> {
+      calls.incrementAndGet();
+      return Mono.just(getBookLoanResponse(bookLoanRequest));
+    }).block();
+    Assertions.assertNotNull(retry);
+    Assertions.assertEquals(2, calls.get());
+  }
+
+  @Test
+  void testDifferentPayloadIsRejected() {
+
+    final BookLoanRequest bookLoanRequest = getBookLoanRequest();
+    final BookLoanRequest changedRequest = getBookLoanRequest();
+    changedRequest.setAmount(bookLoanRequest.getAmount() + 1);
+    final AtomicInteger calls = new AtomicInteger();
+    bookLoanIdempotencyCache.execute(bookLoanRequest, () -> {
+      calls.incrementAndGet();
+      return Mono.just(getBookLoanResponse(bookLoanRequest));
+    }).block();
+    Assertions.assertThrows(FlexException.class, () -> bookLoanIdempotencyCache.execute(changedRequest, () -> {
+      calls.incrementAndGet();
+      return Mono.just(getBookLoanResponse(changedRequest));
+    }).block());
+    Assertions.assertEquals(1, calls.get());
+    Assertions.assertEquals(1, meterRegistry.get("book-loan.idempotency").tag("result", "mismatch").counter()
+                                            .count());
+  }
+
+  @Test
+  void testDifferentTransactionIsNotShared() {
+
+    final BookLoanRequest bookLoanRequest = getBookLoanRequest();
+    final BookLoanRequest otherRequest = getBookLoanRequest();
+    otherRequest.setTransactionId(bookLoanRequest.getTransactionId() + "1");
+    final AtomicInteger calls = new AtomicInteger();
+    bookLoanIdempotencyCache.execute(bookLoanRequest, () -> {
+      calls.incrementAndGet();
+      return Mono.just(getBookLoanResponse(bookLoanRequest));
+    }).block();
+    bookLoanIdempotencyCache.execute(otherRequest, () -> {
+      calls.incrementAndGet();
+      return Mono.just(getBookLoanResponse(otherRequest));
+    }).block();
+    Assertions.assertEquals(2, calls.get());
+  }
+}
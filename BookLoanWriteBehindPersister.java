@@ -0,0 +1,300 @@
+package com.billdesk.banks.service;
+
+import com.billdesk.banks.config.WriteBehindConfig;
+import com.billdesk.banks.sbi.eligibility.CustomerBlockApiResponse;
+import com.billdesk.banks.support.AppendLog;
+import com.billdesk.core.model.BookLoanRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.NonTransientDataAccessResourceException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Write-behind front for {@link BookLoanResponseDao}. Book-loan details are appended to a local memory-mapped log and
+ * the caller returns immediately; a background task saves them in batches, one transaction per batch, and only then
+ * commits them in the log. Entries still in the log after a restart are saved on the first flush. When a batch fails
+ * on something other than an unavailable database, its records are saved one by one and any record that still fails,
+ * or cannot be read back, is moved to a dead-letter log instead of blocking the records behind it. Records carry the
+ * OTP, card data and customer identifiers, so each one is encrypted with AES-GCM under the configured key before it
+ * reaches either log. When disabled, when the log is full, or once shutdown has started, details are saved
+ * synchronously as before.
+ */
+@Service
+@Log4j2
+public class BookLoanWriteBehindPersister {
+
+  private static final String KEY_ALGORITHM = "AES";
+  private static final String RECORD_TRANSFORMATION = "AES/GCM/NoPadding";
+  private static final int IV_LENGTH = 12;
+  private static final int TAG_LENGTH_BITS = 128;
+  @Autowired
+  private WriteBehindConfig writeBehindConfig;
+  @Autowired
+  private BookLoanResponseDao bookLoanResponseDao;
+  @Autowired
+  private ObjectMapper objectMapper;
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+  @Autowired
+  private MeterRegistry meterRegistry;
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+  private final SecureRandom secureRandom = new SecureRandom();
+  private SecretKeySpec recordKey;
+  private ThreadLocal<Cipher> ciphers;
+  private AppendLog appendLog;
+  private AppendLog deadLetterLog;
+  private TransactionTemplate transactionTemplate;
+  private ScheduledExecutorService flusher;
+  private volatile boolean accepting;
+
+  @PostConstruct
+  public void init() throws IOException {
+
+    if (!writeBehindConfig.isEnabled()) {
+      return;
+    }
+    recordKey = recordKey(writeBehindConfig.getEncryptionKey());
+    ciphers = ThreadLocal.withInitial(() -> {
+      try {
+        return Cipher.getInstance(RECORD_TRANSFORMATION);
+      } catch (final GeneralSecurityException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    appendLog = new AppendLog(Paths.get(writeBehindConfig.getLogPath()), writeBehindConfig.getLogSizeBytes(),
+                              writeBehindConfig.isForceOnAppend());
+    deadLetterLog = new AppendLog(Paths.get(writeBehindConfig.getDeadLetterPath()),
+                                  writeBehindConfig.getDeadLetterSizeBytes(), true);
+    if (appendLog.size() > 0) {
+      log.info("Replaying {} book-loan records left in the write-behind log", appendLog.size());
+    }
+    if (deadLetterLog.size() > 0) {
+      log.warn("{} book-loan records are waiting in the write-behind dead-letter log", deadLetterLog.size());
+    }
+    transactionTemplate = new TransactionTemplate(transactionManager);
+    Gauge.builder("book-loan.write-behind.pending", appendLog, AppendLog::size).register(meterRegistry);
+    Gauge.builder("book-loan.write-behind.dead-letter", deadLetterLog, AppendLog::size).register(meterRegistry);
+    flusher = newFlusher();
+    flusher.scheduleWithFixedDelay(this::flush, 0, writeBehindConfig.getFlushIntervalMillis(),
+                                   TimeUnit.MILLISECONDS);
+    accepting = true;
+  }
+
+  ScheduledExecutorService newFlusher() {
+
+    return Executors.newSingleThreadScheduledExecutor(runnable -> {
+      final Thread thread = new Thread(runnable, "book-loan-write-behind");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @PreDestroy
+  public void shutdown() throws IOException {
+
+    if (!accepting) {
+      return;
+    }
+    accepting = false;
+    flusher.shutdown();
+    try {
+      flusher.awaitTermination(5, TimeUnit.SECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    flush();
+    appendLog.close();
+    deadLetterLog.close();
+  }
+
+  public void saveBookLoanDetails(final CustomerBlockApiResponse customerBlockApiResponse,
+                                  final BookLoanRequest bookLoanRequest) {
+
+    if (accepting) {
+      try {
+        if (appendLog.append(seal(objectMapper.writeValueAsBytes(new BookLoanRecord(customerBlockApiResponse,
+                                                                                      bookLoanRequest))))) {
+          requestFlush();
+          return;
+        }
+        log.warn("Write-behind log is full, saving book-loan details synchronously");
+      } catch (final IOException | GeneralSecurityException e) {
+        log.error("Unable to queue book-loan details, saving synchronously. Error - {}", e.getMessage());
+      }
+    }
+    bookLoanResponseDao.saveBookLoanDetails(customerBlockApiResponse, bookLoanRequest);
+  }
+
+  // At most one size-triggered flush is queued at a time, however many appends cross the batch size
+  private void requestFlush() {
+
+    if (appendLog.size() < writeBehindConfig.getBatchSize() || !flushScheduled.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      flusher.execute(() -> {
+        flushScheduled.set(false);
+        flush();
+      });
+    } catch (final RejectedExecutionException e) {
+      // Shutting down: the record is already in the log and is saved by the final flush or on the next start
+      flushScheduled.set(false);
+    }
+  }
+
+  synchronized void flush() {
+
+    List<byte[]> batch = appendLog.pending(writeBehindConfig.getBatchSize());
+    while (!batch.isEmpty()) {
+      try {
+        final List<BookLoanRecord> records = read(batch);
+        transactionTemplate.executeWithoutResult(status -> records.forEach(
+          record -> bookLoanResponseDao.saveBookLoanDetails(record.getResponse(), record.getRequest())));
+        appendLog.commit(batch.size());
+      } catch (final Exception e) {
+        if (isRetryable(e)) {
+          // Entries stay in the log and are retried on the next flush
+          log.error("Unable to flush book-loan write-behind batch. Error - {}", e.getMessage());
+          return;
+        }
+        log.error("Book-loan write-behind batch failed, saving records one by one. Error - {}", e.getMessage());
+        if (!flushEach(batch)) {
+          return;
+        }
+      }
+      batch = appendLog.pending(writeBehindConfig.getBatchSize());
+    }
+  }
+
+  private List<BookLoanRecord> read(final List<byte[]> batch) throws IOException, GeneralSecurityException {
+
+    final List<BookLoanRecord> records = new ArrayList<>(batch.size());
+    for (final byte[] entry : batch) {
+      records.add(read(entry));
+    }
+    return records;
+  }
+
+  private BookLoanRecord read(final byte[] entry) throws IOException, GeneralSecurityException {
+
+    return objectMapper.readValue(open(entry), BookLoanRecord.class);
+  }
+
+  // A fresh random IV is prefixed to every record, GCM must never reuse one under the same key
+  private byte[] seal(final byte[] record) throws GeneralSecurityException {
+
+    final byte[] iv = new byte[IV_LENGTH];
+    secureRandom.nextBytes(iv);
+    final Cipher cipher = ciphers.get();
+    cipher.init(Cipher.ENCRYPT_MODE, recordKey, new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+    final byte[] sealed = Arrays.copyOf(iv, IV_LENGTH + cipher.getOutputSize(record.length));
+    cipher.doFinal(record, 0, record.length, sealed, IV_LENGTH);
+    return sealed;
+  }
+
+  private byte[] open(final byte[] sealed) throws GeneralSecurityException {
+
+    final Cipher cipher = ciphers.get();
+    cipher.init(Cipher.DECRYPT_MODE, recordKey, new GCMParameterSpec(TAG_LENGTH_BITS, sealed, 0, IV_LENGTH));
+    return cipher.doFinal(sealed, IV_LENGTH, sealed.length - IV_LENGTH);
+  }
+
+  private static SecretKeySpec recordKey(final String encryptionKey) {
+
+    if (StringUtils.isBlank(encryptionKey)) {
+      throw new IllegalStateException("book-loan.write-behind.encryption-key must be set when write-behind is "
+                                      + "enabled");
+    }
+    final byte[] key;
+    try {
+      key = Base64.getDecoder().decode(encryptionKey);
+    } catch (final IllegalArgumentException e) {
+      throw new IllegalStateException("book-loan.write-behind.encryption-key is not valid Base64", e);
+    }
+    if (key.length != 16 && key.length != 24 && key.length != 32) {
+      throw new IllegalStateException("book-loan.write-behind.encryption-key must be a 16, 24 or 32 byte AES key");
+    }
+    return new SecretKeySpec(key, KEY_ALGORITHM);
+  }
+
+  // Commits each record as it is saved or dead-lettered, and stops at the first one that may succeed later
+  private boolean flushEach(final List<byte[]> batch) {
+
+    for (final byte[] entry : batch) {
+      try {
+        final BookLoanRecord record = read(entry);
+        transactionTemplate.executeWithoutResult(
+          status -> bookLoanResponseDao.saveBookLoanDetails(record.getResponse(), record.getRequest()));
+      } catch (final Exception e) {
+        if (isRetryable(e)) {
+          log.error("Unable to flush book-loan write-behind record. Error - {}", e.getMessage());
+          return false;
+        }
+        if (!deadLetterLog.append(entry)) {
+          log.error("Write-behind dead-letter log is full, keeping the failed record in the write-behind log");
+          return false;
+        }
+        log.error("Moved book-loan write-behind record to the dead-letter log. Error - {}", e.getMessage());
+      }
+      appendLog.commit(1);
+    }
+    return true;
+  }
+
+  // An unavailable database fails every record alike, so those records wait for the next flush
+  private static boolean isRetryable(final Throwable e) {
+
+    for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+      if (cause instanceof TransientDataAccessException || cause instanceof RecoverableDataAccessException
+          || cause instanceof NonTransientDataAccessResourceException
+          || cause instanceof CannotCreateTransactionException || cause instanceof SQLTransientException
+          || cause instanceof SQLRecoverableException || cause instanceof SQLNonTransientConnectionException) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  static class BookLoanRecord {
+
+    private CustomerBlockApiResponse response;
+    private BookLoanRequest request;
+  }
+}
@@ -0,0 +1,243 @@
+package com.billdesk.banks.service;
+
+import com.billdesk.banks.AbstractTest;
+import com.billdesk.banks.config.WriteBehindConfig;
+import com.billdesk.banks.sbi.eligibility.CustomerBlockApiResponse;
+import com.billdesk.core.model.BookLoanRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class BookLoanWriteBehindPersisterTest extends AbstractTest {
+
+  private static final String POISON_PG_REF_NO = "POISON";
+  private static final String ENCRYPTION_KEY = Base64.getEncoder().encodeToString(new byte[32]);
+  @TempDir
+  Path tempDir;
+  @Spy
+  private WriteBehindConfig writeBehindConfig = new WriteBehindConfig();
+  @Spy
+  private ObjectMapper objectMapper = new ObjectMapper();
+  @Spy
+  private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  @Mock
+  private BookLoanResponseDao bookLoanResponseDao;
+  @Mock
+  private PlatformTransactionManager transactionManager;
+  @Mock
+  private ScheduledExecutorService flusher;
+  @Spy
+  @InjectMocks
+  private BookLoanWriteBehindPersister persister;
+  // Flushes handed to the executor, run only when the test asks for it
+  private final List<Runnable> queuedFlushes = new ArrayList<>();
+
+  @BeforeEach
+  @SneakyThrows
+  void setUp() {
+
+    writeBehindConfig.setEnabled(true);
+    writeBehindConfig.setBatchSize(3);
+    writeBehindConfig.setLogPath(tempDir.resolve("write-behind.log").toString());
+    writeBehindConfig.setLogSizeBytes(64 * 1024);
+    writeBehindConfig.setDeadLetterPath(tempDir.resolve("dead-letter.log").toString());
+    writeBehindConfig.setDeadLetterSizeBytes(64 * 1024);
+    writeBehindConfig.setForceOnAppend(false);
+    writeBehindConfig.setEncryptionKey(ENCRYPTION_KEY);
+    doReturn(flusher).when(persister).newFlusher();
+    // Not every test queues a flush
+    lenient().doAnswer(invocation -> queuedFlushes.add(invocation.getArgument(0))).when(flusher)
+             .execute(any(Runnable.class));
+    persister.init();
+  }
+
+  @AfterEach
+  @SneakyThrows
+  void tearDown() {
+
+    persister.shutdown();
+  }
+
+  @Test
+  void testQueuedRecordsAreSavedInOneTransaction() {
+
+    persister.saveBookLoanDetails(new CustomerBlockApiResponse(), bookLoanRequest("1"));
+    persister.saveBookLoanDetails(new CustomerBlockApiResponse(), bookLoanRequest("2"));
+    verify(bookLoanResponseDao, never()).saveBookLoanDetails(any(), any());
+
+    persister.flush();
+
+    verify(bookLoanResponseDao, times(2)).saveBookLoanDetails(any(), any());
+    verify(transactionManager, times(1)).getTransaction(any());
+    Assertions.assertEquals(0, pending());
+  }
+
+  @Test
+  void testFlushRequestsAreCoalesced() {
+
+    for (int i = 0; i < 7; i++) {
+      persister.saveBookLoanDetails(new CustomerBlockApiResponse(), bookLoanRequest(String.valueOf(i)));
+    }
+    Assertions.assertEquals(1, queuedFlushes.size());
+
+    queuedFlushes.remove(0).run();
+    persister.saveBookLoanDetails(new CustomerBlockApiResponse(), bookLoanRequest("7"));
+    verify(bookLoanResponseDao, times(7)).saveBookLoanDetails(any(), any());
+    Assertions.assertEquals(0, queuedFlushes.size());
+  }
+
+  @Test
+  void testRecordsAreRetainedWhileDatabaseIsUnavailable() {
+
+    doThrow(new CannotGetJdbcConnectionException("Connection refused")).when(bookLoanResponseDao)
+                                                                      .saveBookLoanDetails(any(), any());
+    persister.saveBookLoanDetails(new CustomerBlockApiResponse(), bookLoanRequest("1"));
+    persister.saveBookLoanDetails(new CustomerBlockApiResponse(), bookLoanRequest("2"));
+
+    persister.flush();
+
+    verify(bookLoanResponseDao, times(1)).saveBookLoanDetails(any(), any());
+    Assertions.assertEquals(2, pending());
+    Assertions.assertEquals(0, deadLettered());
+  }
+
+  @Test
+  @SneakyThrows
+  void testRetainedRecordsAreReplayedAfterRestart() {
+
+    doThrow(new CannotGetJdbcConnectionException("Connection refused")).when(bookLoanResponseDao)
+                                                                      .saveBookLoanDetails(any(), any());
+    persister.saveBookLoanDetails(new CustomerBlockApiResponse(), bookLoanRequest("1"));
+    persister.saveBookLoanDetails(new CustomerBlockApiResponse(), bookLoanRequest("2"));
+    persister.shutdown();
+
+    reset(bookLoanResponseDao);
+    meterRegistry.clear();
+    persister.init();
+    Assertions.assertEquals(2, pending());
+    persister.flush();
+
+    verify(bookLoanResponseDao).saveBookLoanDetails(any(), argThat(request -> "1".equals(request.getPgRefNo())));
+    verify(bookLoanResponseDao).saveBookLoanDetails(any(), argThat(request -> "2".equals(request.getPgRefNo())));
+    Assertions.assertEquals(0, pending());
+  }
+
+  @Test
+  void testPoisonRecordIsDeadLetteredWithoutBlockingOthers() {
+
+    doAnswer(invocation -> {
+      if (POISON_PG_REF_NO.equals(invocation.<BookLoanRequest>getArgument(1).getPgRefNo())) {
+        throw new DataIntegrityViolationException("Duplicate entry");
+      }
+      return null;
+    }).when(bookLoanResponseDao).saveBookLoanDetails(any(), any());
+    persister.saveBookLoanDetails(new CustomerBlockApiResponse(), bookLoanRequest("1"));
+    persister.saveBookLoanDetails(new CustomerBlockApiResponse(), bookLoanRequest(POISON_PG_REF_NO));
+    persister.saveBookLoanDetails(new CustomerBlockApiResponse(), bookLoanRequest("2"));
+
+    persister.flush();
+
+    // Once in the rolled back batch and once on its own
+    verify(bookLoanResponseDao, times(2)).saveBookLoanDetails(any(), argThat(request -> "1".equals(
+      request.getPgRefNo())));
+    verify(bookLoanResponseDao, times(1)).saveBookLoanDetails(any(), argThat(request -> "2".equals(
+      request.getPgRefNo())));
+    Assertions.assertEquals(0, pending());
+    Assertions.assertEquals(1, deadLettered());
+
+    persister.flush();
+    verify(bookLoanResponseDao, times(2)).saveBookLoanDetails(any(), argThat(request -> POISON_PG_REF_NO.equals(
+      request.getPgRefNo())));
+  }
+
+  @Test
+  void testRejectedFlushDoesNotFailTheBooking() {
+
+    doThrow(new RejectedExecutionException("shut down")).when(flusher).execute(any(Runnable.class));
+    for (int i = 0; i < 3; i++) {
+      persister.saveBookLoanDetails(new CustomerBlockApiResponse(), bookLoanRequest(String.valueOf(i)));
+    }
+    Assertions.assertEquals(3, pending());
+  }
+
+  @Test
+  @SneakyThrows
+  void testDetailsAreSavedSynchronouslyAfterShutdown() {
+
+    persister.shutdown();
+    final BookLoanRequest bookLoanRequest = bookLoanRequest("1");
+
+    persister.saveBookLoanDetails(new CustomerBlockApiResponse(), bookLoanRequest);
+
+    verify(bookLoanResponseDao).saveBookLoanDetails(any(), argThat(request -> request == bookLoanRequest));
+  }
+
+  @Test
+  @SneakyThrows
+  void testRecordsAreEncryptedOnDisk() {
+
+    final String pgRefNo = "PGREF0123456789";
+    persister.saveBookLoanDetails(new CustomerBlockApiResponse(), bookLoanRequest(pgRefNo));
+
+    final String log = new String(Files.readAllBytes(tempDir.resolve("write-behind.log")), StandardCharsets.ISO_8859_1);
+    Assertions.assertFalse(log.contains(pgRefNo));
+    persister.flush();
+    verify(bookLoanResponseDao).saveBookLoanDetails(any(), argThat(request -> pgRefNo.equals(request.getPgRefNo())));
+  }
+
+  @Test
+  void testEncryptionKeyIsRequired() {
+
+    writeBehindConfig.setEncryptionKey(null);
+
+    Assertions.assertThrows(IllegalStateException.class, () -> persister.init());
+  }
+
+  private BookLoanRequest bookLoanRequest(final String pgRefNo) {
+
+    final BookLoanRequest bookLoanRequest = getBookLoanRequest();
+    bookLoanRequest.setPgRefNo(pgRefNo);
+    return bookLoanRequest;
+  }
+
+  private double pending() {
+
+    return meterRegistry.get("book-loan.write-behind.pending").gauge().value();
+  }
+
+  private double deadLettered() {
+
+    return meterRegistry.get("book-loan.write-behind.dead-letter").gauge().value();
+  }
+}
@@ -0,0 +1,40 @@
+package com.billdesk.banks.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "bulkhead")
+public class BulkheadConfig {
+
+  private Limits defaults = new Limits();
+  // Per bank overrides, keyed by the request's bank id (SBI, HL5, ICE, ASE) for the bulkhead taken before a call is
+  // queued on the bank call scheduler, and by the client's pool name (icici) for its per-request bulkhead
+  private Map<String, Limits> banks = new HashMap<>();
+
+  public Limits forBank(final String bank) {
+
+    return banks.getOrDefault(bank, defaults);
+  }
+
+  @Data
+  public static class Limits {
+
+    private int initialLimit = 50;
+    private int minLimit = 5;
+    private int maxLimit = 200;
+    // Largest decrease applied in one window, as the fraction of the limit that is kept
+    private double backoffRatio = 0.9;
+    // A window whose average latency exceeds the baseline times this factor counts as congestion
+    private double latencyTolerance = 2.0;
+    // A window in which a larger fraction of calls failed counts as congestion
+    private double maxFailureRate = 0.1;
+    // Number of windows the smoothed latency baseline averages over
+    private int baselineWindows = 20;
+  }
+}
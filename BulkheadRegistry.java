@@ -0,0 +1,120 @@
+package com.billdesk.banks.support;
+
+import com.billdesk.banks.config.BulkheadConfig;
+import com.billdesk.core.enums.FlexErrorCode;
+import com.billdesk.core.exception.FlexException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Per bank bulkheads, so a slow bank only exhausts its own concurrency. Calls over the limit fail immediately with a
+ * {@link FlexExceptions#rejected} UNABLE_TO_PROCESS_REQUEST, which {@link FlexExceptions#isNotSent} tells apart from
+ * the same code returned by a bank, and are counted under bank.bulkhead.rejected. Bank business failures
+ * (FlexException) do not count as congestion, anything else does.
+ */
+@Component
+@Log4j2
+public class BulkheadRegistry {
+
+  private final Map<String, AdaptiveBulkhead> bulkheads = new ConcurrentHashMap<>();
+  @Autowired
+  private BulkheadConfig bulkheadConfig;
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  /**
+   * Runs a blocking bank call on the scheduler. The permit is taken before the task is queued and given back only
+   * when the call returns, so one bank can never hold more of the scheduler's threads than its limit, not even with
+   * calls the caller has stopped waiting for. A call cancelled before it starts gives its permit back unrun.
+   */
+  public <T> Mono<T> executeOn(final String bank, final Scheduler scheduler, final Callable<T> call) {
+
+    return Mono.defer(() -> {
+      final AdaptiveBulkhead bulkhead = acquire(bank);
+      final AtomicBoolean claimed = new AtomicBoolean();
+      return Mono.fromCallable(() -> claimed.compareAndSet(false, true) ? run(bulkhead, call) : null)
+                 .subscribeOn(scheduler)
+                 .doOnCancel(() -> {
+                   if (claimed.compareAndSet(false, true)) {
+                     bulkhead.release();
+                   }
+                 });
+    });
+  }
+
+  public <T> Mono<T> executeAsync(final String bank, final Mono<T> call) {
+
+    return Mono.defer(() -> {
+      final AdaptiveBulkhead bulkhead = acquire(bank);
+      final long start = System.nanoTime();
+      final AtomicBoolean released = new AtomicBoolean();
+      return call.doOnSuccess(response -> {
+                   if (released.compareAndSet(false, true)) {
+                     bulkhead.release(System.nanoTime() - start, false);
+                   }
+                 })
+                 .doOnError(e -> {
+                   if (released.compareAndSet(false, true)) {
+                     bulkhead.release(System.nanoTime() - start, !(e instanceof FlexException));
+                   }
+                 })
+                 .doOnCancel(() -> {
+                   // The caller gave up, which says nothing about the bank's latency
+                   if (released.compareAndSet(false, true)) {
+                     bulkhead.release();
+                   }
+                 });
+    });
+  }
+
+  public AdaptiveBulkhead forBank(final String bank) {
+
+    return bulkheads.computeIfAbsent(bank, key -> {
+      final AdaptiveBulkhead bulkhead = new AdaptiveBulkhead(bulkheadConfig.forBank(key));
+      Gauge.builder("bank.bulkhead.limit", bulkhead, AdaptiveBulkhead::getLimit).tag("bank", key)
+           .register(meterRegistry);
+      Gauge.builder("bank.bulkhead.in-flight", bulkhead, AdaptiveBulkhead::getInFlight).tag("bank", key)
+           .register(meterRegistry);
+      return bulkhead;
+    });
+  }
+
+  private static <T> T run(final AdaptiveBulkhead bulkhead, final Callable<T> call) throws Exception {
+
+    final long start = System.nanoTime();
+    boolean failed = true;
+    try {
+      final T response = call.call();
+      failed = false;
+      return response;
+    } catch (final FlexException e) {
+      failed = false;
+      throw e;
+    } finally {
+      bulkhead.release(System.nanoTime() - start, failed);
+    }
+  }
+
+  private AdaptiveBulkhead acquire(final String bank) {
+
+    final AdaptiveBulkhead bulkhead = forBank(bank);
+    if (!bulkhead.tryAcquire()) {
+      Counter.builder("bank.bulkhead.rejected").tag("bank", bank).register(meterRegistry).increment();
+      log.warn("Rejecting {} call, {} calls in flight at limit {}", bank, bulkhead.getInFlight(),
+               bulkhead.getLimit());
+      throw FlexExceptions.rejected(FlexErrorCode.UNABLE_TO_PROCESS_REQUEST);
+    }
+    return bulkhead;
+  }
+}
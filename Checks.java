@@ -0,0 +1,80 @@
+package com.billdesk.banks.validation;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Helpers the generated validators call where a check is more than a single expression. Semantics follow the
+ * Hibernate Validator implementations of the same constraints.
+ */
+public final class Checks {
+
+  private Checks() {
+
+  }
+
+  // Same rule as Hibernate Validator's NotBlank, blank after trimming characters up to and including space
+  public static boolean isBlank(final CharSequence value) {
+
+    if (value == null) {
+      return true;
+    }
+    for (int i = 0; i < value.length(); i++) {
+      if (value.charAt(i) > ' ') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Minimum check for BigDecimal, BigInteger and numeric strings, which the generator cannot compare with primitive
+   * operators. Unparseable strings are violations.
+   */
+  public static boolean violatesMin(final Object value, final BigDecimal bound, final boolean inclusive) {
+
+    final BigDecimal number = toBigDecimal(value);
+    if (number == null) {
+      return true;
+    }
+    final int comparison = number.compareTo(bound);
+    return inclusive ? comparison < 0 : comparison <= 0;
+  }
+
+  public static boolean violatesMax(final Object value, final BigDecimal bound, final boolean inclusive) {
+
+    final BigDecimal number = toBigDecimal(value);
+    if (number == null) {
+      return true;
+    }
+    final int comparison = number.compareTo(bound);
+    return inclusive ? comparison > 0 : comparison >= 0;
+  }
+
+  public static boolean digits(final Object value, final int integer, final int fraction) {
+
+    final BigDecimal number = toBigDecimal(value);
+    if (number == null) {
+      return false;
+    }
+    final BigDecimal stripped = number.stripTrailingZeros();
+    final int fractionDigits = Math.max(0, stripped.scale());
+    final int integerDigits = stripped.precision() - stripped.scale();
+    return integerDigits <= integer && fractionDigits <= fraction;
+  }
+
+  private static BigDecimal toBigDecimal(final Object value) {
+
+    if (value instanceof BigDecimal) {
+      return (BigDecimal) value;
+    }
+    if (value instanceof BigInteger) {
+      return new BigDecimal((BigInteger) value);
+    }
+    try {
+      return new BigDecimal(value.toString());
+    } catch (final NumberFormatException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package com.billdesk.banks.support;
+
+import com.billdesk.core.enums.FlexErrorCode;
+import com.billdesk.core.exception.FlexException;
+import lombok.extern.log4j.Log4j2;
+
+import javax.crypto.Cipher;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Encrypts request fields with a bank's public key. The key is parsed once and Cipher instances, which are not
+ * thread-safe, are initialised once and kept in a bounded pool that callers borrow for a single call, so no key
+ * parsing or provider lookup happens per request. When the pool is empty a new instance is created, and instances
+ * beyond the pool size are dropped on return. Intended for public key transformations such as RSA, whose ciphers can
+ * be reused after doFinal without re-initialising.
+ */
+@Log4j2
+public class CipherPool {
+
+  private final String transformation;
+  private final Key key;
+  private final BlockingQueue<Cipher> ciphers;
+
+  public CipherPool(final String transformation, final Key key, final int poolSize) {
+
+    this.transformation = transformation;
+    this.key = key;
+    this.ciphers = new ArrayBlockingQueue<>(Math.max(1, poolSize));
+    for (int i = 0; i < poolSize; i++) {
+      ciphers.offer(newCipher());
+    }
+  }
+
+  public static Key publicKey(final String algorithm, final String base64EncodedKey) {
+
+    try {
+      return KeyFactory.getInstance(algorithm)
+                       .generatePublic(new X509EncodedKeySpec(Base64.getMimeDecoder().decode(base64EncodedKey)));
+    } catch (final GeneralSecurityException | IllegalArgumentException e) {
+      log.error("Unable to parse {} public key. Error - {}", algorithm, e.getMessage());
+      throw new FlexException(FlexErrorCode.GENERIC_ERROR);
+    }
+  }
+
+  public String encrypt(final String value) {
+
+    final Cipher cipher = borrow();
+    try {
+      return encrypt(cipher, value);
+    } finally {
+      ciphers.offer(cipher);
+    }
+  }
+
+  /**
+   * Encrypts several fields of one request, e.g. card number and OTP, with a single borrowed cipher.
+   */
+  public String[] encrypt(final String... values) {
+
+    final String[] encrypted = new String[values.length];
+    final Cipher cipher = borrow();
+    try {
+      for (int i = 0; i < values.length; i++) {
+        encrypted[i] = encrypt(cipher, values[i]);
+      }
+      return encrypted;
+    } finally {
+      ciphers.offer(cipher);
+    }
+  }
+
+  private String encrypt(final Cipher cipher, final String value) {
+
+    try {
+      return Base64.getEncoder().encodeToString(cipher.doFinal(value.getBytes(StandardCharsets.UTF_8)));
+    } catch (final GeneralSecurityException e) {
+      log.error("Encountered error while encrypting with {}. Error - {}", transformation, e.getMessage());
+      throw new FlexException(FlexErrorCode.GENERIC_ERROR);
+    }
+  }
+
+  private Cipher borrow() {
+
+    final Cipher cipher = ciphers.poll();
+    return cipher != null ? cipher : newCipher();
+  }
+
+  private Cipher newCipher() {
+
+    try {
+      final Cipher cipher = Cipher.getInstance(transformation);
+      cipher.init(Cipher.ENCRYPT_MODE, key);
+      return cipher;
+    } catch (final GeneralSecurityException e) {
+      log.error("Unable to initialise {} cipher. Error - {}", transformation, e.getMessage());
+      throw new FlexException(FlexErrorCode.GENERIC_ERROR);
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package com.billdesk.banks.benchmark;
+
+import com.billdesk.banks.support.CipherPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.Cipher;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyFactory;
+import java.security.KeyPairGenerator;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Card number and OTP encryption for one SBI book-loan under contention: key parsing and Cipher.getInstance per
+ * field as a baseline, two calls on the pool, and one batched call on the pool. Uses a generated RSA 2048 key with
+ * the pool sized below the thread count so borrowing contends.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class CipherPoolBenchmark {
+
+  private static final String TRANSFORMATION = "RSA/ECB/PKCS1Padding";
+  private String encodedKey;
+  private CipherPool cipherPool;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+
+    final KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+    generator.initialize(2048);
+    encodedKey = Base64.getEncoder().encodeToString(generator.generateKeyPair().getPublic().getEncoded());
+    cipherPool = new CipherPool(TRANSFORMATION, CipherPool.publicKey("RSA", encodedKey), 8);
+  }
+
+  @Benchmark
+  public String[] perCallCipher() throws Exception {
+
+    return new String[] { encryptPerCall(BenchmarkFixtures.CARD_NUMBER), encryptPerCall("223130") };
+  }
+
+  @Benchmark
+  public String[] pooledSingle() {
+
+    return new String[] { cipherPool.encrypt(BenchmarkFixtures.CARD_NUMBER), cipherPool.encrypt("223130") };
+  }
+
+  @Benchmark
+  public String[] pooledBatch() {
+
+    return cipherPool.encrypt(BenchmarkFixtures.CARD_NUMBER, "223130");
+  }
+
+  private String encryptPerCall(final String value) throws Exception {
+
+    final Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+    cipher.init(Cipher.ENCRYPT_MODE, KeyFactory.getInstance("RSA")
+                                               .generatePublic(new X509EncodedKeySpec(
+                                                 Base64.getDecoder().decode(encodedKey))));
+    return Base64.getEncoder().encodeToString(cipher.doFinal(value.getBytes(StandardCharsets.UTF_8)));
+  }
+}
@@ -0,0 +1,75 @@
+package com.billdesk.banks.support;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Cipher;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class CipherPoolTest {
+
+  private static final String TRANSFORMATION = "RSA/ECB/PKCS1Padding";
+  private static KeyPair keyPair;
+
+  @BeforeAll
+  static void generateKeys() throws Exception {
+
+    final KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+    generator.initialize(2048);
+    keyPair = generator.generateKeyPair();
+  }
+
+  @Test
+  void testEncryptSingleAndBatch() throws Exception {
+
+    final CipherPool cipherPool = new CipherPool(TRANSFORMATION, keyPair.getPublic(), 2);
+    Assertions.assertEquals("4000000000000002", decrypt(cipherPool.encrypt("4000000000000002")));
+    final String[] encrypted = cipherPool.encrypt("4000000000000002", "223130");
+    Assertions.assertEquals(2, encrypted.length);
+    Assertions.assertEquals("4000000000000002", decrypt(encrypted[0]));
+    Assertions.assertEquals("223130", decrypt(encrypted[1]));
+  }
+
+  @Test
+  void testParsedPublicKey() throws Exception {
+
+    final String encodedKey = Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded());
+    final CipherPool cipherPool = new CipherPool(TRANSFORMATION, CipherPool.publicKey("RSA", encodedKey), 1);
+    Assertions.assertEquals("223130", decrypt(cipherPool.encrypt("223130")));
+  }
+
+  @Test
+  void testConcurrentCallersBeyondPoolSize() throws Exception {
+
+    final CipherPool cipherPool = new CipherPool(TRANSFORMATION, keyPair.getPublic(), 1);
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      final List<Future<String[]>> results = new ArrayList<>();
+      for (int i = 0; i < 64; i++) {
+        final String otp = String.valueOf(100000 + i);
+        results.add(executor.submit(() -> new String[] { otp, cipherPool.encrypt("4000000000000002", otp)[1] }));
+      }
+      for (final Future<String[]> result : results) {
+        Assertions.assertEquals(result.get()[0], decrypt(result.get()[1]));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private String decrypt(final String encrypted) throws Exception {
+
+    final Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+    cipher.init(Cipher.DECRYPT_MODE, keyPair.getPrivate());
+    return new String(cipher.doFinal(Base64.getDecoder().decode(encrypted)), StandardCharsets.UTF_8);
+  }
+}
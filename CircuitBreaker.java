@@ -0,0 +1,151 @@
+package com.billdesk.banks.support;
+
+import com.billdesk.banks.config.CircuitBreakerConfig;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Count based circuit breaker for one bank operation. Trips open when either the failure rate or the slow call rate
+ * over the last windowSize calls crosses its threshold, rejects every call for openDurationMs, then lets
+ * halfOpenCalls probes through and closes or re-opens based on their outcome.
+ */
+public class CircuitBreaker {
+
+  public enum State {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  private static final byte SUCCESS = 0;
+  private static final byte FAILURE = 1;
+  private static final byte SLOW = 2;
+
+  private final CircuitBreakerConfig.Thresholds thresholds;
+  private final LongSupplier nanoClock;
+  private final BiConsumer<State, State> onTransition;
+  private final long slowCallNanos;
+  private final byte[] window;
+  private State state = State.CLOSED;
+  private int position;
+  private int calls;
+  private int failures;
+  private int slowCalls;
+  private long openedAt;
+  private int probesPermitted;
+
+  public CircuitBreaker(final CircuitBreakerConfig.Thresholds thresholds,
+                        final BiConsumer<State, State> onTransition) {
+
+    this(thresholds, System::nanoTime, onTransition);
+  }
+
+  CircuitBreaker(final CircuitBreakerConfig.Thresholds thresholds, final LongSupplier nanoClock,
+                 final BiConsumer<State, State> onTransition) {
+
+    this.thresholds = thresholds;
+    this.nanoClock = nanoClock;
+    this.onTransition = onTransition;
+    this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(thresholds.getSlowCallDurationMs());
+    this.window = new byte[thresholds.getWindowSize()];
+  }
+
+  public synchronized boolean tryAcquire() {
+
+    if (state == State.OPEN) {
+      if (nanoClock.getAsLong() - openedAt < TimeUnit.MILLISECONDS.toNanos(thresholds.getOpenDurationMs())) {
+        return false;
+      }
+      transition(State.HALF_OPEN);
+    }
+    if (state == State.HALF_OPEN) {
+      if (probesPermitted == 0) {
+        return false;
+      }
+      probesPermitted--;
+    }
+    return true;
+  }
+
+  /**
+   * Gives back a permit without recording an outcome, for calls cancelled by the caller.
+   */
+  public synchronized void release() {
+
+    if (state == State.HALF_OPEN) {
+      probesPermitted++;
+    }
+  }
+
+  public synchronized void record(final long durationNanos, final boolean failed) {
+
+    if (state == State.OPEN) {
+      // A call admitted before the breaker tripped, its outcome is already reflected
+      return;
+    }
+    final byte outcome = failed ? FAILURE : durationNanos >= slowCallNanos ? SLOW : SUCCESS;
+    if (calls == window.length) {
+      evict(window[position]);
+    } else {
+      calls++;
+    }
+    window[position] = outcome;
+    position = (position + 1) % window.length;
+    if (outcome == FAILURE) {
+      failures++;
+    } else if (outcome == SLOW) {
+      slowCalls++;
+    }
+    if (state == State.HALF_OPEN) {
+      if (outcome != SUCCESS) {
+        open();
+      } else if (calls >= thresholds.getHalfOpenCalls()) {
+        reset();
+        transition(State.CLOSED);
+      }
+    } else if (calls >= thresholds.getMinimumCalls()
+               && (failures * 100 >= thresholds.getFailureRateThreshold() * calls
+                   || slowCalls * 100 >= thresholds.getSlowCallRateThreshold() * calls)) {
+      open();
+    }
+  }
+
+  public synchronized State getState() {
+
+    return state;
+  }
+
+  private void open() {
+
+    reset();
+    openedAt = nanoClock.getAsLong();
+    transition(State.OPEN);
+  }
+
+  private void transition(final State next) {
+
+    final State previous = state;
+    state = next;
+    if (next == State.HALF_OPEN) {
+      probesPermitted = thresholds.getHalfOpenCalls();
+    }
+    onTransition.accept(previous, next);
+  }
+
+  private void evict(final byte outcome) {
+
+    if (outcome == FAILURE) {
+      failures--;
+    } else if (outcome == SLOW) {
+      slowCalls--;
+    }
+  }
+
+  private void reset() {
+
+    position = 0;
+    calls = 0;
+    failures = 0;
+    slowCalls = 0;
+  }
+}
@@ -0,0 +1,36 @@
+package com.billdesk.banks.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "circuit-breaker")
+public class CircuitBreakerConfig {
+
+  private Thresholds defaults = new Thresholds();
+  // Per bank overrides keyed by the bank name used by the client (icici, sbi, hdfc, axis)
+  private Map<String, Thresholds> banks = new HashMap<>();
+
+  public Thresholds forBank(final String bank) {
+
+    return banks.getOrDefault(bank, defaults);
+  }
+
+  @Data
+  public static class Thresholds {
+
+    // Number of most recent calls the failure and slow call rates are computed over
+    private int windowSize = 50;
+    private int minimumCalls = 20;
+    private int failureRateThreshold = 50;
+    private int slowCallRateThreshold = 80;
+    private long slowCallDurationMs = 5000;
+    private long openDurationMs = 10000;
+    private int halfOpenCalls = 5;
+  }
+}
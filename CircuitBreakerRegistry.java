@@ -0,0 +1,113 @@
+package com.billdesk.banks.support;
+
+import com.billdesk.banks.config.CircuitBreakerConfig;
+import com.billdesk.core.enums.FlexErrorCode;
+import com.billdesk.core.exception.FlexException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breakers per bank and operation (eligibility, generate-otp, validate-otp, book-loan). While a breaker is
+ * open calls fail immediately with TECHNICAL_ERROR instead of waiting out the bank timeouts. What counts as a failure
+ * is decided by {@link FlexExceptions#isBankFailure}: a business decline counts as a successful call, and a call the
+ * caller's deadline cut short or that was rejected before sending is not counted against the bank.
+ */
+@Component
+@Log4j2
+public class CircuitBreakerRegistry {
+
+  private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+  @Autowired
+  private CircuitBreakerConfig circuitBreakerConfig;
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  public <T> T execute(final String bank, final String operation, final Supplier<T> call) {
+
+    final CircuitBreaker circuitBreaker = acquire(bank, operation);
+    final long start = System.nanoTime();
+    boolean failed = true;
+    try {
+      final T response = call.get();
+      failed = false;
+      return response;
+    } catch (final FlexException e) {
+      failed = FlexExceptions.isBankFailure(e);
+      throw e;
+    } finally {
+      circuitBreaker.record(System.nanoTime() - start, failed);
+    }
+  }
+
+  public <T> Mono<T> executeAsync(final String bank, final String operation, final Mono<T> call) {
+
+    return Mono.defer(() -> {
+      final CircuitBreaker circuitBreaker = acquire(bank, operation);
+      final long start = System.nanoTime();
+      final AtomicBoolean recorded = new AtomicBoolean();
+      return call.doOnSuccess(response -> {
+                   if (recorded.compareAndSet(false, true)) {
+                     circuitBreaker.record(System.nanoTime() - start, false);
+                   }
+                 })
+                 .doOnError(e -> {
+                   if (recorded.compareAndSet(false, true)) {
+                     circuitBreaker.record(System.nanoTime() - start, FlexExceptions.isBankFailure(e));
+                   }
+                 })
+                 .doOnCancel(() -> {
+                   if (recorded.compareAndSet(false, true)) {
+                     circuitBreaker.release();
+                   }
+                 });
+    });
+  }
+
+  public CircuitBreaker forOperation(final String bank, final String operation) {
+
+    return circuitBreakers.computeIfAbsent(bank + ':' + operation, key -> {
+      final CircuitBreaker circuitBreaker =
+        new CircuitBreaker(circuitBreakerConfig.forBank(bank), (from, to) -> {
+          log.warn("Circuit breaker for {} {} moved from {} to {}", bank, operation, from, to);
+          Counter.builder("bank.circuit-breaker.transition")
+                 .tag("bank", bank)
+                 .tag("operation", operation)
+                 .tag("from", from.name())
+                 .tag("to", to.name())
+                 .register(meterRegistry)
+                 .increment();
+        });
+      Gauge.builder("bank.circuit-breaker.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+           .tag("bank", bank)
+           .tag("operation", operation)
+           .description("0 closed, 1 open, 2 half open")
+           .register(meterRegistry);
+      return circuitBreaker;
+    });
+  }
+
+  private CircuitBreaker acquire(final String bank, final String operation) {
+
+    final CircuitBreaker circuitBreaker = forOperation(bank, operation);
+    if (!circuitBreaker.tryAcquire()) {
+      Counter.builder("bank.circuit-breaker.rejected")
+             .tag("bank", bank)
+             .tag("operation", operation)
+             .register(meterRegistry)
+             .increment();
+      log.error("Circuit breaker for {} {} is {}, failing fast", bank, operation, circuitBreaker.getState());
+      throw FlexExceptions.rejected(FlexErrorCode.TECHNICAL_ERROR);
+    }
+    return circuitBreaker;
+  }
+}
@@ -0,0 +1,65 @@
+package com.billdesk.banks.support;
+
+import com.billdesk.banks.AbstractTest;
+import com.billdesk.banks.config.CircuitBreakerConfig;
+import com.billdesk.core.enums.FlexErrorCode;
+import com.billdesk.core.exception.FlexException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import reactor.core.publisher.Mono;
+
+public class CircuitBreakerRegistryTest extends AbstractTest {
+
+  private static final String BANK = "sbi";
+  private static final String OPERATION = "book-loan";
+  @Spy
+  private CircuitBreakerConfig circuitBreakerConfig = new CircuitBreakerConfig();
+  @Spy
+  private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  @InjectMocks
+  private CircuitBreakerRegistry circuitBreakerRegistry;
+
+  @BeforeEach
+  void setUp() {
+
+    circuitBreakerConfig.getDefaults().setWindowSize(10);
+    circuitBreakerConfig.getDefaults().setMinimumCalls(5);
+  }
+
+  @Test
+  void testBankDeclinesKeepBreakerClosed() {
+
+    for (int i = 0; i < 10; i++) {
+      Assertions.assertThrows(FlexException.class, () -> circuitBreakerRegistry.execute(BANK, OPERATION, () -> {
+        throw new FlexException(FlexErrorCode.INVALID_OTP);
+      }));
+    }
+    Assertions.assertEquals(CircuitBreaker.State.CLOSED,
+                            circuitBreakerRegistry.forOperation(BANK, OPERATION).getState());
+  }
+
+  @Test
+  void testTimeoutsOpenBreaker() {
+
+    for (int i = 0; i < 5; i++) {
+      Assertions.assertThrows(FlexException.class, () -> circuitBreakerRegistry.executeAsync(
+        BANK, OPERATION, Mono.error(new FlexException(FlexErrorCode.RESPONSE_TIMEOUT))).block());
+    }
+    Assertions.assertEquals(CircuitBreaker.State.OPEN, circuitBreakerRegistry.forOperation(BANK, OPERATION).getState());
+  }
+
+  @Test
+  void testCallerDeadlinesKeepBreakerClosed() {
+
+    for (int i = 0; i < 10; i++) {
+      Assertions.assertThrows(FlexException.class, () -> circuitBreakerRegistry.executeAsync(
+        BANK, OPERATION, Mono.error(FlexExceptions.deadlineExceeded())).block());
+    }
+    Assertions.assertEquals(CircuitBreaker.State.CLOSED,
+                            circuitBreakerRegistry.forOperation(BANK, OPERATION).getState());
+  }
+}
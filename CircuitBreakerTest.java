@@ -0,0 +1,81 @@
+package com.billdesk.banks.support;
+
+import com.billdesk.banks.config.CircuitBreakerConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class CircuitBreakerTest {
+
+  private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+  private static final long SLOW = TimeUnit.SECONDS.toNanos(6);
+
+  private final AtomicLong clock = new AtomicLong();
+  private final List<CircuitBreaker.State> transitions = new ArrayList<>();
+
+  @Test
+  void testOpensOnFailureRateAndRecoversThroughHalfOpen() {
+
+    final CircuitBreaker circuitBreaker = circuitBreaker();
+    for (int i = 0; i < 5; i++) {
+      call(circuitBreaker, FAST, i % 2 == 0);
+    }
+    Assertions.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    Assertions.assertFalse(circuitBreaker.tryAcquire());
+
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(11));
+    Assertions.assertTrue(circuitBreaker.tryAcquire());
+    Assertions.assertTrue(circuitBreaker.tryAcquire());
+    Assertions.assertFalse(circuitBreaker.tryAcquire());
+    circuitBreaker.record(FAST, false);
+    circuitBreaker.record(FAST, false);
+    Assertions.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    Assertions.assertEquals(List.of(CircuitBreaker.State.OPEN, CircuitBreaker.State.HALF_OPEN,
+                                    CircuitBreaker.State.CLOSED), transitions);
+  }
+
+  @Test
+  void testOpensOnSlowCallsAndReopensOnFailedProbe() {
+
+    final CircuitBreaker circuitBreaker = circuitBreaker();
+    for (int i = 0; i < 5; i++) {
+      call(circuitBreaker, SLOW, false);
+    }
+    Assertions.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(11));
+    call(circuitBreaker, FAST, true);
+    Assertions.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    Assertions.assertFalse(circuitBreaker.tryAcquire());
+  }
+
+  @Test
+  void testStaysClosedBelowThresholds() {
+
+    final CircuitBreaker circuitBreaker = circuitBreaker();
+    for (int i = 0; i < 100; i++) {
+      call(circuitBreaker, FAST, i % 4 == 0);
+    }
+    Assertions.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    Assertions.assertTrue(transitions.isEmpty());
+  }
+
+  private void call(final CircuitBreaker circuitBreaker, final long duration, final boolean failed) {
+
+    Assertions.assertTrue(circuitBreaker.tryAcquire());
+    circuitBreaker.record(duration, failed);
+  }
+
+  private CircuitBreaker circuitBreaker() {
+
+    final CircuitBreakerConfig.Thresholds thresholds = new CircuitBreakerConfig.Thresholds();
+    thresholds.setWindowSize(10);
+    thresholds.setMinimumCalls(5);
+    thresholds.setHalfOpenCalls(2);
+    return new CircuitBreaker(thresholds, clock::get, (from, to) -> transitions.add(to));
+  }
+}
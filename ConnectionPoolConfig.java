@@ -0,0 +1,19 @@
+package com.billdesk.banks.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "http.connection-pool")
+public class ConnectionPoolConfig {
+
+  private int maxConnections = 200;
+  private int pendingAcquireMaxCount = 500;
+  private long pendingAcquireTimeoutMillis = 5000;
+  private long maxIdleTimeMillis = 30000;
+  private long maxLifeTimeMillis = 300000;
+  private long evictInBackgroundMillis = 60000;
+  private boolean metricsEnabled = true;
+}
@@ -0,0 +1,132 @@
+package com.billdesk.banks.support;
+
+import com.billdesk.core.enums.FlexErrorCode;
+import com.billdesk.core.exception.FlexException;
+import lombok.extern.log4j.Log4j2;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Point in time by which a LeapNeo request must be answered. Created once per request in the controller and carried
+ * in the Reactor context, or in a thread local while a blocking bank service runs, so every bank hop is bounded by
+ * whatever budget is left instead of its own full timeout. An {@link #uncancellable()} deadline is only checked before
+ * a call is sent, for bank calls such as book-loan that must run to completion once the bank may have acted on them;
+ * such calls are also detached from their subscriber, so a client disconnect or the servlet async timeout cannot
+ * interrupt them either.
+ */
+@Log4j2
+public final class Deadline {
+
+  private static final String CONTEXT_KEY = Deadline.class.getName();
+  private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+  private final long expiresAtNanos;
+  private final boolean cancellable;
+
+  private Deadline(final long expiresAtNanos, final boolean cancellable) {
+
+    this.expiresAtNanos = expiresAtNanos;
+    this.cancellable = cancellable;
+  }
+
+  public static Deadline after(final Duration budget) {
+
+    return new Deadline(System.nanoTime() + budget.toNanos(), true);
+  }
+
+  /**
+   * The same deadline, but calls bounded by it only fail fast if it has passed before they start and are never
+   * cancelled in flight. Hops below see this deadline too, so they cannot cut the call short either.
+   */
+  public Deadline uncancellable() {
+
+    return cancellable ? new Deadline(expiresAtNanos, false) : this;
+  }
+
+  public boolean isCancellable() {
+
+    return cancellable;
+  }
+
+  /**
+   * The deadline of the request being served, from the Reactor context or the calling thread, or null outside one.
+   */
+  public static Deadline of(final ContextView context) {
+
+    return context.getOrDefault(CONTEXT_KEY, CURRENT.get());
+  }
+
+  /**
+   * Fails the request with RESPONSE_TIMEOUT if the calling thread's deadline has already passed.
+   */
+  public static void checkCurrent() {
+
+    final Deadline deadline = CURRENT.get();
+    if (deadline != null && deadline.isExpired()) {
+      throw expiredBeforeSend();
+    }
+  }
+
+  /**
+   * Runs a blocking bank call with this deadline visible to the clients it uses.
+   */
+  public <T> T callWithin(final Callable<T> call) throws Exception {
+
+    final Deadline previous = CURRENT.get();
+    CURRENT.set(this);
+    try {
+      return call.call();
+    } finally {
+      CURRENT.set(previous);
+    }
+  }
+
+  /**
+   * Bounds a call by the remaining budget and makes this deadline visible to the hops below it.
+   */
+  public <T> Mono<T> bound(final Mono<T> call) {
+
+    return Mono.defer(() -> isExpired()
+                            ? Mono.<T>error(expiredBeforeSend())
+                            : cancellable ? call.timeout(remaining()) : detached(call))
+               .onErrorMap(TimeoutException.class, e -> expired())
+               .contextWrite(Context.of(CONTEXT_KEY, this));
+  }
+
+  // Runs the call under its own subscription, so cancelling the returned Mono leaves it running and drops its result
+  private static <T> Mono<T> detached(final Mono<T> call) {
+
+    return Mono.deferContextual(context -> {
+      final Sinks.One<T> result = Sinks.one();
+      call.contextWrite(context).subscribe(result::tryEmitValue, result::tryEmitError, result::tryEmitEmpty);
+      return result.asMono();
+    });
+  }
+
+  public Duration remaining() {
+
+    return Duration.ofNanos(Math.max(0, expiresAtNanos - System.nanoTime()));
+  }
+
+  public boolean isExpired() {
+
+    return expiresAtNanos - System.nanoTime() <= 0;
+  }
+
+  private static FlexException expiredBeforeSend() {
+
+    log.error("Request deadline exceeded, not sending bank call");
+    return FlexExceptions.rejected(FlexErrorCode.RESPONSE_TIMEOUT);
+  }
+
+  private static FlexException expired() {
+
+    log.error("Request deadline exceeded, abandoning bank call");
+    return FlexExceptions.deadlineExceeded();
+  }
+}
@@ -0,0 +1,17 @@
+package com.billdesk.banks.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "leapneo.deadline")
+public class DeadlineConfig {
+
+  // Default end to end SLA per API when the caller does not send a deadline header
+  private long bookLoanMs = 30000;
+  private long eligibilityMs = 10000;
+  // Upper bound on a caller supplied deadline
+  private long maxMs = 60000;
+}
@@ -0,0 +1,70 @@
+package com.billdesk.banks.support;
+
+import com.billdesk.core.exception.FlexException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class DeadlineTest {
+
+  @Test
+  void testSlowCallIsCutAtDeadline() {
+
+    final Deadline deadline = Deadline.after(Duration.ofMillis(50));
+    final Mono<String> call = Mono.just("late").delayElement(Duration.ofSeconds(5));
+    final long start = System.nanoTime();
+    Assertions.assertThrows(FlexException.class, () -> deadline.bound(call).block());
+    Assertions.assertTrue(System.nanoTime() - start < Duration.ofSeconds(1).toNanos());
+  }
+
+  @Test
+  void testExpiredDeadlineSkipsCall() {
+
+    final Deadline deadline = Deadline.after(Duration.ZERO);
+    Assertions.assertTrue(deadline.isExpired());
+    Assertions.assertThrows(FlexException.class,
+                            () -> deadline.bound(Mono.fromCallable(() -> {
+                              throw new IllegalStateException("bank called after deadline");
+                            })).block());
+  }
+
+  @Test
+  void testUncancellableCallRunsToCompletion() {
+
+    final Deadline deadline = Deadline.after(Duration.ofMillis(50)).uncancellable();
+    final Mono<String> call = Mono.just("booked").delayElement(Duration.ofMillis(200));
+    Assertions.assertEquals("booked", deadline.bound(call).block());
+    Assertions.assertThrows(FlexException.class, () -> deadline.bound(call).block());
+  }
+
+  @Test
+  void testUncancellableCallSurvivesCancelledCaller() throws Exception {
+
+    final Deadline deadline = Deadline.after(Duration.ofSeconds(10)).uncancellable();
+    final AtomicBoolean cancelled = new AtomicBoolean();
+    final CountDownLatch booked = new CountDownLatch(1);
+    final Mono<String> call = Mono.just("booked")
+                                  .delayElement(Duration.ofMillis(100))
+                                  .doOnCancel(() -> cancelled.set(true))
+                                  .doOnSuccess(response -> booked.countDown());
+    deadline.bound(call).subscribe().dispose();
+    Assertions.assertTrue(booked.await(1, TimeUnit.SECONDS));
+    Assertions.assertFalse(cancelled.get());
+  }
+
+  @Test
+  void testDeadlineReachesNestedHops() throws Exception {
+
+    final Deadline deadline = Deadline.after(Duration.ofSeconds(10));
+    final Mono<Deadline> hop = Mono.deferContextual(context -> Mono.justOrEmpty(Deadline.of(context)));
+    Assertions.assertSame(deadline, deadline.bound(hop).block());
+    Assertions.assertNull(hop.block());
+    Assertions.assertSame(deadline, deadline.callWithin(hop::block));
+    Assertions.assertNull(hop.block());
+  }
+}
@@ -0,0 +1,22 @@
+package com.billdesk.banks.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashSet;
+import java.util.Set;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "eligibility.cache")
+public class EligibilityCacheConfig {
+
+  // Bank ids whose eligibility responses may be cached, empty disables the cache
+  private Set<String> enabledBanks = new HashSet<>();
+  private long ttlSeconds = 30;
+  // Upper bound on the serialized size of all cached responses
+  private long maxWeightBytes = 32 * 1024 * 1024;
+  // Requests whose amounts fall in the same band share a cached response, with their own amount stamped on it
+  private double amountBand = 1000;
+}
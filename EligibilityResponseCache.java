@@ -0,0 +1,145 @@
+package com.billdesk.banks.support;
+
+import com.billdesk.banks.config.EligibilityCacheConfig;
+import com.billdesk.core.model.EligibilityRequest;
+import com.billdesk.core.model.EligibilityResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.EqualsAndHashCode;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import javax.annotation.PostConstruct;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Short lived cache of successful eligibility responses for the banks listed in eligibility.cache.enabled-banks, so
+ * the repeated checks a checkout page fires for the same customer are answered without a bank call. Keys combine
+ * bankId, an HMAC of the customer identifiers, mercId, amount band and tenure; the HMAC key is generated at startup,
+ * so mobile, card and PAN values are never held in memory in clear and cannot be recovered by hashing guesses.
+ * Responses are kept serialized, which bounds the cache by weight, and every hit is a fresh copy with the request's
+ * own pgRefNo and amount stamped on it. Hit ratio is published as the cache.* metrics of the eligibility cache.
+ */
+@Component
+@Log4j2
+public class EligibilityResponseCache {
+
+  private static final String HMAC_ALGORITHM = "HmacSHA256";
+  private static final char IDENTIFIER_SEPARATOR = '|';
+  @Autowired
+  private EligibilityCacheConfig eligibilityCacheConfig;
+  @Autowired
+  private MeterRegistry meterRegistry;
+  @Autowired
+  private ObjectMapper objectMapper;
+  private Cache<Key, byte[]> cache;
+  private ThreadLocal<Mac> macs;
+
+  @PostConstruct
+  public void init() {
+
+    cache = Caffeine.newBuilder()
+                    .maximumWeight(eligibilityCacheConfig.getMaxWeightBytes())
+                    .weigher((final Key key, final byte[] response) -> response.length)
+                    .expireAfterWrite(Duration.ofSeconds(eligibilityCacheConfig.getTtlSeconds()))
+                    .recordStats()
+                    .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "eligibility");
+    final byte[] secret = new byte[32];
+    new SecureRandom().nextBytes(secret);
+    final SecretKeySpec keySpec = new SecretKeySpec(secret, HMAC_ALGORITHM);
+    macs = ThreadLocal.withInitial(() -> {
+      try {
+        final Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+        mac.init(keySpec);
+        return mac;
+      } catch (final GeneralSecurityException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+  }
+
+  public Mono<EligibilityResponse> execute(final EligibilityRequest eligibilityRequest,
+                                           final Supplier<Mono<EligibilityResponse>> checkEligibility) {
+
+    if (!eligibilityCacheConfig.getEnabledBanks().contains(eligibilityRequest.getBankId())) {
+      return checkEligibility.get();
+    }
+    final Key key = key(eligibilityRequest);
+    final byte[] cached = cache.getIfPresent(key);
+    if (cached != null) {
+      try {
+        return Mono.just(stamp(objectMapper.readValue(cached, EligibilityResponse.class), eligibilityRequest));
+      } catch (final IOException e) {
+        log.error("Unable to read cached eligibility response, calling the bank. Error - {}", e.getMessage());
+        cache.invalidate(key);
+      }
+    }
+    return Mono.defer(checkEligibility).doOnNext(response -> put(key, response));
+  }
+
+  private void put(final Key key, final EligibilityResponse response) {
+
+    try {
+      cache.put(key, objectMapper.writeValueAsBytes(response));
+    } catch (final IOException e) {
+      log.error("Unable to cache eligibility response. Error - {}", e.getMessage());
+    }
+  }
+
+  // The response echoes the request it answers, so a response shared within a band carries this request's values
+  private static EligibilityResponse stamp(final EligibilityResponse response,
+                                           final EligibilityRequest eligibilityRequest) {
+
+    response.setPgRefNo(eligibilityRequest.getPgRefNo());
+    response.setAmount(eligibilityRequest.getAmount());
+    return response;
+  }
+
+  private Key key(final EligibilityRequest eligibilityRequest) {
+
+    final StringBuilder identifier = new StringBuilder();
+    if (eligibilityRequest.getCardless() != null) {
+      identifier.append(eligibilityRequest.getCardless().getMobileNumber()).append(IDENTIFIER_SEPARATOR)
+                .append(eligibilityRequest.getCardless().getCardEnd()).append(IDENTIFIER_SEPARATOR)
+                .append(eligibilityRequest.getCardless().getPanNumber());
+    }
+    final long amountBand =
+      (long) Math.floor(eligibilityRequest.getAmount() / eligibilityCacheConfig.getAmountBand());
+    return new Key(eligibilityRequest.getBankId(),
+                   macs.get().doFinal(identifier.toString().getBytes(StandardCharsets.UTF_8)),
+                   eligibilityRequest.getMercId(), amountBand, eligibilityRequest.getTenure());
+  }
+
+  @EqualsAndHashCode
+  private static class Key {
+
+    private final String bankId;
+    private final byte[] identifierMac;
+    private final String mercId;
+    private final long amountBand;
+    private final Integer tenure;
+
+    Key(final String bankId, final byte[] identifierMac, final String mercId, final long amountBand,
+        final Integer tenure) {
+
+      this.bankId = bankId;
+      this.identifierMac = identifierMac;
+      this.mercId = mercId;
+      this.amountBand = amountBand;
+      this.tenure = tenure;
+    }
+  }
+}
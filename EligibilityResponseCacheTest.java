@@ -0,0 +1,113 @@
+package com.billdesk.banks.support;
+
+import com.billdesk.banks.AbstractTest;
+import com.billdesk.banks.config.EligibilityCacheConfig;
+import com.billdesk.core.model.EligibilityRequest;
+import com.billdesk.core.model.EligibilityResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class EligibilityResponseCacheTest extends AbstractTest {
+
+  private static final String HDFC_BANK_ID = "HL5";
+  @Spy
+  private EligibilityCacheConfig eligibilityCacheConfig = new EligibilityCacheConfig();
+  @Spy
+  private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  @Spy
+  private ObjectMapper objectMapper = new ObjectMapper();
+  @InjectMocks
+  private EligibilityResponseCache eligibilityResponseCache;
+  private final AtomicInteger calls = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() {
+
+    eligibilityCacheConfig.setEnabledBanks(Set.of(HDFC_BANK_ID));
+    eligibilityResponseCache.init();
+  }
+
+  @Test
+  void testResponseIsCachedForEnabledBank() {
+
+    final EligibilityRequest eligibilityRequest = getEligibilityRequest();
+    eligibilityRequest.setBankId(HDFC_BANK_ID);
+    final EligibilityResponse first = checkEligibility(eligibilityRequest);
+    final EligibilityResponse second = checkEligibility(eligibilityRequest);
+    Assertions.assertNotSame(first, second);
+    Assertions.assertEquals(first.getPgRefNo(), second.getPgRefNo());
+    Assertions.assertEquals(1, calls.get());
+  }
+
+  @Test
+  void testDisabledBankIsNotCached() {
+
+    final EligibilityRequest eligibilityRequest = getEligibilityRequest();
+    eligibilityRequest.setBankId("ICE");
+    checkEligibility(eligibilityRequest);
+    checkEligibility(eligibilityRequest);
+    Assertions.assertEquals(2, calls.get());
+  }
+
+  @Test
+  void testRecheckInSameBandGetsItsOwnIdsAndAmount() {
+
+    final EligibilityRequest eligibilityRequest = getEligibilityRequest();
+    eligibilityRequest.setBankId(HDFC_BANK_ID);
+    eligibilityRequest.setAmount(5000.00);
+    checkEligibility(eligibilityRequest);
+    final EligibilityRequest recheck = getEligibilityRequest();
+    recheck.setBankId(HDFC_BANK_ID);
+    recheck.setAmount(5400.00);
+    recheck.setPgRefNo(eligibilityRequest.getPgRefNo() + "1");
+    recheck.setTransactionId(eligibilityRequest.getTransactionId() + "1");
+    final EligibilityResponse response = checkEligibility(recheck);
+    Assertions.assertEquals(1, calls.get());
+    Assertions.assertEquals(recheck.getPgRefNo(), response.getPgRefNo());
+    Assertions.assertEquals(recheck.getAmount(), response.getAmount());
+  }
+
+  @Test
+  void testDifferentAmountBandIsNotShared() {
+
+    final EligibilityRequest eligibilityRequest = getEligibilityRequest();
+    eligibilityRequest.setBankId(HDFC_BANK_ID);
+    eligibilityRequest.setAmount(5000.00);
+    checkEligibility(eligibilityRequest);
+    eligibilityRequest.setAmount(6000.00);
+    checkEligibility(eligibilityRequest);
+    Assertions.assertEquals(2, calls.get());
+  }
+
+  @Test
+  void testDifferentCustomerIsNotShared() {
+
+    final EligibilityRequest eligibilityRequest = getEligibilityRequest();
+    eligibilityRequest.setBankId(HDFC_BANK_ID);
+    eligibilityRequest.getCardless().setMobileNumber("9000000001");
+    checkEligibility(eligibilityRequest);
+    eligibilityRequest.getCardless().setMobileNumber("9000000002");
+    checkEligibility(eligibilityRequest);
+    Assertions.assertEquals(2, calls.get());
+  }
+
+  private EligibilityResponse checkEligibility(final EligibilityRequest eligibilityRequest) {
+
+    return eligibilityResponseCache.execute(eligibilityRequest, () -> {
+      calls.incrementAndGet();
+      final EligibilityResponse eligibilityResponse = new EligibilityResponse();
+      eligibilityResponse.setPgRefNo(eligibilityRequest.getPgRefNo());
+      eligibilityResponse.setAmount(eligibilityRequest.getAmount());
+      return Mono.just(eligibilityResponse);
+    }).block();
+  }
+}
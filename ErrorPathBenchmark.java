@@ -0,0 +1,89 @@
+package com.billdesk.banks.benchmark;
+
+import com.billdesk.banks.support.BankErrorCodeTable;
+import com.billdesk.banks.support.FlexExceptions;
+import com.billdesk.core.enums.API;
+import com.billdesk.core.enums.FlexErrorCode;
+import com.billdesk.core.exception.FlexException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Throughput when every request fails, as during a bank incident: each operation throws a FlexException from
+ * {@code depth} frames down and catches it at the top, the way a declined call unwinds through the controller,
+ * Reactor and the bank client. Compares a FlexException with a full stack trace, the stackless one
+ * FlexExceptions creates for expected failures, and the one a BankErrorCodeTable lookup creates for a bank code.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class ErrorPathBenchmark {
+
+  private static final String BANK_CODE = "1111";
+  @Param({ "20", "120" })
+  private int depth;
+  private BankErrorCodeTable table;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+
+    table = BankErrorCodeTable.build(Map.of(API.ORDER_CONFIRMATION, List.of(BANK_CODE)),
+                                     (code, api) -> FlexErrorCode.TECHNICAL_ERROR);
+  }
+
+  @Benchmark
+  public FlexException fullStackTrace() {
+
+    return unwind(() -> new FlexException(FlexErrorCode.TECHNICAL_ERROR, API.ORDER_CONFIRMATION));
+  }
+
+  @Benchmark
+  public FlexException stackless() {
+
+    return unwind(() -> FlexExceptions.of(FlexErrorCode.TECHNICAL_ERROR, API.ORDER_CONFIRMATION));
+  }
+
+  @Benchmark
+  public FlexException bankErrorCodeTable() {
+
+    return unwind(() -> table.get(API.ORDER_CONFIRMATION, BANK_CODE));
+  }
+
+  private FlexException unwind(final Supplier<FlexException> failure) {
+
+    try {
+      call(depth, failure);
+      return null;
+    } catch (final FlexException e) {
+      return e;
+    }
+  }
+
+  private static void call(final int remaining, final Supplier<FlexException> failure) {
+
+    if (remaining == 0) {
+      throw failure.get();
+    }
+    call(remaining - 1, failure);
+  }
+}
@@ -0,0 +1,59 @@
+package com.billdesk.banks.config;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Selects where request handling and the blocking bank integrations run. With leapneo.execution.virtual-threads
+ * enabled, Tomcat hands requests to virtual threads and blocking service calls (SBI SOAP, HDFC, Axis) are
+ * offloaded to a virtual thread per task instead of the bounded elastic pool. Requires Java 21 at runtime only, the
+ * executor is looked up reflectively so the code still compiles and runs with the flag off on older JDKs.
+ */
+@Configuration
+@Log4j2
+public class ExecutionConfig {
+
+  public static final String VIRTUAL_THREADS_PROPERTY = "leapneo.execution.virtual-threads";
+  @Value("${" + VIRTUAL_THREADS_PROPERTY + ":false}")
+  private boolean virtualThreads;
+
+  @Bean(destroyMethod = "dispose")
+  public Scheduler bankCallScheduler() {
+
+    if (virtualThreads) {
+      log.info("Blocking bank calls will run on virtual threads");
+      return Schedulers.fromExecutorService(newVirtualThreadPerTaskExecutor(), "bank-call-vt");
+    }
+    return Schedulers.boundedElastic();
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = VIRTUAL_THREADS_PROPERTY, havingValue = "true")
+  public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+
+    log.info("Tomcat requests will run on virtual threads");
+    final ExecutorService executor = newVirtualThreadPerTaskExecutor();
+    return protocolHandler -> protocolHandler.setExecutor(executor);
+  }
+
+  private static ExecutorService newVirtualThreadPerTaskExecutor() {
+
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (final NoSuchMethodException e) {
+      throw new IllegalStateException(VIRTUAL_THREADS_PROPERTY + " requires Java 21, running on "
+                                      + System.getProperty("java.version"), e);
+    } catch (final ReflectiveOperationException e) {
+      throw new IllegalStateException("Unable to create a virtual thread executor", e);
+    }
+  }
+}
@@ -0,0 +1,120 @@
+package com.billdesk.banks.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.http.UniformDistribution;
+import lombok.extern.log4j.Log4j2;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives a running app with bursts of concurrent book-loan/eligibility calls while every bank stub answers after a
+ * fixed delay, and reports throughput, peak heap and peak live threads read from the app's actuator. Run it once
+ * against an app started with leapneo.execution.virtual-threads=false and once with true, with the bank urls
+ * pointing at the stub port. Every call carries its own pgRefNo and transactionId so none of them is answered by the
+ * idempotency or eligibility cache; pass uniqueIds=false for stubs that match on the ids.
+ *
+ * <pre>
+ * ExecutionModeBenchmark app=http://localhost:8080 request=book-loan.json path=/api/v1/leapneo/book-loan
+ *                        concurrency=1000,5000 latencyMs=2000 stubPort=8000 mappings=LEAPNEO_APIs.json
+ * </pre>
+ */
+@Log4j2
+public class ExecutionModeBenchmark {
+
+  private static final ObjectMapper objectMapper = new ObjectMapper();
+
+  public static void main(final String[] args) throws Exception {
+
+    final BenchmarkArgs benchmarkArgs = BenchmarkArgs.parse(args);
+    final String app = benchmarkArgs.get("app", "http://localhost:8080");
+    final String path = benchmarkArgs.get("path", "/api/v1/leapneo/book-loan");
+    final RequestBodies bodies =
+      new RequestBodies(new String(Files.readAllBytes(Paths.get(benchmarkArgs.get("request", "book-loan.json")))),
+                        Boolean.parseBoolean(benchmarkArgs.get("uniqueIds", "true")));
+    final long latencyMs = Long.parseLong(benchmarkArgs.get("latencyMs", "2000"));
+    final Path mappings = Paths.get(benchmarkArgs.get("mappings", "LEAPNEO_APIs.json"));
+    final int stubPort = Integer.parseInt(benchmarkArgs.get("stubPort", "8000"));
+    final HttpClient httpClient = HttpClient.newBuilder()
+                                            .executor(Executors.newFixedThreadPool(16))
+                                            .connectTimeout(Duration.ofSeconds(10))
+                                            .build();
+    try (StubServer ignored = StubServer.start(stubPort, mappings,
+                                               url -> new UniformDistribution((int) latencyMs, (int) latencyMs))) {
+      for (final String concurrency : benchmarkArgs.get("concurrency", "1000,5000").split(",")) {
+        run(httpClient, app, path, bodies, Integer.parseInt(concurrency.trim()));
+      }
+    }
+    System.exit(0);
+  }
+
+  private static void run(final HttpClient httpClient,
+                          final String app,
+                          final String path,
+                          final RequestBodies bodies,
+                          final int concurrency) {
+
+    final AtomicInteger errors = new AtomicInteger();
+    final AtomicLong peakHeap = new AtomicLong();
+    final AtomicLong peakThreads = new AtomicLong();
+    final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+    sampler.scheduleAtFixedRate(() -> {
+      peakHeap.accumulateAndGet(metric(httpClient, app, "jvm.memory.used?tag=area:heap"), Math::max);
+      peakThreads.accumulateAndGet(metric(httpClient, app, "jvm.threads.live"), Math::max);
+    }, 0, 200, TimeUnit.MILLISECONDS);
+    // Bodies are built up front so the burst itself is not slowed down by JSON handling
+    final List<HttpRequest> requests = new ArrayList<>(concurrency);
+    for (int i = 0; i < concurrency; i++) {
+      requests.add(HttpRequest.newBuilder(URI.create(app + path))
+                              .header("Content-Type", "application/json")
+                              .header("Accept", "application/json")
+                              .timeout(Duration.ofMinutes(2))
+                              .POST(HttpRequest.BodyPublishers.ofString(bodies.next()))
+                              .build());
+    }
+    final List<CompletableFuture<?>> calls = new ArrayList<>(concurrency);
+    final long start = System.nanoTime();
+    for (final HttpRequest request : requests) {
+      calls.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                          .whenComplete((response, e) -> {
+                            if (e != null || response.statusCode() >= 500) {
+                              errors.incrementAndGet();
+                            }
+                          }));
+    }
+    CompletableFuture.allOf(calls.toArray(new CompletableFuture[0])).exceptionally(e -> null).join();
+    final double seconds = (System.nanoTime() - start) / 1_000_000_000d;
+    sampler.shutdownNow();
+    log.info("concurrency={} elapsed={}s throughput={} req/s errors={} peakHeap={}MB peakThreads={}",
+             concurrency, String.format("%.2f", seconds), String.format("%.1f", concurrency / seconds),
+             errors.get(), peakHeap.get() / (1024 * 1024), peakThreads.get());
+  }
+
+  private static long metric(final HttpClient httpClient, final String app, final String metric) {
+
+    try {
+      final HttpResponse<String> response =
+        httpClient.send(HttpRequest.newBuilder(URI.create(app + "/actuator/metrics/" + metric)).build(),
+                        HttpResponse.BodyHandlers.ofString());
+      final JsonNode measurements = objectMapper.readTree(response.body()).path("measurements");
+      return measurements.size() == 0 ? 0 : measurements.get(0).path("value").asLong();
+    } catch (final Exception e) {
+      return 0;
+    }
+  }
+}
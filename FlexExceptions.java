@@ -0,0 +1,195 @@
+package com.billdesk.banks.support;
+
+import com.billdesk.core.enums.API;
+import com.billdesk.core.enums.FlexErrorCode;
+import com.billdesk.core.exception.FlexException;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Creates and classifies FlexExceptions from one table of what each error code means. FlexErrorCode is defined
+ * outside this service, so this table is where its metadata lives; stack traces, breaker failures and whether a
+ * request was sent are all decided from it. Codes for expected outcomes (a bank declining, a timeout, a rejected or
+ * short-circuited call) skip capturing the trace, which only ever points at the line that threw it; during a bank
+ * incident such outcomes are most responses, and the stack walk is what they cost. Every other code keeps the full
+ * trace. Calls refused before they were sent to the bank (bulkhead rejections, open breakers, deadlines that had
+ * already passed, duplicate book-loans) are created through {@link #rejected} so callers that must know whether the
+ * bank may have acted, such as the book-loan idempotency cache, can tell them apart. Calls abandoned because the
+ * caller's own deadline ran out are created through {@link #deadlineExceeded}; the deadline comes from the caller, so
+ * {@link #isBankFailure} does not hold them against the bank.
+ */
+public final class FlexExceptions {
+
+  private static final Map<FlexErrorCode, Outcome> OUTCOMES = new EnumMap<>(FlexErrorCode.class);
+
+  static {
+    outcome(Outcome.UNAVAILABLE, FlexErrorCode.RESPONSE_TIMEOUT, FlexErrorCode.TRANSACTION_TIMEOUT,
+            FlexErrorCode.EMI_TRANSACTION_TIMEOUT, FlexErrorCode.TECHNICAL_ERROR);
+    outcome(Outcome.OVERLOADED, FlexErrorCode.UNABLE_TO_PROCESS_REQUEST);
+    outcome(Outcome.DECLINED, FlexErrorCode.DUPLICATE_TRANSACTION_REQUEST, FlexErrorCode.TRANSACTION_ID_MISMATCH,
+            FlexErrorCode.INVALID_OTP, FlexErrorCode.OTP_MISMATCH, FlexErrorCode.INVALID_OTP_HDFC,
+            FlexErrorCode.CUSTOMER_NOT_ELIGIBLE, FlexErrorCode.OC_CUSTOMER_NOT_ELIGIBLE_FOR_AMOUNT,
+            FlexErrorCode.AMOUNT_NOT_ELIGIBLE_FOR_EMI, FlexErrorCode.INVALID_AMOUNT, FlexErrorCode.INVALID_LOAN_AMOUNT,
+            FlexErrorCode.INVALID_LOAN_AMOUNT_RANGE, FlexErrorCode.INVALID_TENURE_MONTHS,
+            FlexErrorCode.BANK_REFERENCE_NO_INVALID, FlexErrorCode.MOBILE_NO_UNAVAILABLE,
+            FlexErrorCode.CUSTOMER_DETAILS_NOT_FOUND, FlexErrorCode.CUSTOMER_PAN_MISMATCH,
+            FlexErrorCode.CUSTOMER_UNAVAILABLE, FlexErrorCode.PAYMENT_PROCESSING_FAILED,
+            FlexErrorCode.BLOCK_OFFER_FAILED, FlexErrorCode.EEE_CUSTOMER_NOT_ELIGIBLE_FOR_EMI,
+            FlexErrorCode.EEE_AMOUNT_NOT_ELIGIBLE, FlexErrorCode.EEE_OFFER_ALREADY_BLOCKED,
+            FlexErrorCode.EEE_OFFER_EXPIRED, FlexErrorCode.ETE_INPUT_VALUE_MISMATCH,
+            FlexErrorCode.IRE_INVALID_LOGIC_CODE, FlexErrorCode.IRE_INVALID_MOBILE_NUMBER,
+            FlexErrorCode.IRE_INVALID_UNIQUE_REFERENCE_NUMBER);
+    outcome(Outcome.FAILED, FlexErrorCode.GENERIC_ERROR, FlexErrorCode.INTERNAL_SERVER_ERROR,
+            FlexErrorCode.ETE_INVALID_RESPONSE_FROM_BANK);
+    outcome(Outcome.MALFORMED_REQUEST, FlexErrorCode.INVALID_REQUEST, FlexErrorCode.INVALID_JSON,
+            FlexErrorCode.EMPTY_JSON_REQUEST, FlexErrorCode.MANDATORY_FIELD_MISSING,
+            FlexErrorCode.MANDATORY_FIELD_DATA_MISSING, FlexErrorCode.FORMAT_MISMATCH,
+            FlexErrorCode.FIELD_LENGTH_EXCEEDED);
+  }
+
+  private FlexExceptions() {
+
+  }
+
+  public static boolean isExpected(final FlexErrorCode errorCode) {
+
+    return outcomeOf(errorCode).stackless;
+  }
+
+  public static FlexException of(final FlexErrorCode errorCode) {
+
+    return isExpected(errorCode) ? new StacklessFlexException(errorCode) : new FlexException(errorCode);
+  }
+
+  public static FlexException of(final FlexErrorCode errorCode, final API api) {
+
+    return isExpected(errorCode) ? new StacklessFlexException(errorCode, api) : new FlexException(errorCode, api);
+  }
+
+  /**
+   * An exception for a call refused before it was sent to the bank, always without a stack trace.
+   */
+  public static FlexException rejected(final FlexErrorCode errorCode) {
+
+    return new RejectedFlexException(errorCode);
+  }
+
+  public static FlexException rejected(final FlexErrorCode errorCode, final API api) {
+
+    return new RejectedFlexException(errorCode, api);
+  }
+
+  /**
+   * A RESPONSE_TIMEOUT for a call abandoned in flight because the caller's deadline ran out, without a stack trace.
+   */
+  public static FlexException deadlineExceeded() {
+
+    return new DeadlineExceededFlexException();
+  }
+
+  /**
+   * True when the failure says the bank is unhealthy: a transport error, or a timeout, technical or generic error code
+   * the bank call itself produced. Declines, calls rejected before sending and calls the caller's deadline cut short
+   * are not.
+   */
+  public static boolean isBankFailure(final Throwable e) {
+
+    if (!(e instanceof FlexException)) {
+      return true;
+    }
+    return !(e instanceof RejectedFlexException) && !(e instanceof DeadlineExceededFlexException)
+           && outcomeOf(((FlexException) e).getErrorCode()).bankFailure;
+  }
+
+  /**
+   * True when the failure proves the bank never acted on the request: the call was rejected before it was sent, or
+   * the request itself was malformed.
+   */
+  public static boolean isNotSent(final Throwable e) {
+
+    return e instanceof RejectedFlexException
+           || e instanceof FlexException && outcomeOf(((FlexException) e).getErrorCode()) == Outcome.MALFORMED_REQUEST;
+  }
+
+  private static Outcome outcomeOf(final FlexErrorCode errorCode) {
+
+    return errorCode == null ? Outcome.OTHER : OUTCOMES.getOrDefault(errorCode, Outcome.OTHER);
+  }
+
+  private static void outcome(final Outcome outcome, final FlexErrorCode... errorCodes) {
+
+    for (final FlexErrorCode errorCode : errorCodes) {
+      OUTCOMES.put(errorCode, outcome);
+    }
+  }
+
+  private enum Outcome {
+    // The bank did not answer in time or reported a technical fault
+    UNAVAILABLE(true, true),
+    // Refused under load, by this service or the bank
+    OVERLOADED(true, false),
+    // The bank answered and declined the request
+    DECLINED(true, false),
+    // The bank answered with something unusable, or the failure may be ours, so the trace is kept
+    FAILED(false, true),
+    // The request itself was malformed, so nothing was acted on whoever raised it
+    MALFORMED_REQUEST(false, false),
+    OTHER(false, false);
+
+    private final boolean stackless;
+    private final boolean bankFailure;
+
+    Outcome(final boolean stackless, final boolean bankFailure) {
+
+      this.stackless = stackless;
+      this.bankFailure = bankFailure;
+    }
+  }
+
+  private static class StacklessFlexException extends FlexException {
+
+    private static final long serialVersionUID = 1L;
+
+    StacklessFlexException(final FlexErrorCode errorCode) {
+
+      super(errorCode);
+    }
+
+    StacklessFlexException(final FlexErrorCode errorCode, final API api) {
+
+      super(errorCode, api);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+
+      return this;
+    }
+  }
+
+  private static final class DeadlineExceededFlexException extends StacklessFlexException {
+
+    private static final long serialVersionUID = 1L;
+
+    DeadlineExceededFlexException() {
+
+      super(FlexErrorCode.RESPONSE_TIMEOUT);
+    }
+  }
+
+  private static final class RejectedFlexException extends StacklessFlexException {
+
+    private static final long serialVersionUID = 1L;
+
+    RejectedFlexException(final FlexErrorCode errorCode) {
+
+      super(errorCode);
+    }
+
+    RejectedFlexException(final FlexErrorCode errorCode, final API api) {
+
+      super(errorCode, api);
+    }
+  }
+}
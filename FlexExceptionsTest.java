@@ -0,0 +1,54 @@
+package com.billdesk.banks.support;
+
+import com.billdesk.core.enums.API;
+import com.billdesk.core.enums.FlexErrorCode;
+import com.billdesk.core.exception.FlexException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class FlexExceptionsTest {
+
+  @Test
+  void testExpectedFailuresAreStackless() {
+
+    final FlexException timeout = FlexExceptions.of(FlexErrorCode.RESPONSE_TIMEOUT);
+    final FlexException rejected = FlexExceptions.of(FlexErrorCode.UNABLE_TO_PROCESS_REQUEST, API.ORDER_CONFIRMATION);
+    Assertions.assertEquals(0, timeout.getStackTrace().length);
+    Assertions.assertEquals(0, rejected.getStackTrace().length);
+    Assertions.assertTrue(FlexExceptions.isExpected(FlexErrorCode.TECHNICAL_ERROR));
+    final FlexException declined = FlexExceptions.of(FlexErrorCode.INVALID_OTP, API.ORDER_CONFIRMATION);
+    Assertions.assertEquals(0, declined.getStackTrace().length);
+  }
+
+  @Test
+  void testUnlistedErrorsKeepStackTrace() {
+
+    final FlexException exception = FlexExceptions.of(FlexErrorCode.INTERNAL_SERVER_ERROR, API.ORDER_CONFIRMATION);
+    Assertions.assertEquals(FlexException.class, exception.getClass());
+    Assertions.assertTrue(exception.getStackTrace().length > 0);
+    Assertions.assertTrue(FlexExceptions.of(FlexErrorCode.GENERIC_ERROR).getStackTrace().length > 0);
+    Assertions.assertTrue(FlexExceptions.of(FlexErrorCode.INVALID_JSON).getStackTrace().length > 0);
+    Assertions.assertFalse(FlexExceptions.isExpected(FlexErrorCode.INTERNAL_SERVER_ERROR));
+  }
+
+  @Test
+  void testBankFailureClassification() {
+
+    Assertions.assertTrue(FlexExceptions.isBankFailure(new IllegalStateException("connection reset")));
+    Assertions.assertTrue(FlexExceptions.isBankFailure(new FlexException(FlexErrorCode.TECHNICAL_ERROR)));
+    Assertions.assertTrue(FlexExceptions.isBankFailure(FlexExceptions.of(FlexErrorCode.RESPONSE_TIMEOUT)));
+    Assertions.assertFalse(FlexExceptions.isBankFailure(new FlexException(FlexErrorCode.CUSTOMER_NOT_ELIGIBLE)));
+    Assertions.assertFalse(FlexExceptions.isBankFailure(FlexExceptions.deadlineExceeded()));
+    Assertions.assertFalse(FlexExceptions.isBankFailure(FlexExceptions.rejected(FlexErrorCode.TECHNICAL_ERROR)));
+  }
+
+  @Test
+  void testOnlyRejectedAndMalformedRequestsAreNotSent() {
+
+    Assertions.assertTrue(FlexExceptions.isNotSent(FlexExceptions.rejected(FlexErrorCode.RESPONSE_TIMEOUT)));
+    Assertions.assertEquals(0, FlexExceptions.rejected(FlexErrorCode.TECHNICAL_ERROR).getStackTrace().length);
+    Assertions.assertTrue(FlexExceptions.isNotSent(new FlexException(FlexErrorCode.INVALID_JSON)));
+    Assertions.assertFalse(FlexExceptions.isNotSent(FlexExceptions.of(FlexErrorCode.RESPONSE_TIMEOUT)));
+    Assertions.assertFalse(FlexExceptions.isNotSent(new IllegalStateException()));
+  }
+}
@@ -0,0 +1,20 @@
+package com.billdesk.banks.hdfc.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "hdfc.oauth")
+public class HDFCOAuthConfig {
+
+  private String tokenUrl;
+  private String clientId;
+  private String clientSecret;
+  // Tokens are refreshed in the background this long before they expire
+  private long refreshBeforeExpirySeconds = 120;
+  // A token is never refreshed before this fraction of its lifetime has passed, whatever its expires_in
+  private double minRefreshFraction = 0.5;
+  private long timeoutMillis = 5000;
+}
@@ -0,0 +1,181 @@
+package com.billdesk.banks.hdfc.impl;
+
+import com.billdesk.banks.hdfc.config.HDFCOAuthConfig;
+import com.billdesk.banks.hdfc.model.OAuthTokenResponse;
+import com.billdesk.banks.support.HttpClientFactory;
+import com.billdesk.core.enums.FlexErrorCode;
+import com.billdesk.core.exception.FlexException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches HDFC client-credentials tokens per scope. A token is refreshed in the background shortly before it expires,
+ * and concurrent callers that find no valid token share a single in-flight token call.
+ */
+@Component
+@Log4j2
+public class HDFCTokenManager {
+
+  private static final String POOL_NAME = "hdfc-oauth";
+  private final Map<String, CachedToken> tokens = new ConcurrentHashMap<>();
+  private final Map<String, CompletableFuture<CachedToken>> inFlight = new ConcurrentHashMap<>();
+  // At most one pending background refresh per scope, only touched from the refresher thread
+  private final Map<String, ScheduledFuture<?>> scheduledRefreshes = new ConcurrentHashMap<>();
+  @Autowired
+  private HDFCOAuthConfig oAuthConfig;
+  @Autowired
+  private HttpClientFactory httpClientFactory;
+  @Autowired
+  private MeterRegistry meterRegistry;
+  private WebClient webClient;
+  private ScheduledExecutorService refresher;
+  private Counter hits;
+  private Counter misses;
+  private Counter refreshes;
+
+  @PostConstruct
+  public void init() {
+
+    webClient = WebClient.builder()
+                         .clientConnector(new ReactorClientHttpConnector(httpClientFactory.create(POOL_NAME)))
+                         .build();
+    refresher = newRefresher();
+    hits = Counter.builder("hdfc.oauth.token").tag("result", "hit").register(meterRegistry);
+    misses = Counter.builder("hdfc.oauth.token").tag("result", "miss").register(meterRegistry);
+    refreshes = Counter.builder("hdfc.oauth.token").tag("result", "refresh").register(meterRegistry);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+
+    refresher.shutdownNow();
+  }
+
+  ScheduledExecutorService newRefresher() {
+
+    return Executors.newSingleThreadScheduledExecutor(runnable -> {
+      final Thread thread = new Thread(runnable, "hdfc-token-refresher");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  public String getToken(final String scope) {
+
+    final CachedToken token = tokens.get(scope);
+    if (token != null && !token.isExpired()) {
+      hits.increment();
+      return token.value;
+    }
+    misses.increment();
+    try {
+      return refresh(scope).join().value;
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof FlexException) {
+        throw (FlexException) e.getCause();
+      }
+      throw new FlexException(FlexErrorCode.GENERIC_ERROR);
+    }
+  }
+
+  // Called when HDFC rejects a token before its advertised expiry
+  public void invalidate(final String scope) {
+
+    tokens.remove(scope);
+  }
+
+  CompletableFuture<CachedToken> refresh(final String scope) {
+
+    final CompletableFuture<CachedToken> created = new CompletableFuture<>();
+    final CompletableFuture<CachedToken> existing = inFlight.putIfAbsent(scope, created);
+    if (existing != null) {
+      return existing;
+    }
+    refresher.execute(() -> {
+      try {
+        final OAuthTokenResponse response = fetchToken(scope);
+        final CachedToken token = new CachedToken(response.getAccessToken(),
+                                                  System.nanoTime() + TimeUnit.SECONDS.toNanos(response.getExpiresIn()));
+        tokens.put(scope, token);
+        refreshes.increment();
+        scheduleRefresh(scope, response.getExpiresIn());
+        created.complete(token);
+      } catch (final Exception e) {
+        log.error("Unable to fetch HDFC OAuth token for scope {}. Error - {}", scope, e.getMessage());
+        created.completeExceptionally(e);
+      } finally {
+        inFlight.remove(scope, created);
+      }
+    });
+    return created;
+  }
+
+  OAuthTokenResponse fetchToken(final String scope) {
+
+    final OAuthTokenResponse response =
+      webClient.post()
+               .uri(oAuthConfig.getTokenUrl() + "?grant_type=client_credentials&scope={scope}", scope)
+               .headers(httpHeaders -> httpHeaders.setBasicAuth(oAuthConfig.getClientId(),
+                                                                 oAuthConfig.getClientSecret()))
+               .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+               .retrieve()
+               .bodyToMono(OAuthTokenResponse.class)
+               .block(Duration.ofMillis(oAuthConfig.getTimeoutMillis()));
+    if (response == null || response.getAccessToken() == null) {
+      throw new FlexException(FlexErrorCode.GENERIC_ERROR);
+    }
+    return response;
+  }
+
+  // Replaces any refresh already pending for the scope, so refreshes after a miss or invalidation do not chain up
+  private void scheduleRefresh(final String scope, final long expiresInSeconds) {
+
+    if (expiresInSeconds <= 0) {
+      return;
+    }
+    // Short lived tokens would otherwise be refreshed immediately, over and over
+    final long floor = (long) Math.ceil(expiresInSeconds * oAuthConfig.getMinRefreshFraction());
+    final long delay = Math.max(floor, expiresInSeconds - oAuthConfig.getRefreshBeforeExpirySeconds());
+    final ScheduledFuture<?> previous =
+      scheduledRefreshes.put(scope, refresher.schedule(() -> refresh(scope), delay, TimeUnit.SECONDS));
+    if (previous != null) {
+      previous.cancel(false);
+    }
+  }
+
+  static class CachedToken {
+
+    private final String value;
+    private final long expiresAtNanos;
+
+    CachedToken(final String value, final long expiresAtNanos) {
+
+      this.value = value;
+      this.expiresAtNanos = expiresAtNanos;
+    }
+
+    boolean isExpired() {
+
+      return System.nanoTime() - expiresAtNanos >= 0;
+    }
+  }
+}
@@ -0,0 +1,171 @@
+package com.billdesk.banks.hdfc.impl;
+
+import com.billdesk.banks.AbstractTest;
+import com.billdesk.banks.hdfc.config.HDFCOAuthConfig;
+import com.billdesk.banks.hdfc.model.OAuthTokenResponse;
+import com.billdesk.banks.support.HttpClientFactory;
+import com.billdesk.core.exception.FlexException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import reactor.netty.http.client.HttpClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class HDFCTokenManagerTest extends AbstractTest {
+
+  private static final String SCOPE = "1072";
+  private static final String ACCESS_TOKEN = "amtWaY8l9pWPqhxQlF7cTYNhaUzP";
+  @Spy
+  private HDFCOAuthConfig oAuthConfig = new HDFCOAuthConfig();
+  @Spy
+  private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  @Mock
+  private HttpClientFactory httpClientFactory;
+  @Mock
+  private ScheduledExecutorService refresher;
+  @Spy
+  @InjectMocks
+  private HDFCTokenManager tokenManager;
+  // Refresh tasks handed to the executor, run inline unless deferred
+  private final List<Runnable> pendingRefreshes = new ArrayList<>();
+  private final List<ScheduledFuture<?>> scheduled = new ArrayList<>();
+  private final List<Long> scheduledDelays = new ArrayList<>();
+  private boolean deferRefreshes;
+
+  @BeforeEach
+  void setUp() {
+
+    when(httpClientFactory.create(anyString())).thenReturn(HttpClient.create());
+    doReturn(refresher).when(tokenManager).newRefresher();
+    doAnswer(invocation -> {
+      final Runnable task = invocation.getArgument(0);
+      if (deferRefreshes) {
+        pendingRefreshes.add(task);
+      } else {
+        task.run();
+      }
+      return null;
+    }).when(refresher).execute(any(Runnable.class));
+    // Not every test gets as far as scheduling a refresh
+    lenient().when(refresher.schedule(any(Runnable.class), anyLong(), eq(TimeUnit.SECONDS)))
+             .thenAnswer(invocation -> {
+               final ScheduledFuture<?> future = mock(ScheduledFuture.class);
+               scheduled.add(future);
+               scheduledDelays.add(invocation.getArgument(1));
+               return future;
+             });
+    tokenManager.init();
+  }
+
+  @AfterEach
+  void tearDown() {
+
+    tokenManager.shutdown();
+  }
+
+  @Test
+  void testTokenIsCached() {
+
+    doReturn(getTokenResponse()).when(tokenManager).fetchToken(SCOPE);
+    Assertions.assertEquals(ACCESS_TOKEN, tokenManager.getToken(SCOPE));
+    Assertions.assertEquals(ACCESS_TOKEN, tokenManager.getToken(SCOPE));
+    verify(tokenManager, times(1)).fetchToken(SCOPE);
+    Assertions.assertEquals(1, meterRegistry.counter("hdfc.oauth.token", "result", "hit").count());
+    Assertions.assertEquals(1, meterRegistry.counter("hdfc.oauth.token", "result", "miss").count());
+  }
+
+  @Test
+  void testConcurrentCallersShareOneRefresh() {
+
+    deferRefreshes = true;
+    doReturn(getTokenResponse()).when(tokenManager).fetchToken(SCOPE);
+    final List<CompletableFuture<HDFCTokenManager.CachedToken>> callers = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      callers.add(tokenManager.refresh(SCOPE));
+    }
+    Assertions.assertEquals(1, pendingRefreshes.size());
+    pendingRefreshes.get(0).run();
+    for (final CompletableFuture<HDFCTokenManager.CachedToken> caller : callers) {
+      Assertions.assertSame(callers.get(0), caller);
+      Assertions.assertTrue(caller.isDone());
+    }
+    Assertions.assertEquals(ACCESS_TOKEN, tokenManager.getToken(SCOPE));
+    verify(tokenManager, times(1)).fetchToken(SCOPE);
+  }
+
+  @Test
+  void testRefreshReplacesPendingScheduledRefresh() {
+
+    doReturn(getTokenResponse()).when(tokenManager).fetchToken(SCOPE);
+    tokenManager.getToken(SCOPE);
+    tokenManager.invalidate(SCOPE);
+    tokenManager.getToken(SCOPE);
+    Assertions.assertEquals(2, scheduled.size());
+    verify(scheduled.get(0)).cancel(false);
+    verify(scheduled.get(1), never()).cancel(anyBoolean());
+    Assertions.assertEquals(3600L - 120, scheduledDelays.get(1));
+  }
+
+  @Test
+  void testShortLivedTokenIsNotRefreshedImmediately() {
+
+    final OAuthTokenResponse response = getTokenResponse();
+    response.setExpiresIn(60);
+    doReturn(response).when(tokenManager).fetchToken(SCOPE);
+    tokenManager.getToken(SCOPE);
+    Assertions.assertEquals(List.of(30L), scheduledDelays);
+  }
+
+  @Test
+  void testInvalidateForcesRefresh() {
+
+    doReturn(getTokenResponse()).when(tokenManager).fetchToken(SCOPE);
+    tokenManager.getToken(SCOPE);
+    tokenManager.invalidate(SCOPE);
+    tokenManager.getToken(SCOPE);
+    verify(tokenManager, times(2)).fetchToken(SCOPE);
+  }
+
+  @Test
+  void testTokenFailure() {
+
+    doThrow(new RuntimeException()).when(tokenManager).fetchToken(SCOPE);
+    Assertions.assertThrows(FlexException.class, () -> tokenManager.getToken(SCOPE));
+  }
+
+  private OAuthTokenResponse getTokenResponse() {
+
+    final OAuthTokenResponse response = new OAuthTokenResponse();
+    response.setTokenType("Bearer");
+    response.setAccessToken(ACCESS_TOKEN);
+    response.setScope(SCOPE);
+    response.setExpiresIn(3600);
+    return response;
+  }
+}
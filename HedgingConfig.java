@@ -0,0 +1,28 @@
+package com.billdesk.banks.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashSet;
+import java.util.Set;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "hedging")
+public class HedgingConfig {
+
+  // Bank names (icici, hdfc) whose clients may hedge, empty disables hedging
+  private Set<String> enabledBanks = new HashSet<>();
+  // Only read-only operations may be listed here, book-loan and OTP operations must never be hedged
+  private Set<String> operations = new HashSet<>(Set.of("eligibility"));
+  // The hedge is sent once the first request is slower than this percentile of recent latencies
+  private double percentile = 0.95;
+  private long minDelayMs = 50;
+  // Used until minSamples latencies have been observed
+  private long defaultDelayMs = 500;
+  private int minSamples = 100;
+  // Hedges allowed per 100 requests, with at most maxBurst hedges saved up
+  private int budgetPercent = 10;
+  private int maxBurst = 10;
+}
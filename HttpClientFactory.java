@@ -0,0 +1,53 @@
+package com.billdesk.banks.support;
+
+import com.billdesk.banks.config.ConnectionPoolConfig;
+import com.billdesk.banks.config.ProxyConfig;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.transport.ProxyProvider;
+
+import java.time.Duration;
+
+@Component
+@Log4j2
+public class HttpClientFactory {
+
+  @Autowired
+  private ConnectionPoolConfig connectionPoolConfig;
+  @Autowired
+  private ProxyConfig proxyConfig;
+
+  /**
+   * Creates a keep-alive HttpClient backed by a dedicated connection pool for the given bank. The pool name is
+   * used as the metrics tag, so connection reuse per bank is visible under reactor.netty.connection.provider.*.
+   */
+  public HttpClient create(final String bankName) {
+
+    final ConnectionProvider connectionProvider =
+      ConnectionProvider.builder(bankName)
+                        .maxConnections(connectionPoolConfig.getMaxConnections())
+                        .pendingAcquireMaxCount(connectionPoolConfig.getPendingAcquireMaxCount())
+                        .pendingAcquireTimeout(Duration.ofMillis(connectionPoolConfig.getPendingAcquireTimeoutMillis()))
+                        .maxIdleTime(Duration.ofMillis(connectionPoolConfig.getMaxIdleTimeMillis()))
+                        .maxLifeTime(Duration.ofMillis(connectionPoolConfig.getMaxLifeTimeMillis()))
+                        .evictInBackground(Duration.ofMillis(connectionPoolConfig.getEvictInBackgroundMillis()))
+                        .metrics(connectionPoolConfig.isMetricsEnabled())
+                        .build();
+    HttpClient httpClient = HttpClient.create(connectionProvider)
+                                      .keepAlive(true)
+                                      .metrics(connectionPoolConfig.isMetricsEnabled(), uri -> bankName);
+    // Add the proxy config
+    if (StringUtils.isNotBlank(proxyConfig.getHost()) && proxyConfig.getPort() != null) {
+      httpClient = httpClient.proxy(proxy -> proxy.type(ProxyProvider.Proxy.HTTP)
+                                                  .host(proxyConfig.getHost())
+                                                  .port(proxyConfig.getPort()));
+    }
+    log.info("Created pooled http client for {} with max connections {}", bankName,
+             connectionPoolConfig.getMaxConnections());
+    return httpClient;
+  }
+}
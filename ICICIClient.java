@@ -1,108 +1,163 @@
 package com.billdesk.banks.icici.impl;
 
-import com.billdesk.banks.config.ProxyConfig;
 import com.billdesk.banks.icici.config.ICICIConfig;
+import com.billdesk.banks.service.ReactiveClient;
+import com.billdesk.banks.support.BulkheadRegistry;
+import com.billdesk.banks.support.CircuitBreakerRegistry;
+import com.billdesk.banks.support.Deadline;
+import com.billdesk.banks.support.HttpClientFactory;
+import com.billdesk.banks.support.RequestHedger;
+import com.billdesk.banks.support.SslContextCache;
 import com.billdesk.core.enums.FlexErrorCode;
 import com.billdesk.core.exception.FlexException;
-import com.billdesk.core.service.Client;
 import io.netty.handler.ssl.SslContext;
-import io.netty.handler.ssl.SslContextBuilder;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Service;
-import org.springframework.util.ResourceUtils;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 import reactor.netty.http.client.HttpClient;
-import reactor.netty.transport.ProxyProvider;
+import reactor.netty.http.client.HttpClientRequest;
 
-import javax.net.ssl.TrustManagerFactory;
-import java.nio.file.Files;
-import java.security.KeyStore;
-import java.util.HashMap;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Properties;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.billdesk.banks.icici.constants.AppConstants.API_KEY;
 
 @Service
 @Log4j2
-public class ICICIClient implements Client {
+public class ICICIClient implements ReactiveClient {
 
+  private static final String POOL_NAME = "icici";
+  // ICICI exposes one endpoint per operation, named here as every bank's breaker and hedging metrics name them
+  private static final Map<String, String> OPERATIONS = Map.of("EligibilityBillDesk", "eligibility",
+                                                               "ValidationBillDesk", "validate-otp",
+                                                               "ConfirmationBillDesk", "book-loan");
   @Autowired
-  private ProxyConfig proxyConfig;
+  private HttpClientFactory httpClientFactory;
+  @Autowired
+  private SslContextCache sslContextCache;
+  @Autowired
+  private BulkheadRegistry bulkheadRegistry;
+  @Autowired
+  private CircuitBreakerRegistry circuitBreakerRegistry;
+  @Autowired
+  private RequestHedger requestHedger;
   @Autowired
   private ICICIConfig iciciConfig;
+  private volatile WebClient webClient;
+  private volatile HttpHeaders defaultHeaders;
+  private final AtomicBoolean rotationListenerRegistered = new AtomicBoolean();
 
   public WebClient getConnection() {
-    // If no keystore and proxy details supplied then just return the normal webclient
-    if ((StringUtils.isBlank(iciciConfig.getKeyStorePath()) && StringUtils.isBlank(iciciConfig.getKeyStorePass())) && StringUtils.isBlank(
-      proxyConfig.getHost())) {
-      return WebClient.builder().build();
-    }
-    try {
-      final HttpClient httpClient = HttpClient.create();
-      // Add the proxy config
-      if (StringUtils.isNotBlank(proxyConfig.getHost()) && proxyConfig.getPort() != null) {
-        httpClient.tcpConfiguration(tcpClient -> tcpClient.proxy(proxy -> proxy.type(ProxyProvider.Proxy.HTTP)
-                                                                               .host(proxyConfig.getHost()))
-                                                          .port(proxyConfig.getPort()));
+
+    WebClient connection = webClient;
+    if (connection == null) {
+      synchronized (this) {
+        connection = webClient;
+        if (connection == null) {
+          connection = createConnection();
+          webClient = connection;
+        }
       }
-      // Read client certificate from JKS and set it to the trust store
-      final KeyStore trustStore = KeyStore.getInstance("JKS");
-      trustStore.load(Files.newInputStream(ResourceUtils.getFile(iciciConfig.getKeyStorePath())
-                                                        .toPath()),
-                      iciciConfig.getKeyStorePass().toCharArray());
-      final TrustManagerFactory trustManagerFactory =
-        TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
-      trustManagerFactory.init(trustStore);
-      final SslContext sslContext =
-        SslContextBuilder.forClient().protocols("TLS").trustManager(trustManagerFactory).build();
-      httpClient.secure(spec -> spec.sslContext(sslContext));
-      return WebClient.builder()
-                      .clientConnector(new ReactorClientHttpConnector(httpClient))
-                      .build();
-    } catch (final Exception e) {
-      log.error("Encountered error while creating SSL Context. Error - {}", e.getMessage());
-      throw new FlexException(FlexErrorCode.GENERIC_ERROR);
     }
+    return connection;
+  }
+
+  private WebClient createConnection() {
+
+    final HttpClient httpClient = httpClientFactory.create(POOL_NAME);
+    // If no keystore details supplied then just use the pooled client without custom trust store
+    if (StringUtils.isBlank(iciciConfig.getKeyStorePath()) && StringUtils.isBlank(iciciConfig.getKeyStorePass())) {
+      return buildWebClient(httpClient);
+    }
+    final SslContext sslContext =
+      sslContextCache.get(iciciConfig.getKeyStorePath(), iciciConfig.getKeyStorePass());
+    // Swap to a client with the rotated certificate, in-flight requests complete on the previous one. Registered
+    // once the keystore has loaded, so failed connection attempts do not pile up listeners.
+    if (rotationListenerRegistered.compareAndSet(false, true)) {
+      sslContextCache.onRotation(iciciConfig.getKeyStorePath(),
+                                 rotated -> webClient = buildWebClient(httpClient.secure(spec -> spec.sslContext(
+                                   rotated))));
+    }
+    return buildWebClient(httpClient.secure(spec -> spec.sslContext(sslContext)));
+  }
+
+  private WebClient buildWebClient(final HttpClient httpClient) {
+
+    return WebClient.builder()
+                    .clientConnector(new ReactorClientHttpConnector(httpClient))
+                    .build();
+  }
+
+  @Override
+  public <K, T> Mono<K> sendAsync(final String url, final T request, final Class<K> clazz) {
+
+    final Mono<K> call = Mono.deferContextual(context -> {
+      final HttpHeaders headers = getDefaultHeaders();
+      final Deadline deadline = Deadline.of(context);
+      final WebClient.RequestBodySpec requestSpec = getConnection().post()
+                                                                   .uri(url)
+                                                                   .headers(httpHeaders -> httpHeaders.addAll(headers));
+      // The read timeout of this hop is what is left of the request's deadline, so a late response closes the
+      // connection instead of holding it until the pool's defaults give up. Connect timeouts are set per client.
+      if (deadline != null && deadline.isCancellable()) {
+        final Duration responseTimeout = deadline.remaining();
+        requestSpec.httpRequest(httpRequest -> httpRequest.<HttpClientRequest>getNativeRequest()
+                                                          .responseTimeout(responseTimeout));
+      }
+      final Mono<K> exchange = requestSpec.bodyValue(request)
+                                          .retrieve()
+                                          .bodyToMono(clazz);
+      // Connect, write and read of this hop together get whatever is left of the request's deadline
+      return deadline == null ? exchange : deadline.bound(exchange);
+    });
+    final String operation = operationOf(url);
+    // Breaker outside the bulkhead so short-circuited calls never take a permit, each hedged copy takes its own
+    return circuitBreakerRegistry.executeAsync(POOL_NAME, operation, requestHedger.execute(
+                                   POOL_NAME, operation, () -> bulkheadRegistry.executeAsync(POOL_NAME, call)))
+                                 .onErrorMap(e -> !(e instanceof FlexException), e -> {
+                                   log.error("Encountered exception while sending the request. Details - {}",
+                                             e.getMessage());
+                                   return new FlexException(FlexErrorCode.GENERIC_ERROR);
+                                 });
   }
 
   @Override
-  public <K, T> K send(final String url, final T request, final Class<K> clazz) {
-
-    try {
-      final Properties headers = this.getHeaders();
-      return getConnection().post()
-                            .uri(url)
-                            .headers(httpHeaders -> httpHeaders.setAll(this.getHeadersMap(headers)))
-                            .bodyValue(request)
-                            .retrieve()
-                            .bodyToMono(clazz)
-                            .block();
-    } catch (final Exception e) {
-      log.error("Encountered exception while sending the request. Details - {}", e.getMessage());
-      throw new FlexException(FlexErrorCode.GENERIC_ERROR);
+  public HttpHeaders getDefaultHeaders() {
+
+    // Racing first callers may each build the headers, they are identical and immutable
+    HttpHeaders headers = defaultHeaders;
+    if (headers == null) {
+      headers = buildDefaultHeaders();
+      defaultHeaders = headers;
     }
+    return headers;
   }
 
   @Override
   public Properties getHeaders() {
 
-    final Properties headers = Client.super.getHeaders();
+    final Properties headers = ReactiveClient.super.getHeaders();
     headers.put(API_KEY, iciciConfig.getApikey());
     return headers;
   }
 
-  private Map<String, String> getHeadersMap(final Properties properties) {
+  private static String operationOf(final String url) {
+
+    final String endpoint = url.substring(url.lastIndexOf('/') + 1);
+    return OPERATIONS.getOrDefault(endpoint, endpoint);
+  }
+
+  private HttpHeaders buildDefaultHeaders() {
 
-    return properties.entrySet()
-                     .stream()
-                     .collect(Collectors.toMap(e -> String.valueOf(e.getKey()),
-                                               e -> String.valueOf(e.getValue()),
-                                               (prev, next) -> next,
-                                               HashMap::new));
+    final HttpHeaders headers = new HttpHeaders();
+    getHeaders().forEach((name, value) -> headers.set(String.valueOf(name), String.valueOf(value)));
+    return HttpHeaders.readOnlyHttpHeaders(headers);
   }
 }
@@ -1,10 +1,14 @@
 package com.billdesk.banks.icici.impl;
 
 import com.billdesk.banks.AbstractTest;
-import com.billdesk.banks.config.ProxyConfig;
 import com.billdesk.banks.icici.config.ICICIConfig;
 import com.billdesk.banks.icici.model.ICICIEligibilityRequest;
 import com.billdesk.banks.icici.model.ICICIEligibilityResponse;
+import com.billdesk.banks.support.BulkheadRegistry;
+import com.billdesk.banks.support.CircuitBreakerRegistry;
+import com.billdesk.banks.support.HttpClientFactory;
+import com.billdesk.banks.support.RequestHedger;
+import com.billdesk.banks.support.SslContextCache;
 import com.billdesk.core.exception.FlexException;
 import com.billdesk.core.model.EligibilityRequest;
 import lombok.SneakyThrows;
@@ -14,23 +18,34 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
-import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
 
-import java.util.Map;
-import java.util.Properties;
+import java.util.function.Supplier;
 
+import static com.billdesk.banks.icici.constants.AppConstants.API_KEY;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class ICICIClientTest extends AbstractTest {
 
   @Mock
-  private ProxyConfig proxyConfig;
+  private HttpClientFactory httpClientFactory;
+  @Mock
+  private SslContextCache sslContextCache;
+  @Mock
+  private BulkheadRegistry bulkheadRegistry;
+  @Mock
+  private CircuitBreakerRegistry circuitBreakerRegistry;
+  @Mock
+  private RequestHedger requestHedger;
   @Mock
   private WebClient webClient;
   @Mock
@@ -43,8 +58,6 @@ public class ICICIClientTest extends AbstractTest {
   private WebClient.RequestBodySpec requestBodySpec;
   @Mock
   private WebClient.ResponseSpec responseSpec;
-  @Mock
-  private Mono<ICICIEligibilityResponse> iciciEligibilityResponseMono;
   @InjectMocks
   private ICICIClient iciciClient;
   @Mock
@@ -55,12 +68,18 @@ public class ICICIClientTest extends AbstractTest {
   void testSuccess() {
 
     when(iciciConfig.getApikey()).thenReturn(RandomStringUtils.randomAlphanumeric(32));
-    when(proxyConfig.getHost()).thenReturn("");
-    when(proxyConfig.getPort()).thenReturn(null);
     when(iciciConfig.getKeyStorePath()).thenReturn("");
     when(iciciConfig.getKeyStorePass()).thenReturn("");
     final MockedStatic<WebClient> webClientMockedStatic = mockStatic(WebClient.class);
     webClientMockedStatic.when(WebClient::builder).thenReturn(builder);
+    when(bulkheadRegistry.executeAsync(anyString(), any(Mono.class))).thenAnswer(
+      invocation -> invocation.getArgument(1));
+    when(circuitBreakerRegistry.executeAsync(anyString(), anyString(), any(Mono.class))).thenAnswer(
+      invocation -> invocation.getArgument(2));
+    when(requestHedger.execute(anyString(), anyString(), any(Supplier.class))).thenAnswer(
+      invocation -> ((Supplier<?>) invocation.getArgument(2)).get());
+    when(httpClientFactory.create(anyString())).thenReturn(HttpClient.create());
+    when(builder.clientConnector(any())).thenReturn(builder);
     when(builder.build()).thenReturn(webClient);
     when(webClient.post()).thenReturn(requestBodyUriSpec);
     when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodySpec);
@@ -68,12 +87,11 @@ public class ICICIClientTest extends AbstractTest {
     when(requestBodySpec.bodyValue(any(ICICIEligibilityRequest.class))).thenReturn(
       requestHeadersSpec);
     when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-    when(responseSpec.bodyToMono(eq(ICICIEligibilityResponse.class))).thenReturn(
-      iciciEligibilityResponseMono);
     final EligibilityRequest eligibilityRequest = getEligibilityRequest();
     final ICICIEligibilityResponse iciciEligibilityResponseMock =
       getICICIEligibilityResponse(eligibilityRequest);
-    when(iciciEligibilityResponseMono.block()).thenReturn(iciciEligibilityResponseMock);
+    when(responseSpec.bodyToMono(eq(ICICIEligibilityResponse.class))).thenReturn(
+      Mono.just(iciciEligibilityResponseMock));
     final ICICIEligibilityResponse iciciEligibilityResponse = iciciClient.send(
       "http://localhost:8000/api/v1/cardless-emi/EligibilityBillDesk",
       getICICIEligibilityRequest(eligibilityRequest),
@@ -97,6 +115,14 @@ public class ICICIClientTest extends AbstractTest {
     when(iciciConfig.getApikey()).thenReturn(RandomStringUtils.randomAlphanumeric(32));
     final MockedStatic<WebClient> webClientMockedStatic = mockStatic(WebClient.class);
     webClientMockedStatic.when(WebClient::builder).thenReturn(builder);
+    when(bulkheadRegistry.executeAsync(anyString(), any(Mono.class))).thenAnswer(
+      invocation -> invocation.getArgument(1));
+    when(circuitBreakerRegistry.executeAsync(anyString(), anyString(), any(Mono.class))).thenAnswer(
+      invocation -> invocation.getArgument(2));
+    when(requestHedger.execute(anyString(), anyString(), any(Supplier.class))).thenAnswer(
+      invocation -> ((Supplier<?>) invocation.getArgument(2)).get());
+    when(httpClientFactory.create(anyString())).thenReturn(HttpClient.create());
+    when(builder.clientConnector(any())).thenReturn(builder);
     when(builder.build()).thenReturn(webClient);
     when(webClient.post()).thenReturn(requestBodyUriSpec);
     when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodySpec);
@@ -113,12 +139,26 @@ public class ICICIClientTest extends AbstractTest {
   }
 
   @Test
-  void testGetHeadersMap() {
+  void testDefaultHeaders() {
 
-    final Properties headers = new Properties();
-    when(iciciConfig.getApikey()).thenReturn(RandomStringUtils.randomAlphanumeric(32));
-    final Map<String, String> headersMap =
-      ReflectionTestUtils.invokeMethod(iciciClient, "getHeadersMap", headers);
-    Assertions.assertNotNull(headersMap);
+    final String apiKey = RandomStringUtils.randomAlphanumeric(32);
+    when(iciciConfig.getApikey()).thenReturn(apiKey);
+    final HttpHeaders headers = iciciClient.getDefaultHeaders();
+    Assertions.assertEquals(apiKey, headers.getFirst(API_KEY));
+    Assertions.assertSame(headers, iciciClient.getDefaultHeaders());
+    Assertions.assertThrows(UnsupportedOperationException.class, () -> headers.set(API_KEY, "other"));
+    verify(iciciConfig, times(1)).getApikey();
+  }
+
+  @Test
+  void testConnectionIsReused() {
+
+    when(iciciConfig.getKeyStorePath()).thenReturn("");
+    when(iciciConfig.getKeyStorePass()).thenReturn("");
+    when(httpClientFactory.create(anyString())).thenReturn(HttpClient.create());
+    final WebClient first = iciciClient.getConnection();
+    final WebClient second = iciciClient.getConnection();
+    Assertions.assertSame(first, second);
+    verify(httpClientFactory, times(1)).create(anyString());
   }
 }
@@ -0,0 +1,15 @@
+package com.billdesk.banks.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "book-loan.idempotency")
+public class IdempotencyConfig {
+
+  private boolean enabled = true;
+  private long ttlSeconds = 900;
+  private int maxEntries = 50000;
+}
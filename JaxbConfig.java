@@ -0,0 +1,19 @@
+package com.billdesk.banks.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "jaxb")
+public class JaxbConfig {
+
+  // ObjectFactory classes whose contexts are built and warmed at startup
+  private List<String> contextClasses = new ArrayList<>(List.of("com.billdesk.banks.sbi.eligibility.ObjectFactory"));
+  // Idle marshallers and unmarshallers kept per context
+  private int poolSize = 32;
+}
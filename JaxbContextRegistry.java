@@ -0,0 +1,138 @@
+package com.billdesk.banks.support;
+
+import com.billdesk.banks.config.JaxbConfig;
+import com.billdesk.core.enums.FlexErrorCode;
+import com.billdesk.core.exception.FlexException;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.transform.Result;
+import javax.xml.transform.Source;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared JAXB contexts for the SOAP integrations. JAXBContext is built once per ObjectFactory class; Marshaller and
+ * Unmarshaller are not thread-safe, so each context keeps a bounded pool of idle instances that callers borrow for a
+ * single call. When the pool is empty a new instance is created, and instances beyond the pool size are dropped on
+ * return.
+ */
+@Component
+@Log4j2
+public class JaxbContextRegistry {
+
+  private final Map<Class<?>, PooledContext> contexts = new ConcurrentHashMap<>();
+  @Autowired
+  private JaxbConfig jaxbConfig;
+
+  @PostConstruct
+  public void warmUp() {
+
+    for (final String className : jaxbConfig.getContextClasses()) {
+      try {
+        final PooledContext pooledContext = context(Class.forName(className));
+        for (int i = 0; i < jaxbConfig.getPoolSize(); i++) {
+          pooledContext.marshallers.offer(pooledContext.jaxbContext.createMarshaller());
+          pooledContext.unmarshallers.offer(pooledContext.jaxbContext.createUnmarshaller());
+        }
+        log.info("Warmed JAXB context for {} with {} marshallers", className, jaxbConfig.getPoolSize());
+      } catch (final ClassNotFoundException | JAXBException e) {
+        log.error("Unable to warm JAXB context for {}. Error - {}", className, e.getMessage());
+      }
+    }
+  }
+
+  public void marshal(final Class<?> contextClass, final Object element, final Result result) {
+
+    final PooledContext pooledContext = context(contextClass);
+    final Marshaller marshaller = pooledContext.borrowMarshaller();
+    try {
+      marshaller.marshal(element, result);
+    } catch (final JAXBException e) {
+      log.error("Encountered error while marshalling {}. Error - {}", contextClass.getSimpleName(), e.getMessage());
+      throw new FlexException(FlexErrorCode.GENERIC_ERROR);
+    } finally {
+      pooledContext.marshallers.offer(marshaller);
+    }
+  }
+
+  public <T> JAXBElement<T> unmarshal(final Class<?> contextClass, final Source source, final Class<T> declaredType) {
+
+    final PooledContext pooledContext = context(contextClass);
+    final Unmarshaller unmarshaller = pooledContext.borrowUnmarshaller();
+    try {
+      return unmarshaller.unmarshal(source, declaredType);
+    } catch (final JAXBException e) {
+      log.error("Encountered error while unmarshalling {}. Error - {}", declaredType.getSimpleName(), e.getMessage());
+      throw new FlexException(FlexErrorCode.GENERIC_ERROR);
+    } finally {
+      pooledContext.unmarshallers.offer(unmarshaller);
+    }
+  }
+
+  public JAXBContext getContext(final Class<?> contextClass) {
+
+    return context(contextClass).jaxbContext;
+  }
+
+  private PooledContext context(final Class<?> contextClass) {
+
+    return contexts.computeIfAbsent(contextClass, key -> {
+      try {
+        return new PooledContext(JAXBContext.newInstance(key), jaxbConfig.getPoolSize());
+      } catch (final JAXBException e) {
+        log.error("Unable to create JAXB context for {}. Error - {}", key.getName(), e.getMessage());
+        throw new FlexException(FlexErrorCode.GENERIC_ERROR);
+      }
+    });
+  }
+
+  private static class PooledContext {
+
+    private final JAXBContext jaxbContext;
+    private final BlockingQueue<Marshaller> marshallers;
+    private final BlockingQueue<Unmarshaller> unmarshallers;
+
+    PooledContext(final JAXBContext jaxbContext, final int poolSize) {
+
+      this.jaxbContext = jaxbContext;
+      this.marshallers = new ArrayBlockingQueue<>(Math.max(1, poolSize));
+      this.unmarshallers = new ArrayBlockingQueue<>(Math.max(1, poolSize));
+    }
+
+    Marshaller borrowMarshaller() {
+
+      final Marshaller marshaller = marshallers.poll();
+      if (marshaller != null) {
+        return marshaller;
+      }
+      try {
+        return jaxbContext.createMarshaller();
+      } catch (final JAXBException e) {
+        throw new FlexException(FlexErrorCode.GENERIC_ERROR);
+      }
+    }
+
+    Unmarshaller borrowUnmarshaller() {
+
+      final Unmarshaller unmarshaller = unmarshallers.poll();
+      if (unmarshaller != null) {
+        return unmarshaller;
+      }
+      try {
+        return jaxbContext.createUnmarshaller();
+      } catch (final JAXBException e) {
+        throw new FlexException(FlexErrorCode.GENERIC_ERROR);
+      }
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package com.billdesk.banks.support;
+
+import com.billdesk.banks.AbstractTest;
+import com.billdesk.banks.config.JaxbConfig;
+import com.billdesk.banks.sbi.eligibility.CustomerBlockRequest;
+import com.billdesk.banks.sbi.eligibility.ObjectFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+
+import javax.xml.bind.JAXBElement;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+public class JaxbContextRegistryTest extends AbstractTest {
+
+  private static final ObjectFactory objectFactory = new ObjectFactory();
+  @Spy
+  private JaxbConfig jaxbConfig = new JaxbConfig();
+  @InjectMocks
+  private JaxbContextRegistry jaxbContextRegistry;
+
+  @Test
+  void testContextIsShared() {
+
+    jaxbContextRegistry.warmUp();
+    Assertions.assertSame(jaxbContextRegistry.getContext(ObjectFactory.class),
+                          jaxbContextRegistry.getContext(ObjectFactory.class));
+  }
+
+  @Test
+  void testMarshalRoundTrip() {
+
+    final CustomerBlockRequest customerBlockRequest = getCustomerBlockRequest();
+    final StringWriter writer = new StringWriter();
+    jaxbContextRegistry.marshal(ObjectFactory.class,
+                                objectFactory.createCustomerBlockRequest(customerBlockRequest),
+                                new StreamResult(writer));
+    final JAXBElement<CustomerBlockRequest> unmarshalled =
+      jaxbContextRegistry.unmarshal(ObjectFactory.class,
+                                    new StreamSource(new StringReader(writer.toString())),
+                                    CustomerBlockRequest.class);
+    Assertions.assertEquals(customerBlockRequest.getCustomerBlockApiRequest().getTransactionReferenceNumber(),
+                            unmarshalled.getValue().getCustomerBlockApiRequest().getTransactionReferenceNumber());
+  }
+}
@@ -0,0 +1,67 @@
+package com.billdesk.banks.benchmark;
+
+import com.github.tomakehurst.wiremock.http.DelayDistribution;
+import com.github.tomakehurst.wiremock.http.LogNormal;
+import com.github.tomakehurst.wiremock.http.UniformDistribution;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Function;
+
+/**
+ * Upstream latency per bank endpoint, read from a properties file keyed by stub url:
+ *
+ * <pre>
+ * /API/DCEMI_CheckEligibility=lognormal:800:0.4
+ * /api/v1/cardless-emi/EligibilityBillDesk=uniform:200:1500
+ * /DC/TU/TU.IDS.ExternalServices/SolutionExecution/ExternalSolutionExecution.svc=fixed:300
+ * default=fixed:50
+ * </pre>
+ *
+ * lognormal takes the median in ms and sigma, uniform the lower and upper bound in ms.
+ */
+public class LatencyProfile implements Function<String, DelayDistribution> {
+
+  private static final String DEFAULT_KEY = "default";
+  private final Map<String, DelayDistribution> delays = new LinkedHashMap<>();
+
+  public static LatencyProfile load(final Path path) throws IOException {
+
+    final Properties properties = new Properties();
+    if (path != null) {
+      try (InputStream inputStream = Files.newInputStream(path)) {
+        properties.load(inputStream);
+      }
+    }
+    final LatencyProfile latencyProfile = new LatencyProfile();
+    properties.stringPropertyNames()
+              .forEach(url -> latencyProfile.delays.put(url, parse(properties.getProperty(url))));
+    return latencyProfile;
+  }
+
+  @Override
+  public DelayDistribution apply(final String url) {
+
+    return delays.getOrDefault(url, delays.get(DEFAULT_KEY));
+  }
+
+  static DelayDistribution parse(final String value) {
+
+    final String[] parts = value.trim().split(":");
+    switch (parts[0]) {
+      case "lognormal":
+        return new LogNormal(Double.parseDouble(parts[1]), Double.parseDouble(parts[2]));
+      case "uniform":
+        return new UniformDistribution(Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+      case "fixed":
+        return new UniformDistribution(Integer.parseInt(parts[1]), Integer.parseInt(parts[1]));
+      default:
+        throw new IllegalArgumentException("Unknown latency distribution " + value);
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package com.billdesk.banks.benchmark;
+
+import java.util.Arrays;
+
+/**
+ * Collects request latencies and outcomes for one bank. Recording is synchronized, the runner records from the
+ * http client's completion threads only.
+ */
+public class LatencyRecorder {
+
+  private long[] latencies = new long[1024];
+  private int count;
+  private int declines;
+  private int errors;
+
+  public synchronized void record(final long latencyNanos, final Outcome outcome) {
+
+    if (count == latencies.length) {
+      latencies = Arrays.copyOf(latencies, count * 2);
+    }
+    latencies[count++] = latencyNanos;
+    if (outcome == Outcome.DECLINED) {
+      declines++;
+    } else if (outcome == Outcome.ERROR) {
+      errors++;
+    }
+  }
+
+  public synchronized String summary() {
+
+    if (count == 0) {
+      return "no requests";
+    }
+    final long[] sorted = Arrays.copyOf(latencies, count);
+    Arrays.sort(sorted);
+    return String.format("requests=%d p50=%.1fms p99=%.1fms p999=%.1fms max=%.1fms declineRate=%.2f%% "
+                         + "errorRate=%.2f%%",
+                         count, millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.99)),
+                         millis(percentile(sorted, 0.999)), millis(sorted[count - 1]),
+                         declines * 100d / count, errors * 100d / count);
+  }
+
+  private static long percentile(final long[] sorted, final double percentile) {
+
+    return sorted[Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1)];
+  }
+
+  private static double millis(final long nanos) {
+
+    return nanos / 1_000_000d;
+  }
+
+  public enum Outcome {
+    SUCCESS,
+    // The app answered with a business error, e.g. a bank decline or a validation failure
+    DECLINED,
+    // The call failed or the app reported an infrastructure error
+    ERROR
+  }
+}
@@ -1,63 +1,122 @@
 package com.billdesk.banks.controllers;
 
-import com.billdesk.banks.BankApplicationFactory;
+import com.billdesk.banks.config.DeadlineConfig;
+import com.billdesk.banks.support.BankRouter;
+import com.billdesk.banks.support.BookLoanIdempotencyCache;
+import com.billdesk.banks.support.BulkheadRegistry;
+import com.billdesk.banks.support.Deadline;
+import com.billdesk.banks.support.EligibilityResponseCache;
+import com.billdesk.banks.support.LogSummary;
 import com.billdesk.banks.support.ValidationService;
+import com.billdesk.banks.validation.RequestValidators;
+import com.billdesk.banks.validation.Violation;
 import com.billdesk.core.enums.API;
 import com.billdesk.core.model.BookLoanRequest;
 import com.billdesk.core.model.BookLoanResponse;
 import com.billdesk.core.model.EligibilityRequest;
 import com.billdesk.core.model.EligibilityResponse;
+import com.billdesk.core.service.BookLoanService;
+import com.billdesk.core.service.EligibilityService;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
-import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
-import javax.validation.Valid;
+import java.time.Duration;
 
 @Controller
 @RequestMapping("/api/v1/leapneo")
 @Log4j2
 public class LeapNeoController {
 
+  // Milliseconds the caller is still willing to wait for the response
+  private static final String DEADLINE_HEADER = "X-Deadline-Ms";
   @Autowired
-  private BankApplicationFactory bankApplicationFactory;
+  private BankRouter bankRouter;
   @Autowired
   private ValidationService validationService;
+  @Autowired
+  private RequestValidators requestValidators;
+  @Autowired
+  private Scheduler bankCallScheduler;
+  @Autowired
+  private BulkheadRegistry bulkheadRegistry;
+  @Autowired
+  private BookLoanIdempotencyCache bookLoanIdempotencyCache;
+  @Autowired
+  private EligibilityResponseCache eligibilityResponseCache;
+  @Autowired
+  private DeadlineConfig deadlineConfig;
 
   @PostMapping(
     value = "/book-loan",
     produces = { MediaType.APPLICATION_JSON_VALUE },
     consumes = { MediaType.APPLICATION_JSON_VALUE })
-  public ResponseEntity<BookLoanResponse> bookLoan(@Valid @RequestBody BookLoanRequest bookLoanRequest,
-                                                   final BindingResult bindingResult) {
+  public Mono<ResponseEntity<BookLoanResponse>> bookLoan(@RequestBody final BookLoanRequest bookLoanRequest,
+                                                         @RequestHeader(value = DEADLINE_HEADER, required = false)
+                                                         final Long deadlineMs) {
 
-    if (bindingResult != null && bindingResult.hasErrors()) {
-      validationService.verifyBindingResultError(bindingResult);
+    final Violation violation = requestValidators.validate(bookLoanRequest);
+    if (violation != null) {
+      validationService.verifyBindingResultError(violation.toBindingResult(bookLoanRequest, "bookLoanRequest"));
     }
-    log.info("book-loan request received : {}", bookLoanRequest);
-    return ResponseEntity.ok()
-                         .body(bankApplicationFactory.getBLService(bookLoanRequest.getBankId())
-                                                     .bookLoan(bookLoanRequest));
+    log.info("book-loan request received : {}", LogSummary.of(bookLoanRequest));
+    // Book-loan is not idempotent at the bank, so the deadline is only checked before the call is sent
+    final Deadline deadline = deadlineOf(deadlineMs, deadlineConfig.getBookLoanMs()).uncancellable();
+    return bookLoanIdempotencyCache.execute(bookLoanRequest, () -> dispatchBookLoan(bookLoanRequest, deadline))
+                                   .map(body -> ResponseEntity.ok().body(body));
   }
 
   @PostMapping(
     value = "/check-eligibility",
     produces = { MediaType.APPLICATION_JSON_VALUE },
     consumes = { MediaType.APPLICATION_JSON_VALUE })
-  public ResponseEntity<EligibilityResponse> checkEligibility(@Valid @RequestBody EligibilityRequest eligibilityRequest,
-                                                              final BindingResult bindingResult) {
+  public Mono<ResponseEntity<EligibilityResponse>> checkEligibility(@RequestBody final EligibilityRequest eligibilityRequest,
+                                                                    @RequestHeader(value = DEADLINE_HEADER,
+                                                                                   required = false)
+                                                                    final Long deadlineMs) {
 
-    if (bindingResult != null && bindingResult.hasErrors()) {
-      validationService.verifyBindingResultError(bindingResult);
+    final Violation violation = requestValidators.validate(eligibilityRequest);
+    if (violation != null) {
+      validationService.verifyBindingResultError(violation.toBindingResult(eligibilityRequest,
+                                                                           "eligibilityRequest"));
     }
-    log.info("Check eligibility request received : {}", eligibilityRequest);
-    return ResponseEntity.ok()
-                         .body(bankApplicationFactory.getEligibilityService(eligibilityRequest.getBankId())
-                                                     .checkEligibility(eligibilityRequest));
+    log.info("Check eligibility request received : {}", LogSummary.of(eligibilityRequest));
+    final Deadline deadline = deadlineOf(deadlineMs, deadlineConfig.getEligibilityMs());
+    return eligibilityResponseCache.execute(eligibilityRequest,
+                                            () -> dispatchEligibility(eligibilityRequest, deadline))
+                                   .map(body -> ResponseEntity.ok().body(body));
+  }
+
+  private Mono<BookLoanResponse> dispatchBookLoan(final BookLoanRequest bookLoanRequest, final Deadline deadline) {
+
+    final BookLoanService bookLoanService = bankRouter.getBLService(bookLoanRequest.getBankId());
+    return deadline.bound(bulkheadRegistry.executeOn(bookLoanRequest.getBankId(), bankCallScheduler,
+                                                     () -> deadline.callWithin(
+                                                       () -> bookLoanService.bookLoan(bookLoanRequest))));
+  }
+
+  private Mono<EligibilityResponse> dispatchEligibility(final EligibilityRequest eligibilityRequest,
+                                                        final Deadline deadline) {
+
+    final EligibilityService eligibilityService =
+      bankRouter.getEligibilityService(eligibilityRequest.getBankId());
+    return deadline.bound(bulkheadRegistry.executeOn(eligibilityRequest.getBankId(), bankCallScheduler,
+                                                     () -> deadline.callWithin(
+                                                       () -> eligibilityService.checkEligibility(eligibilityRequest))));
+  }
+
+  private Deadline deadlineOf(final Long deadlineMs, final long slaMs) {
+
+    final long budgetMs = deadlineMs == null || deadlineMs <= 0 ? slaMs : Math.min(deadlineMs,
+                                                                                  deadlineConfig.getMaxMs());
+    return Deadline.after(Duration.ofMillis(budgetMs));
   }
 }
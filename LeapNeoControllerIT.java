@@ -14,6 +14,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
@@ -46,18 +48,18 @@ class LeapNeoControllerIT extends AbstractIT {
     final EligibilityRequest eligibilityRequest = getEligibilityRequest();
     eligibilityRequest.getCardless().setMobileNumber(null);
     eligibilityRequest.setBankId("HS");
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorDesc()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getStatus()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorDesc()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getStatus()));
   }
 
   @Test
@@ -68,18 +70,18 @@ class LeapNeoControllerIT extends AbstractIT {
     eligibilityRequest.getCardless().setMobileNumber(null);
     eligibilityRequest.setBankId(HDFC_BANK_ID);
     eligibilityRequest.setMercId(RandomStringUtils.randomAlphanumeric(15));
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorDesc()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getStatus()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorDesc()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getStatus()));
   }
 
   @Test
@@ -90,18 +92,18 @@ class LeapNeoControllerIT extends AbstractIT {
     eligibilityRequest.getCardless().setMobileNumber(null);
     eligibilityRequest.setBankId(HDFC_BANK_ID);
     eligibilityRequest.setAmount(00.0011);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorDesc()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getStatus()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorDesc()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getStatus()));
   }
 
   @Test
@@ -111,18 +113,18 @@ class LeapNeoControllerIT extends AbstractIT {
     final EligibilityRequest eligibilityRequest = getEligibilityRequest();
     eligibilityRequest.setPgRefNo(RandomStringUtils.randomAlphanumeric(12));
     eligibilityRequest.setBankId(HDFC_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(GenericErrorCode.PG_REF_NO_INVALID.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(GenericErrorCode.PG_REF_NO_INVALID.getErrorDesc()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(GenericErrorCode.PG_REF_NO_INVALID.getStatus()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(GenericErrorCode.PG_REF_NO_INVALID.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(GenericErrorCode.PG_REF_NO_INVALID.getErrorDesc()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(GenericErrorCode.PG_REF_NO_INVALID.getStatus()));
   }
 
   @Test
@@ -132,18 +134,18 @@ class LeapNeoControllerIT extends AbstractIT {
     final EligibilityRequest eligibilityRequest = getEligibilityRequest();
     eligibilityRequest.setTenure(300);
     eligibilityRequest.setBankId(HDFC_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(GenericErrorCode.TENURE_INVALID.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(GenericErrorCode.TENURE_INVALID.getErrorDesc()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(GenericErrorCode.TENURE_INVALID.getStatus()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(GenericErrorCode.TENURE_INVALID.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(GenericErrorCode.TENURE_INVALID.getErrorDesc()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(GenericErrorCode.TENURE_INVALID.getStatus()));
   }
 
   @Test
@@ -153,18 +155,18 @@ class LeapNeoControllerIT extends AbstractIT {
     final EligibilityRequest eligibilityRequest = getEligibilityRequest();
     eligibilityRequest.setItemCode(RandomStringUtils.randomAlphanumeric(25));
     eligibilityRequest.setBankId(HDFC_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(GenericErrorCode.ITEM_CODE_INVALID.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(GenericErrorCode.ITEM_CODE_INVALID.getErrorDesc()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(GenericErrorCode.ITEM_CODE_INVALID.getStatus()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(GenericErrorCode.ITEM_CODE_INVALID.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(GenericErrorCode.ITEM_CODE_INVALID.getErrorDesc()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(GenericErrorCode.ITEM_CODE_INVALID.getStatus()));
   }
 
   @Test
@@ -174,18 +176,18 @@ class LeapNeoControllerIT extends AbstractIT {
     final EligibilityRequest eligibilityRequest = getEligibilityRequest();
     eligibilityRequest.getCardless().setMobileNumber(null);
     eligibilityRequest.setBankId(HDFC_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(GenericErrorCode.MOBILE_NUMBER_BLANK.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(GenericErrorCode.MOBILE_NUMBER_BLANK.getErrorDesc()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(GenericErrorCode.MOBILE_NUMBER_BLANK.getStatus()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(GenericErrorCode.MOBILE_NUMBER_BLANK.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(GenericErrorCode.MOBILE_NUMBER_BLANK.getErrorDesc()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(GenericErrorCode.MOBILE_NUMBER_BLANK.getStatus()));
   }
 
   @Test
@@ -195,18 +197,18 @@ class LeapNeoControllerIT extends AbstractIT {
     final EligibilityRequest eligibilityRequest = getEligibilityRequest();
     eligibilityRequest.getCardless().setMobileNumber("900000000022");
     eligibilityRequest.setBankId(HDFC_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(GenericErrorCode.MOBILE_NUMBER_INVALID.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(GenericErrorCode.MOBILE_NUMBER_INVALID.getErrorDesc()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(GenericErrorCode.MOBILE_NUMBER_INVALID.getStatus()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(GenericErrorCode.MOBILE_NUMBER_INVALID.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(GenericErrorCode.MOBILE_NUMBER_INVALID.getErrorDesc()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(GenericErrorCode.MOBILE_NUMBER_INVALID.getStatus()));
   }
 
   @Test
@@ -216,18 +218,18 @@ class LeapNeoControllerIT extends AbstractIT {
     final EligibilityRequest eligibilityRequest = getEligibilityRequest();
     eligibilityRequest.setPgRefNo(null);
     eligibilityRequest.setBankId(HDFC_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(GenericErrorCode.PG_REF_NO_BLANK.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(GenericErrorCode.PG_REF_NO_BLANK.getErrorDesc()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(GenericErrorCode.PG_REF_NO_BLANK.getStatus()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(GenericErrorCode.PG_REF_NO_BLANK.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(GenericErrorCode.PG_REF_NO_BLANK.getErrorDesc()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(GenericErrorCode.PG_REF_NO_BLANK.getStatus()));
   }
 
   @Test
@@ -237,18 +239,18 @@ class LeapNeoControllerIT extends AbstractIT {
     final EligibilityRequest eligibilityRequest = getEligibilityRequest();
     eligibilityRequest.setBankId(HDFC_BANK_ID);
     eligibilityRequest.setStoreId(RandomStringUtils.randomAlphanumeric(25));
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(GenericErrorCode.STORE_ID_INVALID.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(GenericErrorCode.STORE_ID_INVALID.getErrorDesc()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(GenericErrorCode.STORE_ID_INVALID.getStatus()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(GenericErrorCode.STORE_ID_INVALID.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(GenericErrorCode.STORE_ID_INVALID.getErrorDesc()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(GenericErrorCode.STORE_ID_INVALID.getStatus()));
   }
 
   @Test
@@ -258,18 +260,18 @@ class LeapNeoControllerIT extends AbstractIT {
     final EligibilityRequest eligibilityRequest = getEligibilityRequest();
     eligibilityRequest.setBankId(HDFC_BANK_ID);
     eligibilityRequest.setStoreName(RandomStringUtils.randomAlphanumeric(300));
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(GenericErrorCode.STORE_NAME_INVALID.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(GenericErrorCode.STORE_NAME_INVALID.getErrorDesc()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(GenericErrorCode.STORE_NAME_INVALID.getStatus()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(GenericErrorCode.STORE_NAME_INVALID.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(GenericErrorCode.STORE_NAME_INVALID.getErrorDesc()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(GenericErrorCode.STORE_NAME_INVALID.getStatus()));
   }
 
   @Test
@@ -279,22 +281,22 @@ class LeapNeoControllerIT extends AbstractIT {
     final EligibilityRequest eligibilityRequest = getEligibilityRequest();
     eligibilityRequest.setTransactionId("100000000");
     eligibilityRequest.setBankId(HDFC_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isOk())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.bankid")
-                                           .value(eligibilityRequest.getBankId()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.merc_id")
-                                           .value(eligibilityRequest.getMercId()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.pg_ref_no")
-                                           .value(eligibilityRequest.getPgRefNo()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.amount")
-                                           .value(eligibilityRequest.getAmount()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code").value(SUCCESS_TRX_CODE))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status").value(Result.SUCCESS.toString()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isOk())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.bankid")
+                                            .value(eligibilityRequest.getBankId()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.merc_id")
+                                            .value(eligibilityRequest.getMercId()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.pg_ref_no")
+                                            .value(eligibilityRequest.getPgRefNo()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.amount")
+                                            .value(eligibilityRequest.getAmount()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code").value(SUCCESS_TRX_CODE))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status").value(Result.SUCCESS.toString()));
   }
 
   @Test
@@ -305,22 +307,22 @@ class LeapNeoControllerIT extends AbstractIT {
     eligibilityRequest.getCardless().setPanNumber("CCAPS9542M");
     eligibilityRequest.setTransactionId("100000001");
     eligibilityRequest.setBankId(HDFC_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isOk())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.bankid")
-                                           .value(eligibilityRequest.getBankId()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.merc_id")
-                                           .value(eligibilityRequest.getMercId()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.pg_ref_no")
-                                           .value(eligibilityRequest.getPgRefNo()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.amount")
-                                           .value(eligibilityRequest.getAmount()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code").value(SUCCESS_TRX_CODE))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status").value(Result.SUCCESS.toString()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isOk())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.bankid")
+                                            .value(eligibilityRequest.getBankId()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.merc_id")
+                                            .value(eligibilityRequest.getMercId()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.pg_ref_no")
+                                            .value(eligibilityRequest.getPgRefNo()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.amount")
+                                            .value(eligibilityRequest.getAmount()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code").value(SUCCESS_TRX_CODE))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status").value(Result.SUCCESS.toString()));
   }
 
   @Test
@@ -332,18 +334,18 @@ class LeapNeoControllerIT extends AbstractIT {
     eligibilityRequest.getCardless().setCardEnd("9091");
     eligibilityRequest.setTransactionId("100000A010");
     eligibilityRequest.setBankId(HDFC_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.IDENTIFIER_TYPE_BLANK.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.IDENTIFIER_TYPE_BLANK.getErrorDesc()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(FlexErrorCode.IDENTIFIER_TYPE_BLANK.getStatus()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.IDENTIFIER_TYPE_BLANK.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.IDENTIFIER_TYPE_BLANK.getErrorDesc()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(FlexErrorCode.IDENTIFIER_TYPE_BLANK.getStatus()));
   }
 
   @Test
@@ -355,18 +357,18 @@ class LeapNeoControllerIT extends AbstractIT {
     eligibilityRequest.getCardless().setCardEnd("9091");
     eligibilityRequest.setTransactionId("100000A011");
     eligibilityRequest.setBankId(HDFC_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.INDENTIFIER_VALUE_BLANK.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.INDENTIFIER_VALUE_BLANK.getErrorDesc()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(FlexErrorCode.INDENTIFIER_VALUE_BLANK.getStatus()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.INDENTIFIER_VALUE_BLANK.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.INDENTIFIER_VALUE_BLANK.getErrorDesc()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(FlexErrorCode.INDENTIFIER_VALUE_BLANK.getStatus()));
   }
 
   @Test
@@ -378,18 +380,18 @@ class LeapNeoControllerIT extends AbstractIT {
     eligibilityRequest.getCardless().setCardEnd("9091");
     eligibilityRequest.setTransactionId("100000A031");
     eligibilityRequest.setBankId(HDFC_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.INVALID_MCC_CODE.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.INVALID_MCC_CODE.getErrorDesc()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(FlexErrorCode.INVALID_MCC_CODE.getStatus()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.INVALID_MCC_CODE.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.INVALID_MCC_CODE.getErrorDesc()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(FlexErrorCode.INVALID_MCC_CODE.getStatus()));
   }
 
   @Test
@@ -399,17 +401,17 @@ class LeapNeoControllerIT extends AbstractIT {
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId(HDFC_BANK_ID);
     bookLoanRequest.setTransactionId("100000A048");
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.BLANK_QUANTITY.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.BLANK_QUANTITY.getErrorDesc()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(FlexErrorCode.BLANK_QUANTITY.getStatus()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.BLANK_QUANTITY.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.BLANK_QUANTITY.getErrorDesc()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(FlexErrorCode.BLANK_QUANTITY.getStatus()));
   }
 
   @Test
@@ -419,17 +421,17 @@ class LeapNeoControllerIT extends AbstractIT {
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId(HDFC_BANK_ID);
     bookLoanRequest.setTransactionId("100000A049");
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.INVALID_QUANTITY.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.INVALID_QUANTITY.getErrorDesc()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(FlexErrorCode.INVALID_QUANTITY.getStatus()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.INVALID_QUANTITY.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.INVALID_QUANTITY.getErrorDesc()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(FlexErrorCode.INVALID_QUANTITY.getStatus()));
   }
 
   @Test
@@ -441,18 +443,18 @@ class LeapNeoControllerIT extends AbstractIT {
     eligibilityRequest.getCardless().setCardEnd("9091");
     eligibilityRequest.setTransactionId("100000A012");
     eligibilityRequest.setBankId(HDFC_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.CHANNEL_TYPE_BLANK.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.CHANNEL_TYPE_BLANK.getErrorDesc()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(FlexErrorCode.CHANNEL_TYPE_BLANK.getStatus()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.CHANNEL_TYPE_BLANK.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.CHANNEL_TYPE_BLANK.getErrorDesc()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(FlexErrorCode.CHANNEL_TYPE_BLANK.getStatus()));
   }
 
   @Test
@@ -464,18 +466,18 @@ class LeapNeoControllerIT extends AbstractIT {
     eligibilityRequest.getCardless().setCardEnd("9091");
     eligibilityRequest.setTransactionId("100000A013");
     eligibilityRequest.setBankId(HDFC_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.CHANNEL_NAME_BLANK.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.CHANNEL_NAME_BLANK.getErrorDesc()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(FlexErrorCode.CHANNEL_NAME_BLANK.getStatus()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.CHANNEL_NAME_BLANK.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.CHANNEL_NAME_BLANK.getErrorDesc()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(FlexErrorCode.CHANNEL_NAME_BLANK.getStatus()));
   }
 
   @Test
@@ -487,18 +489,18 @@ class LeapNeoControllerIT extends AbstractIT {
     eligibilityRequest.getCardless().setCardEnd("9091");
     eligibilityRequest.setTransactionId("100000A001");
     eligibilityRequest.setBankId(HDFC_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.INVALID_CREDENTIALS.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.INVALID_CREDENTIALS.getErrorDesc()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(FlexErrorCode.INVALID_CREDENTIALS.getStatus()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.INVALID_CREDENTIALS.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.INVALID_CREDENTIALS.getErrorDesc()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(FlexErrorCode.INVALID_CREDENTIALS.getStatus()));
   }
 
   @Test
@@ -510,18 +512,18 @@ class LeapNeoControllerIT extends AbstractIT {
     eligibilityRequest.getCardless().setCardEnd("9091");
     eligibilityRequest.setTransactionId("100000A002");
     eligibilityRequest.setBankId(HDFC_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.MERCHANT_USERNAME_BLANK.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.MERCHANT_USERNAME_BLANK.getErrorDesc()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(FlexErrorCode.MERCHANT_USERNAME_BLANK.getStatus()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.MERCHANT_USERNAME_BLANK.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.MERCHANT_USERNAME_BLANK.getErrorDesc()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(FlexErrorCode.MERCHANT_USERNAME_BLANK.getStatus()));
   }
 
   @Test
@@ -533,18 +535,18 @@ class LeapNeoControllerIT extends AbstractIT {
     eligibilityRequest.getCardless().setCardEnd("9091");
     eligibilityRequest.setTransactionId("100000A003");
     eligibilityRequest.setBankId(HDFC_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.MERCHANT_PASSWORD_BLANK.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.MERCHANT_PASSWORD_BLANK.getErrorDesc()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(FlexErrorCode.MERCHANT_PASSWORD_BLANK.getStatus()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.MERCHANT_PASSWORD_BLANK.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.MERCHANT_PASSWORD_BLANK.getErrorDesc()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(FlexErrorCode.MERCHANT_PASSWORD_BLANK.getStatus()));
   }
 
   @Test
@@ -556,18 +558,18 @@ class LeapNeoControllerIT extends AbstractIT {
     eligibilityRequest.getCardless().setCardEnd("9091");
     eligibilityRequest.setTransactionId("100000A004");
     eligibilityRequest.setBankId(HDFC_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.MERCHANT_NAME_INVALID.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.MERCHANT_NAME_INVALID.getErrorDesc()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(FlexErrorCode.MERCHANT_NAME_INVALID.getStatus()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.MERCHANT_NAME_INVALID.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.MERCHANT_NAME_INVALID.getErrorDesc()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(FlexErrorCode.MERCHANT_NAME_INVALID.getStatus()));
   }
 
   @Test
@@ -579,18 +581,18 @@ class LeapNeoControllerIT extends AbstractIT {
     eligibilityRequest.getCardless().setCardEnd("9091");
     eligibilityRequest.setTransactionId("100000A005");
     eligibilityRequest.setBankId(HDFC_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.MERCHANT_PASSWORD_INVALID.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.MERCHANT_PASSWORD_INVALID.getErrorDesc()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(FlexErrorCode.MERCHANT_PASSWORD_INVALID.getStatus()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.MERCHANT_PASSWORD_INVALID.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.MERCHANT_PASSWORD_INVALID.getErrorDesc()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(FlexErrorCode.MERCHANT_PASSWORD_INVALID.getStatus()));
   }
 
   @Test
@@ -602,18 +604,18 @@ class LeapNeoControllerIT extends AbstractIT {
     eligibilityRequest.getCardless().setCardEnd("9091");
     eligibilityRequest.setTransactionId("100000131");
     eligibilityRequest.setBankId(HDFC_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.CHANNEL_TYPE_ONLINE.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.CHANNEL_TYPE_ONLINE.getErrorDesc()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(FlexErrorCode.CHANNEL_TYPE_ONLINE.getStatus()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.CHANNEL_TYPE_ONLINE.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.CHANNEL_TYPE_ONLINE.getErrorDesc()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(FlexErrorCode.CHANNEL_TYPE_ONLINE.getStatus()));
   }
 
   @Test
@@ -625,18 +627,18 @@ class LeapNeoControllerIT extends AbstractIT {
     eligibilityRequest.getCardless().setCardEnd("9091");
     eligibilityRequest.setTransactionId("100000002");
     eligibilityRequest.setBankId(HDFC_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.CUSTOMER_UNAVAILABLE.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.CUSTOMER_UNAVAILABLE.getErrorDesc()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(FlexErrorCode.CUSTOMER_UNAVAILABLE.getStatus()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.CUSTOMER_UNAVAILABLE.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.CUSTOMER_UNAVAILABLE.getErrorDesc()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(FlexErrorCode.CUSTOMER_UNAVAILABLE.getStatus()));
   }
 
   @Test
@@ -648,18 +650,18 @@ class LeapNeoControllerIT extends AbstractIT {
     eligibilityRequest.getCardless().setCardEnd("9092");
     eligibilityRequest.setTransactionId("100000003");
     eligibilityRequest.setBankId(HDFC_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.INVALID_LOAN_AMOUNT.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.INVALID_LOAN_AMOUNT.getErrorDesc()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(FlexErrorCode.INVALID_LOAN_AMOUNT.getStatus()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.INVALID_LOAN_AMOUNT.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.INVALID_LOAN_AMOUNT.getErrorDesc()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(FlexErrorCode.INVALID_LOAN_AMOUNT.getStatus()));
   }
 
   @Test
@@ -671,12 +673,12 @@ class LeapNeoControllerIT extends AbstractIT {
     eligibilityRequest.getCardless().setCardEnd("9093");
     eligibilityRequest.setTransactionId("100000004");
     eligibilityRequest.setBankId(HDFC_BANK_ID);
-    ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                                                        .contentType(MediaType.APPLICATION_JSON)
-                                                                        .accept(MediaType.APPLICATION_JSON)
-                                                                        .content(objectMapper.writeValueAsString(
-                                                                          eligibilityRequest)))
-                                         .andExpect(status().isInternalServerError());
+    ResultActions resultActions = perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                                                .contentType(MediaType.APPLICATION_JSON)
+                                                                .accept(MediaType.APPLICATION_JSON)
+                                                                .content(objectMapper.writeValueAsString(
+                                                                  eligibilityRequest)))
+            .andExpect(status().isInternalServerError());
     resultActions.andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
                                                  .value(FlexErrorCode.INVALID_REQUEST.getErrorCode()))
                  .andExpect(MockMvcResultMatchers.jsonPath("$.message")
@@ -694,18 +696,18 @@ class LeapNeoControllerIT extends AbstractIT {
     eligibilityRequest.getCardless().setCardEnd("9094");
     eligibilityRequest.setTransactionId("100000008");
     eligibilityRequest.setBankId(HDFC_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.UNABLE_TO_PROCESS_REQUEST.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.UNABLE_TO_PROCESS_REQUEST.getErrorDesc()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(FlexErrorCode.UNABLE_TO_PROCESS_REQUEST.getStatus()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.UNABLE_TO_PROCESS_REQUEST.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.UNABLE_TO_PROCESS_REQUEST.getErrorDesc()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(FlexErrorCode.UNABLE_TO_PROCESS_REQUEST.getStatus()));
   }
 
   @Test
@@ -715,18 +717,18 @@ class LeapNeoControllerIT extends AbstractIT {
     final EligibilityRequest eligibilityRequest = getEligibilityRequest();
     eligibilityRequest.setTransactionId("1000000022");
     eligibilityRequest.setBankId(HDFC_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.AMOUNT_NOT_ELIGIBLE_FOR_EMI.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.AMOUNT_NOT_ELIGIBLE_FOR_EMI.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.AMOUNT_NOT_ELIGIBLE_FOR_EMI.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.AMOUNT_NOT_ELIGIBLE_FOR_EMI.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.AMOUNT_NOT_ELIGIBLE_FOR_EMI.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.AMOUNT_NOT_ELIGIBLE_FOR_EMI.getErrorDesc()));
   }
 
   @Test
@@ -736,18 +738,18 @@ class LeapNeoControllerIT extends AbstractIT {
     final EligibilityRequest eligibilityRequest = getEligibilityRequest();
     eligibilityRequest.setTransactionId("1000000023");
     eligibilityRequest.setBankId(HDFC_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.INVALID_LOAN_AMOUNT_RANGE.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.INVALID_LOAN_AMOUNT_RANGE.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.INVALID_LOAN_AMOUNT_RANGE.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.INVALID_LOAN_AMOUNT_RANGE.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.INVALID_LOAN_AMOUNT_RANGE.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.INVALID_LOAN_AMOUNT_RANGE.getErrorDesc()));
   }
 
   @Test
@@ -757,21 +759,21 @@ class LeapNeoControllerIT extends AbstractIT {
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId(HDFC_BANK_ID);
     bookLoanRequest.setTransactionId("100000007");
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isOk())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.merc_id")
-                                           .value(bookLoanRequest.getMercId()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.pg_ref_no")
-                                           .value(bookLoanRequest.getPgRefNo()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.emi_details.amount")
-                                           .value(bookLoanRequest.getAmount()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.emi_details.interest_rate")
-                                           .value(bookLoanRequest.getInterestRate()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.emi_details.tenure")
-                                           .value(bookLoanRequest.getTenure()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isOk())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.merc_id")
+                                            .value(bookLoanRequest.getMercId()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.pg_ref_no")
+                                            .value(bookLoanRequest.getPgRefNo()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.emi_details.amount")
+                                            .value(bookLoanRequest.getAmount()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.emi_details.interest_rate")
+                                            .value(bookLoanRequest.getInterestRate()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.emi_details.tenure")
+                                            .value(bookLoanRequest.getTenure()));
   }
 
   @Test
@@ -780,17 +782,17 @@ class LeapNeoControllerIT extends AbstractIT {
 
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId("HH");
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorDesc()));
   }
 
   @Test
@@ -800,17 +802,17 @@ class LeapNeoControllerIT extends AbstractIT {
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId(HDFC_BANK_ID);
     bookLoanRequest.setMercId(RandomStringUtils.randomAlphanumeric(15));
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorDesc()));
   }
 
   @Test
@@ -820,17 +822,17 @@ class LeapNeoControllerIT extends AbstractIT {
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId(HDFC_BANK_ID);
     bookLoanRequest.setAmount(20.0221);
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorDesc()));
   }
 
   @Test
@@ -840,17 +842,17 @@ class LeapNeoControllerIT extends AbstractIT {
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId(HDFC_BANK_ID);
     bookLoanRequest.setOtp(12333333);
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorDesc()));
   }
 
   @Test
@@ -860,17 +862,17 @@ class LeapNeoControllerIT extends AbstractIT {
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId(HDFC_BANK_ID);
     bookLoanRequest.setPgRefNo(RandomStringUtils.randomAlphanumeric(10));
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(GenericErrorCode.PG_REF_NO_INVALID.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(GenericErrorCode.PG_REF_NO_INVALID.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(GenericErrorCode.PG_REF_NO_INVALID.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(GenericErrorCode.PG_REF_NO_INVALID.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(GenericErrorCode.PG_REF_NO_INVALID.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(GenericErrorCode.PG_REF_NO_INVALID.getErrorDesc()));
   }
 
   @Test
@@ -880,17 +882,17 @@ class LeapNeoControllerIT extends AbstractIT {
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId(HDFC_BANK_ID);
     bookLoanRequest.setTenure(255);
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(GenericErrorCode.TENURE_INVALID.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(GenericErrorCode.TENURE_INVALID.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(GenericErrorCode.TENURE_INVALID.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(GenericErrorCode.TENURE_INVALID.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(GenericErrorCode.TENURE_INVALID.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(GenericErrorCode.TENURE_INVALID.getErrorDesc()));
   }
 
   @Test
@@ -900,17 +902,17 @@ class LeapNeoControllerIT extends AbstractIT {
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId(HDFC_BANK_ID);
     bookLoanRequest.setInterestRate(255);
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(GenericErrorCode.INTEREST_RATE_INVALID.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(GenericErrorCode.INTEREST_RATE_INVALID.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(GenericErrorCode.INTEREST_RATE_INVALID.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(GenericErrorCode.INTEREST_RATE_INVALID.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(GenericErrorCode.INTEREST_RATE_INVALID.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(GenericErrorCode.INTEREST_RATE_INVALID.getErrorDesc()));
   }
 
   @Test
@@ -920,17 +922,17 @@ class LeapNeoControllerIT extends AbstractIT {
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId(HDFC_BANK_ID);
     bookLoanRequest.setItemCode(RandomStringUtils.randomAlphanumeric(30));
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(GenericErrorCode.ITEM_CODE_INVALID.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(GenericErrorCode.ITEM_CODE_INVALID.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(GenericErrorCode.ITEM_CODE_INVALID.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(GenericErrorCode.ITEM_CODE_INVALID.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(GenericErrorCode.ITEM_CODE_INVALID.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(GenericErrorCode.ITEM_CODE_INVALID.getErrorDesc()));
   }
 
   @Test
@@ -940,17 +942,17 @@ class LeapNeoControllerIT extends AbstractIT {
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId(HDFC_BANK_ID);
     bookLoanRequest.setInvoiceNumber(RandomStringUtils.randomAlphanumeric(30));
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorDesc()));
   }
 
   @Test
@@ -961,17 +963,17 @@ class LeapNeoControllerIT extends AbstractIT {
     bookLoanRequest.setTransactionId("100000005");
     bookLoanRequest.setBankId(HDFC_BANK_ID);
     bookLoanRequest.setPgRefNo("test");
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(GenericErrorCode.PG_REF_NO_INVALID.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(GenericErrorCode.PG_REF_NO_INVALID.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(GenericErrorCode.PG_REF_NO_INVALID.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(GenericErrorCode.PG_REF_NO_INVALID.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(GenericErrorCode.PG_REF_NO_INVALID.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(GenericErrorCode.PG_REF_NO_INVALID.getErrorDesc()));
   }
 
   @Test
@@ -981,17 +983,17 @@ class LeapNeoControllerIT extends AbstractIT {
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId(HDFC_BANK_ID);
     bookLoanRequest.setTransactionId("100000006");
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorDesc()));
   }
 
   @Test
@@ -1001,17 +1003,17 @@ class LeapNeoControllerIT extends AbstractIT {
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId(HDFC_BANK_ID);
     bookLoanRequest.setTransactionId("100000009");
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.CUSTOMER_NOT_ELIGIBLE.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.CUSTOMER_NOT_ELIGIBLE.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.CUSTOMER_NOT_ELIGIBLE.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.CUSTOMER_NOT_ELIGIBLE.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.CUSTOMER_NOT_ELIGIBLE.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.CUSTOMER_NOT_ELIGIBLE.getErrorDesc()));
   }
 
   @Test
@@ -1021,17 +1023,17 @@ class LeapNeoControllerIT extends AbstractIT {
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId(HDFC_BANK_ID);
     bookLoanRequest.setTransactionId("100000010");
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.OTP_MISMATCH.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.OTP_MISMATCH.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.OTP_MISMATCH.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.OTP_MISMATCH.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.OTP_MISMATCH.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.OTP_MISMATCH.getErrorDesc()));
   }
 
   @Test
@@ -1041,17 +1043,17 @@ class LeapNeoControllerIT extends AbstractIT {
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId(HDFC_BANK_ID);
     bookLoanRequest.setTransactionId("100000012");
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.OC_CUSTOMER_NOT_ELIGIBLE_FOR_AMOUNT.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.OC_CUSTOMER_NOT_ELIGIBLE_FOR_AMOUNT.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.OC_CUSTOMER_NOT_ELIGIBLE_FOR_AMOUNT.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.OC_CUSTOMER_NOT_ELIGIBLE_FOR_AMOUNT.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.OC_CUSTOMER_NOT_ELIGIBLE_FOR_AMOUNT.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.OC_CUSTOMER_NOT_ELIGIBLE_FOR_AMOUNT.getErrorDesc()));
   }
 
   @Test
@@ -1061,17 +1063,17 @@ class LeapNeoControllerIT extends AbstractIT {
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId(HDFC_BANK_ID);
     bookLoanRequest.setTransactionId("100000013");
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.INVALID_OTP_HDFC.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.INVALID_OTP_HDFC.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.INVALID_OTP_HDFC.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.INVALID_OTP_HDFC.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.INVALID_OTP_HDFC.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.INVALID_OTP_HDFC.getErrorDesc()));
   }
 
   @Test
@@ -1081,17 +1083,17 @@ class LeapNeoControllerIT extends AbstractIT {
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId(HDFC_BANK_ID);
     bookLoanRequest.setTransactionId("1000000016");
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.BANK_REFERENCE_NO_INVALID.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.BANK_REFERENCE_NO_INVALID.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.BANK_REFERENCE_NO_INVALID.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.BANK_REFERENCE_NO_INVALID.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.BANK_REFERENCE_NO_INVALID.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.BANK_REFERENCE_NO_INVALID.getErrorDesc()));
   }
 
   @Test
@@ -1101,17 +1103,17 @@ class LeapNeoControllerIT extends AbstractIT {
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId(HDFC_BANK_ID);
     bookLoanRequest.setTransactionId("1000000021");
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.MOBILE_NO_UNAVAILABLE.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.MOBILE_NO_UNAVAILABLE.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.MOBILE_NO_UNAVAILABLE.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.MOBILE_NO_UNAVAILABLE.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.MOBILE_NO_UNAVAILABLE.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.MOBILE_NO_UNAVAILABLE.getErrorDesc()));
   }
 
   @Test
@@ -1122,22 +1124,22 @@ class LeapNeoControllerIT extends AbstractIT {
     eligibilityRequest.setPgRefNo("123456789999990");
     eligibilityRequest.setTransactionId("1681380765003");
     eligibilityRequest.setBankId(ICICI_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isOk())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.bankid")
-                                           .value(eligibilityRequest.getBankId()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.merc_id")
-                                           .value(eligibilityRequest.getMercId()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.pg_ref_no")
-                                           .value(eligibilityRequest.getPgRefNo()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.amount")
-                                           .value(eligibilityRequest.getAmount()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code").value(SUCCESS_TRX_CODE))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message").value(SUCCESS));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isOk())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.bankid")
+                                            .value(eligibilityRequest.getBankId()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.merc_id")
+                                            .value(eligibilityRequest.getMercId()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.pg_ref_no")
+                                            .value(eligibilityRequest.getPgRefNo()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.amount")
+                                            .value(eligibilityRequest.getAmount()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code").value(SUCCESS_TRX_CODE))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message").value(SUCCESS));
   }
 
   @Test
@@ -1147,18 +1149,18 @@ class LeapNeoControllerIT extends AbstractIT {
     final EligibilityRequest eligibilityRequest = getEligibilityRequest();
     eligibilityRequest.setTransactionId("1681380765004");
     eligibilityRequest.setBankId(ICICI_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.INVALID_TENURE_MONTHS.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.INVALID_TENURE_MONTHS.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.INVALID_TENURE_MONTHS.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.INVALID_TENURE_MONTHS.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.INVALID_TENURE_MONTHS.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.INVALID_TENURE_MONTHS.getErrorDesc()));
   }
 
   @Test
@@ -1168,18 +1170,18 @@ class LeapNeoControllerIT extends AbstractIT {
     final EligibilityRequest eligibilityRequest = getEligibilityRequest();
     eligibilityRequest.setTransactionId("1681380765005");
     eligibilityRequest.setBankId(ICICI_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.CUSTOMER_DETAILS_NOT_FOUND.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.CUSTOMER_DETAILS_NOT_FOUND.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.CUSTOMER_DETAILS_NOT_FOUND.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.CUSTOMER_DETAILS_NOT_FOUND.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.CUSTOMER_DETAILS_NOT_FOUND.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.CUSTOMER_DETAILS_NOT_FOUND.getErrorDesc()));
   }
 
   @Test
@@ -1189,18 +1191,18 @@ class LeapNeoControllerIT extends AbstractIT {
     final EligibilityRequest eligibilityRequest = getEligibilityRequest();
     eligibilityRequest.setTransactionId("1681380765006");
     eligibilityRequest.setBankId(ICICI_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.CUSTOMER_PAN_MISMATCH.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.CUSTOMER_PAN_MISMATCH.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.CUSTOMER_PAN_MISMATCH.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.CUSTOMER_PAN_MISMATCH.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.CUSTOMER_PAN_MISMATCH.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.CUSTOMER_PAN_MISMATCH.getErrorDesc()));
   }
 
   @Test
@@ -1210,18 +1212,18 @@ class LeapNeoControllerIT extends AbstractIT {
     final EligibilityRequest eligibilityRequest = getEligibilityRequest();
     eligibilityRequest.setTransactionId("1681380765007");
     eligibilityRequest.setBankId(ICICI_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.DUPLICATE_TRANSACTION_REQUEST.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.DUPLICATE_TRANSACTION_REQUEST.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.DUPLICATE_TRANSACTION_REQUEST.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.DUPLICATE_TRANSACTION_REQUEST.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.DUPLICATE_TRANSACTION_REQUEST.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.DUPLICATE_TRANSACTION_REQUEST.getErrorDesc()));
   }
 
   @Test
@@ -1231,18 +1233,18 @@ class LeapNeoControllerIT extends AbstractIT {
     final EligibilityRequest eligibilityRequest = getEligibilityRequest();
     eligibilityRequest.setTransactionId("1681380765008");
     eligibilityRequest.setBankId(ICICI_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.CUSTOMER_NOT_ELIGIBLE.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.CUSTOMER_NOT_ELIGIBLE.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.CUSTOMER_NOT_ELIGIBLE.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.CUSTOMER_NOT_ELIGIBLE.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.CUSTOMER_NOT_ELIGIBLE.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.CUSTOMER_NOT_ELIGIBLE.getErrorDesc()));
   }
 
   @Test
@@ -1252,18 +1254,18 @@ class LeapNeoControllerIT extends AbstractIT {
     final EligibilityRequest eligibilityRequest = getEligibilityRequest();
     eligibilityRequest.setTransactionId("1681380765009");
     eligibilityRequest.setBankId(ICICI_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.INVALID_AMOUNT.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.INVALID_AMOUNT.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.INVALID_AMOUNT.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.INVALID_AMOUNT.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.INVALID_AMOUNT.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.INVALID_AMOUNT.getErrorDesc()));
   }
 
   @Test
@@ -1273,18 +1275,18 @@ class LeapNeoControllerIT extends AbstractIT {
     final EligibilityRequest eligibilityRequest = getEligibilityRequest();
     eligibilityRequest.setTransactionId("1681380765010");
     eligibilityRequest.setBankId(ICICI_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.INVALID_AMOUNT.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.INVALID_AMOUNT.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.INVALID_AMOUNT.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.INVALID_AMOUNT.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.INVALID_AMOUNT.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.INVALID_AMOUNT.getErrorDesc()));
   }
 
   @Test
@@ -1294,18 +1296,18 @@ class LeapNeoControllerIT extends AbstractIT {
     final EligibilityRequest eligibilityRequest = getEligibilityRequest();
     eligibilityRequest.setTransactionId("1681380765011");
     eligibilityRequest.setBankId(ICICI_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.GENERIC_ERROR.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.GENERIC_ERROR.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.GENERIC_ERROR.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.GENERIC_ERROR.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.GENERIC_ERROR.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.GENERIC_ERROR.getErrorDesc()));
   }
 
   @Test
@@ -1315,18 +1317,18 @@ class LeapNeoControllerIT extends AbstractIT {
     final EligibilityRequest eligibilityRequest = getEligibilityRequest();
     eligibilityRequest.setTransactionId("1681380765012");
     eligibilityRequest.setBankId(ICICI_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.TRANSACTION_TIMEOUT.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.TRANSACTION_TIMEOUT.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.TRANSACTION_TIMEOUT.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.TRANSACTION_TIMEOUT.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.TRANSACTION_TIMEOUT.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.TRANSACTION_TIMEOUT.getErrorDesc()));
   }
 
   @Test
@@ -1336,18 +1338,18 @@ class LeapNeoControllerIT extends AbstractIT {
     final EligibilityRequest eligibilityRequest = getEligibilityRequest();
     eligibilityRequest.setTransactionId("1681380765013");
     eligibilityRequest.setBankId(ICICI_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.MERCHANT_NOT_EXIST.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.MERCHANT_NOT_EXIST.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.MERCHANT_NOT_EXIST.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.MERCHANT_NOT_EXIST.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.MERCHANT_NOT_EXIST.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.MERCHANT_NOT_EXIST.getErrorDesc()));
   }
 
   @Test
@@ -1357,18 +1359,18 @@ class LeapNeoControllerIT extends AbstractIT {
     final EligibilityRequest eligibilityRequest = getEligibilityRequest();
     eligibilityRequest.setTransactionId("1681380765014");
     eligibilityRequest.setBankId(ICICI_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.TRANSACTION_ID_MISMATCH.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.TRANSACTION_ID_MISMATCH.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.TRANSACTION_ID_MISMATCH.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.TRANSACTION_ID_MISMATCH.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.TRANSACTION_ID_MISMATCH.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.TRANSACTION_ID_MISMATCH.getErrorDesc()));
   }
 
   @Test
@@ -1378,18 +1380,18 @@ class LeapNeoControllerIT extends AbstractIT {
     final EligibilityRequest eligibilityRequest = getEligibilityRequest();
     eligibilityRequest.setTransactionId("1681380765015");
     eligibilityRequest.setBankId(ICICI_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.INVALID_ENCRYPTED_REQUEST.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.INVALID_ENCRYPTED_REQUEST.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.INVALID_ENCRYPTED_REQUEST.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.INVALID_ENCRYPTED_REQUEST.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.INVALID_ENCRYPTED_REQUEST.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.INVALID_ENCRYPTED_REQUEST.getErrorDesc()));
   }
 
   @Test
@@ -1399,18 +1401,18 @@ class LeapNeoControllerIT extends AbstractIT {
     final EligibilityRequest eligibilityRequest = getEligibilityRequest();
     eligibilityRequest.setTransactionId("1681380765016");
     eligibilityRequest.setBankId(ICICI_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.INVALID_JSON.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.INVALID_JSON.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.INVALID_JSON.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.INVALID_JSON.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.INVALID_JSON.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.INVALID_JSON.getErrorDesc()));
   }
 
   @Test
@@ -1420,18 +1422,18 @@ class LeapNeoControllerIT extends AbstractIT {
     final EligibilityRequest eligibilityRequest = getEligibilityRequest();
     eligibilityRequest.setTransactionId("1681380765017");
     eligibilityRequest.setBankId(ICICI_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.FORMAT_MISMATCH.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.FORMAT_MISMATCH.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.FORMAT_MISMATCH.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.FORMAT_MISMATCH.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.FORMAT_MISMATCH.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.FORMAT_MISMATCH.getErrorDesc()));
   }
 
   @Test
@@ -1441,18 +1443,18 @@ class LeapNeoControllerIT extends AbstractIT {
     final EligibilityRequest eligibilityRequest = getEligibilityRequest();
     eligibilityRequest.setTransactionId("1681380765018");
     eligibilityRequest.setBankId(ICICI_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.MANDATORY_FIELD_MISSING.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.MANDATORY_FIELD_MISSING.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.MANDATORY_FIELD_MISSING.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.MANDATORY_FIELD_MISSING.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.MANDATORY_FIELD_MISSING.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.MANDATORY_FIELD_MISSING.getErrorDesc()));
   }
 
   @Test
@@ -1462,18 +1464,18 @@ class LeapNeoControllerIT extends AbstractIT {
     final EligibilityRequest eligibilityRequest = getEligibilityRequest();
     eligibilityRequest.setTransactionId("1681380765019");
     eligibilityRequest.setBankId(ICICI_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.EMI_TRANSACTION_TIMEOUT.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.EMI_TRANSACTION_TIMEOUT.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.EMI_TRANSACTION_TIMEOUT.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.EMI_TRANSACTION_TIMEOUT.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.EMI_TRANSACTION_TIMEOUT.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.EMI_TRANSACTION_TIMEOUT.getErrorDesc()));
   }
 
   @Test
@@ -1483,18 +1485,18 @@ class LeapNeoControllerIT extends AbstractIT {
     final EligibilityRequest eligibilityRequest = getEligibilityRequest();
     eligibilityRequest.setTransactionId("1681380765020");
     eligibilityRequest.setBankId(ICICI_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.RESPONSE_TIMEOUT.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.RESPONSE_TIMEOUT.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.RESPONSE_TIMEOUT.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.RESPONSE_TIMEOUT.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.RESPONSE_TIMEOUT.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.RESPONSE_TIMEOUT.getErrorDesc()));
   }
 
   @Test
@@ -1504,21 +1506,21 @@ class LeapNeoControllerIT extends AbstractIT {
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId(ICICI_BANK_ID);
     bookLoanRequest.setTransactionId("1681380765113");
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isOk())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.merc_id")
-                                           .value(bookLoanRequest.getMercId()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.pg_ref_no")
-                                           .value(bookLoanRequest.getPgRefNo()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.emi_details.amount")
-                                           .value(bookLoanRequest.getAmount()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.emi_details.interest_rate")
-                                           .value(bookLoanRequest.getInterestRate()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.emi_details.tenure")
-                                           .value(bookLoanRequest.getTenure()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isOk())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.merc_id")
+                                            .value(bookLoanRequest.getMercId()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.pg_ref_no")
+                                            .value(bookLoanRequest.getPgRefNo()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.emi_details.amount")
+                                            .value(bookLoanRequest.getAmount()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.emi_details.interest_rate")
+                                            .value(bookLoanRequest.getInterestRate()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.emi_details.tenure")
+                                            .value(bookLoanRequest.getTenure()));
   }
 
   @Test
@@ -1528,17 +1530,17 @@ class LeapNeoControllerIT extends AbstractIT {
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId(ICICI_BANK_ID);
     bookLoanRequest.setTransactionId("1681380765115");
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.INVALID_OTP.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.INVALID_OTP.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.INVALID_OTP.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.INVALID_OTP.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.INVALID_OTP.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.INVALID_OTP.getErrorDesc()));
   }
 
   @Test
@@ -1548,17 +1550,17 @@ class LeapNeoControllerIT extends AbstractIT {
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId(ICICI_BANK_ID);
     bookLoanRequest.setTransactionId("1681380765116");
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.PAYMENT_PROCESSING_FAILED.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.PAYMENT_PROCESSING_FAILED.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.PAYMENT_PROCESSING_FAILED.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.PAYMENT_PROCESSING_FAILED.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.PAYMENT_PROCESSING_FAILED.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.PAYMENT_PROCESSING_FAILED.getErrorDesc()));
   }
 
   @Test
@@ -1568,17 +1570,17 @@ class LeapNeoControllerIT extends AbstractIT {
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId(ICICI_BANK_ID);
     bookLoanRequest.setTransactionId("1681380765117");
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.BLOCK_OFFER_FAILED.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.BLOCK_OFFER_FAILED.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.BLOCK_OFFER_FAILED.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.BLOCK_OFFER_FAILED.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.BLOCK_OFFER_FAILED.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.BLOCK_OFFER_FAILED.getErrorDesc()));
   }
 
   @Test
@@ -1588,17 +1590,17 @@ class LeapNeoControllerIT extends AbstractIT {
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId(ICICI_BANK_ID);
     bookLoanRequest.setTransactionId("1681380765118");
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.DUPLICATE_TRANSACTION_REQUEST.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.DUPLICATE_TRANSACTION_REQUEST.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.DUPLICATE_TRANSACTION_REQUEST.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.DUPLICATE_TRANSACTION_REQUEST.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.DUPLICATE_TRANSACTION_REQUEST.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.DUPLICATE_TRANSACTION_REQUEST.getErrorDesc()));
   }
 
   @Test
@@ -1608,17 +1610,17 @@ class LeapNeoControllerIT extends AbstractIT {
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId(ICICI_BANK_ID);
     bookLoanRequest.setTransactionId("16813807651181");
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.TRANSACTION_ID_MISMATCH.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.TRANSACTION_ID_MISMATCH.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.TRANSACTION_ID_MISMATCH.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.TRANSACTION_ID_MISMATCH.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.TRANSACTION_ID_MISMATCH.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.TRANSACTION_ID_MISMATCH.getErrorDesc()));
   }
 
   @Test
@@ -1628,17 +1630,17 @@ class LeapNeoControllerIT extends AbstractIT {
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId(ICICI_BANK_ID);
     bookLoanRequest.setTransactionId("1681380765119");
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.DUPLICATE_TRANSACTION_REQUEST.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.DUPLICATE_TRANSACTION_REQUEST.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.DUPLICATE_TRANSACTION_REQUEST.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.DUPLICATE_TRANSACTION_REQUEST.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.DUPLICATE_TRANSACTION_REQUEST.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.DUPLICATE_TRANSACTION_REQUEST.getErrorDesc()));
   }
 
   @Test
@@ -1648,17 +1650,17 @@ class LeapNeoControllerIT extends AbstractIT {
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId(ICICI_BANK_ID);
     bookLoanRequest.setTransactionId("1681380765120");
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.INVALID_TENURE_MONTHS.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.INVALID_TENURE_MONTHS.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.INVALID_TENURE_MONTHS.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.INVALID_TENURE_MONTHS.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.INVALID_TENURE_MONTHS.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.INVALID_TENURE_MONTHS.getErrorDesc()));
   }
 
   @Test
@@ -1668,17 +1670,17 @@ class LeapNeoControllerIT extends AbstractIT {
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId(ICICI_BANK_ID);
     bookLoanRequest.setTransactionId("1681380765121");
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.INVALID_AMOUNT.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.INVALID_AMOUNT.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.INVALID_AMOUNT.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.INVALID_AMOUNT.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.INVALID_AMOUNT.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.INVALID_AMOUNT.getErrorDesc()));
   }
 
   @Test
@@ -1688,17 +1690,17 @@ class LeapNeoControllerIT extends AbstractIT {
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId(ICICI_BANK_ID);
     bookLoanRequest.setTransactionId("1681380765122");
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.TRANSACTION_TIMEOUT.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.TRANSACTION_TIMEOUT.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.TRANSACTION_TIMEOUT.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.TRANSACTION_TIMEOUT.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.TRANSACTION_TIMEOUT.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.TRANSACTION_TIMEOUT.getErrorDesc()));
   }
 
   @Test
@@ -1708,17 +1710,17 @@ class LeapNeoControllerIT extends AbstractIT {
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId(ICICI_BANK_ID);
     bookLoanRequest.setTransactionId("1681380765123");
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.BLOCK_OFFER_FAILED.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.BLOCK_OFFER_FAILED.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.BLOCK_OFFER_FAILED.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.BLOCK_OFFER_FAILED.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.BLOCK_OFFER_FAILED.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.BLOCK_OFFER_FAILED.getErrorDesc()));
   }
 
   @Test
@@ -1728,17 +1730,17 @@ class LeapNeoControllerIT extends AbstractIT {
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId(ICICI_BANK_ID);
     bookLoanRequest.setTransactionId("1681380765124");
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.TECHNICAL_ERROR.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.TECHNICAL_ERROR.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.TECHNICAL_ERROR.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.TECHNICAL_ERROR.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.TECHNICAL_ERROR.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.TECHNICAL_ERROR.getErrorDesc()));
   }
 
   @Test
@@ -1748,17 +1750,17 @@ class LeapNeoControllerIT extends AbstractIT {
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId(ICICI_BANK_ID);
     bookLoanRequest.setTransactionId("1681380765125");
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.EMPTY_JSON_REQUEST.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.EMPTY_JSON_REQUEST.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.EMPTY_JSON_REQUEST.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.EMPTY_JSON_REQUEST.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.EMPTY_JSON_REQUEST.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.EMPTY_JSON_REQUEST.getErrorDesc()));
   }
 
   @Test
@@ -1768,17 +1770,17 @@ class LeapNeoControllerIT extends AbstractIT {
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId(ICICI_BANK_ID);
     bookLoanRequest.setTransactionId("1681380765126");
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.MANDATORY_FIELD_DATA_MISSING.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.MANDATORY_FIELD_DATA_MISSING.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.MANDATORY_FIELD_DATA_MISSING.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.MANDATORY_FIELD_DATA_MISSING.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.MANDATORY_FIELD_DATA_MISSING.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.MANDATORY_FIELD_DATA_MISSING.getErrorDesc()));
   }
 
   @Test
@@ -1788,17 +1790,17 @@ class LeapNeoControllerIT extends AbstractIT {
     final BookLoanRequest bookLoanRequest = getBookLoanRequest();
     bookLoanRequest.setBankId(ICICI_BANK_ID);
     bookLoanRequest.setTransactionId("1681380765127");
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.FIELD_LENGTH_EXCEEDED.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
-                                           .value(FlexErrorCode.FIELD_LENGTH_EXCEEDED.getErrorType()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.message")
-                                           .value(FlexErrorCode.FIELD_LENGTH_EXCEEDED.getErrorDesc()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.FIELD_LENGTH_EXCEEDED.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_type")
+                                            .value(FlexErrorCode.FIELD_LENGTH_EXCEEDED.getErrorType()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                                            .value(FlexErrorCode.FIELD_LENGTH_EXCEEDED.getErrorDesc()));
   }
 
   @Test
@@ -1808,22 +1810,22 @@ class LeapNeoControllerIT extends AbstractIT {
     final EligibilityRequest eligibilityRequest = getEligibilityRequest();
     eligibilityRequest.setPgRefNo("TE5974DCEMI11111");
     eligibilityRequest.setBankId(AXIS_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isOk())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.bankid")
-                                           .value(eligibilityRequest.getBankId()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.merc_id")
-                                           .value(eligibilityRequest.getMercId()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.pg_ref_no")
-                                           .value(eligibilityRequest.getPgRefNo()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.amount")
-                                           .value(eligibilityRequest.getAmount()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code").value(SUCCESS_TRX_CODE))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status").value("ACCEPT"));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isOk())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.bankid")
+                                            .value(eligibilityRequest.getBankId()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.merc_id")
+                                            .value(eligibilityRequest.getMercId()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.pg_ref_no")
+                                            .value(eligibilityRequest.getPgRefNo()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.amount")
+                                            .value(eligibilityRequest.getAmount()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code").value(SUCCESS_TRX_CODE))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status").value("ACCEPT"));
   }
 
   @Test
@@ -1833,16 +1835,16 @@ class LeapNeoControllerIT extends AbstractIT {
     final EligibilityRequest eligibilityRequest = getEligibilityRequest();
     eligibilityRequest.setPgRefNo("TE5974DCEMI22222");
     eligibilityRequest.setBankId(AXIS_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(
-                                            eligibilityRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(INTERNAL_SERVER_ERROR_STATUS));
+    perform(MockMvcRequestBuilders.post(CHECK_ELIGIBILITY_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(
+                                    eligibilityRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(INTERNAL_SERVER_ERROR_STATUS));
   }
 
   @Test
@@ -1854,15 +1856,15 @@ class LeapNeoControllerIT extends AbstractIT {
     bookLoanRequest.setBankId(AXIS_BANK_ID);
     bookLoanRequest.setPgRefNo("14568908092821");
     bookLoanRequest.setOtp(223130);
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getStatus()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getStatus()));
   }
 
   @Test
@@ -1875,17 +1877,17 @@ class LeapNeoControllerIT extends AbstractIT {
     bookLoanRequest.setPgRefNo(PG_REF_NO);
     bookLoanRequest.setInvoiceNumber(PG_REF_NO);
     bookLoanRequest.setOtp(223130);
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isOk())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.merc_id")
-                                           .value(bookLoanRequest.getMercId()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.pg_ref_no")
-                                           .value(bookLoanRequest.getPgRefNo()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.emi_details.amount")
-                                           .value(bookLoanRequest.getAmount()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isOk())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.merc_id")
+                                            .value(bookLoanRequest.getMercId()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.pg_ref_no")
+                                            .value(bookLoanRequest.getPgRefNo()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.emi_details.amount")
+                                            .value(bookLoanRequest.getAmount()));
   }
 
   @Test
@@ -1898,15 +1900,15 @@ class LeapNeoControllerIT extends AbstractIT {
     bookLoanRequest.setPgRefNo("14568908092831");
     bookLoanRequest.setInvoiceNumber("14568908092831");
     bookLoanRequest.setOtp(223130);
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.EEE_CUSTOMER_NOT_ELIGIBLE_FOR_EMI.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(FlexErrorCode.EEE_CUSTOMER_NOT_ELIGIBLE_FOR_EMI.getStatus()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.EEE_CUSTOMER_NOT_ELIGIBLE_FOR_EMI.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(FlexErrorCode.EEE_CUSTOMER_NOT_ELIGIBLE_FOR_EMI.getStatus()));
   }
 
   @Test
@@ -1919,15 +1921,15 @@ class LeapNeoControllerIT extends AbstractIT {
     bookLoanRequest.setPgRefNo("14568908092822");
     bookLoanRequest.setInvoiceNumber("14568908092822");
     bookLoanRequest.setOtp(223130);
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.EEE_AMOUNT_NOT_ELIGIBLE.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(FlexErrorCode.EEE_AMOUNT_NOT_ELIGIBLE.getStatus()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.EEE_AMOUNT_NOT_ELIGIBLE.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(FlexErrorCode.EEE_AMOUNT_NOT_ELIGIBLE.getStatus()));
   }
 
   @Test
@@ -1940,15 +1942,15 @@ class LeapNeoControllerIT extends AbstractIT {
     bookLoanRequest.setPgRefNo("14568908092824");
     bookLoanRequest.setInvoiceNumber("14568908092824");
     bookLoanRequest.setOtp(223130);
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.EEE_OFFER_ALREADY_BLOCKED.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(FlexErrorCode.EEE_OFFER_ALREADY_BLOCKED.getStatus()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.EEE_OFFER_ALREADY_BLOCKED.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(FlexErrorCode.EEE_OFFER_ALREADY_BLOCKED.getStatus()));
   }
 
   @Test
@@ -1961,15 +1963,15 @@ class LeapNeoControllerIT extends AbstractIT {
     bookLoanRequest.setPgRefNo("14568908092825");
     bookLoanRequest.setInvoiceNumber("14568908092825");
     bookLoanRequest.setOtp(223130);
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.EEE_OFFER_EXPIRED.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(FlexErrorCode.EEE_OFFER_EXPIRED.getStatus()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.EEE_OFFER_EXPIRED.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(FlexErrorCode.EEE_OFFER_EXPIRED.getStatus()));
   }
 
   @Test
@@ -1982,15 +1984,15 @@ class LeapNeoControllerIT extends AbstractIT {
     bookLoanRequest.setPgRefNo("14568908092826");
     bookLoanRequest.setInvoiceNumber("14568908092826");
     bookLoanRequest.setOtp(223130);
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.ETE_INVALID_RESPONSE_FROM_BANK.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(FlexErrorCode.ETE_INVALID_RESPONSE_FROM_BANK.getStatus()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.ETE_INVALID_RESPONSE_FROM_BANK.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(FlexErrorCode.ETE_INVALID_RESPONSE_FROM_BANK.getStatus()));
   }
 
   @Test
@@ -2003,15 +2005,15 @@ class LeapNeoControllerIT extends AbstractIT {
     bookLoanRequest.setPgRefNo("14568908092827");
     bookLoanRequest.setInvoiceNumber("14568908092827");
     bookLoanRequest.setOtp(223130);
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.ETE_INPUT_VALUE_MISMATCH.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(FlexErrorCode.ETE_INPUT_VALUE_MISMATCH.getStatus()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.ETE_INPUT_VALUE_MISMATCH.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(FlexErrorCode.ETE_INPUT_VALUE_MISMATCH.getStatus()));
   }
 
   @Test
@@ -2024,15 +2026,15 @@ class LeapNeoControllerIT extends AbstractIT {
     bookLoanRequest.setPgRefNo("14568908092828");
     bookLoanRequest.setInvoiceNumber("14568908092828");
     bookLoanRequest.setOtp(223130);
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.IRE_INVALID_LOGIC_CODE.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(FlexErrorCode.IRE_INVALID_LOGIC_CODE.getStatus()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.IRE_INVALID_LOGIC_CODE.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(FlexErrorCode.IRE_INVALID_LOGIC_CODE.getStatus()));
   }
 
   @Test
@@ -2045,15 +2047,15 @@ class LeapNeoControllerIT extends AbstractIT {
     bookLoanRequest.setPgRefNo("14568908092829");
     bookLoanRequest.setInvoiceNumber("14568908092829");
     bookLoanRequest.setOtp(223130);
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.IRE_INVALID_MOBILE_NUMBER.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(FlexErrorCode.IRE_INVALID_MOBILE_NUMBER.getStatus()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.IRE_INVALID_MOBILE_NUMBER.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(FlexErrorCode.IRE_INVALID_MOBILE_NUMBER.getStatus()));
   }
 
   @Test
@@ -2066,15 +2068,15 @@ class LeapNeoControllerIT extends AbstractIT {
     bookLoanRequest.setPgRefNo("14568908092830");
     bookLoanRequest.setInvoiceNumber("14568908092830");
     bookLoanRequest.setOtp(223130);
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.IRE_INVALID_UNIQUE_REFERENCE_NUMBER.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(FlexErrorCode.IRE_INVALID_UNIQUE_REFERENCE_NUMBER.getStatus()));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.IRE_INVALID_UNIQUE_REFERENCE_NUMBER.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(FlexErrorCode.IRE_INVALID_UNIQUE_REFERENCE_NUMBER.getStatus()));
   }
 
   @Test
@@ -2085,19 +2087,19 @@ class LeapNeoControllerIT extends AbstractIT {
     bookLoanRequest.setTransactionId("SBIHI73779450230078964995");
     bookLoanRequest.setInvoiceNumber("98692289779869");
     bookLoanRequest.setBankId(SBI_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isOk())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.merc_id")
-                                           .value(bookLoanRequest.getMercId()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.pg_ref_no")
-                                           .value(bookLoanRequest.getPgRefNo()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.bank_reference_no")
-                                           .value(bookLoanRequest.getBankReferenceNo()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code").value(SUCCESS_TRX_CODE))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status").value("SUCCESS"));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isOk())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.merc_id")
+                                            .value(bookLoanRequest.getMercId()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.pg_ref_no")
+                                            .value(bookLoanRequest.getPgRefNo()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.bank_reference_no")
+                                            .value(bookLoanRequest.getBankReferenceNo()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code").value(SUCCESS_TRX_CODE))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status").value("SUCCESS"));
   }
 
   @Test
@@ -2108,14 +2110,26 @@ class LeapNeoControllerIT extends AbstractIT {
     bookLoanRequest.setTransactionId("SBIHI73779450230078964996");
     bookLoanRequest.setInvoiceNumber("98692289779869");
     bookLoanRequest.setBankId(SBI_BANK_ID);
-    mockMvc.perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
-                                          .contentType(MediaType.APPLICATION_JSON)
-                                          .accept(MediaType.APPLICATION_JSON)
-                                          .content(objectMapper.writeValueAsString(bookLoanRequest)))
-           .andExpect(status().isInternalServerError())
-           .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
-                                           .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorCode()))
-           .andExpect(MockMvcResultMatchers.jsonPath("$.status")
-                                           .value(INTERNAL_SERVER_ERROR_STATUS));
+    perform(MockMvcRequestBuilders.post(BOOK_LOAN_URL)
+                                  .contentType(MediaType.APPLICATION_JSON)
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .content(objectMapper.writeValueAsString(bookLoanRequest)))
+            .andExpect(status().isInternalServerError())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.error_code")
+                                            .value(FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorCode()))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.status")
+                                            .value(INTERNAL_SERVER_ERROR_STATUS));
+  }
+
+  @SneakyThrows
+  private ResultActions perform(final RequestBuilder requestBuilder) {
+
+    // Endpoints return Mono, so the response is only written once the async dispatch completes
+    final ResultActions resultActions = mockMvc.perform(requestBuilder);
+    final MvcResult mvcResult = resultActions.andReturn();
+    if (mvcResult.getRequest().isAsyncStarted()) {
+      return mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(mvcResult));
+    }
+    return resultActions;
   }
 }
\ No newline at end of file
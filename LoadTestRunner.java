@@ -0,0 +1,167 @@
+package com.billdesk.banks.benchmark;
+
+import com.billdesk.core.enums.FlexErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Open-loop load test. Starts the LEAPNEO_APIs.json stubs with the configured latency profile, then drives the
+ * check-eligibility and book-loan endpoints of a running app at a fixed total RPS and reports latency percentiles,
+ * decline rate and error rate per bank. Requests are sent on schedule regardless of how many are still in flight,
+ * so a saturated app shows up as growing latency instead of a silently lower send rate. Each request gets its own
+ * pgRefNo and transactionId so the load reaches the banks instead of the response caches (uniqueIds=false to turn
+ * that off). A response only counts as an error if the call failed or the app reported an infrastructure error code;
+ * bank declines and validation failures are counted as declines.
+ *
+ * <pre>
+ * LoadTestRunner app=http://localhost:8080 rps=200 durationSeconds=120 latency=latency.properties
+ *                scenarios=HDFC:check-eligibility:hdfc-eligibility.json,SBI:book-loan:sbi-book-loan.json
+ * </pre>
+ */
+@Log4j2
+public class LoadTestRunner {
+
+  private static final String API_PATH = "/api/v1/leapneo/";
+  private static final ObjectMapper objectMapper = new ObjectMapper();
+  // error_code values that mean the app or its bank connectivity failed, anything else is a business outcome
+  private static final Set<String> ERROR_CODES =
+    Stream.of(FlexErrorCode.INTERNAL_SERVER_ERROR, FlexErrorCode.GENERIC_ERROR, FlexErrorCode.TECHNICAL_ERROR,
+              FlexErrorCode.RESPONSE_TIMEOUT, FlexErrorCode.UNABLE_TO_PROCESS_REQUEST)
+          .map(errorCode -> String.valueOf(errorCode.getErrorCode()))
+          .collect(Collectors.toSet());
+
+  public static void main(final String[] args) throws Exception {
+
+    final BenchmarkArgs benchmarkArgs = BenchmarkArgs.parse(args);
+    final String app = benchmarkArgs.get("app", "http://localhost:8080");
+    final int rps = Integer.parseInt(benchmarkArgs.get("rps", "100"));
+    final long durationSeconds = Long.parseLong(benchmarkArgs.get("durationSeconds", "60"));
+    final String latency = benchmarkArgs.get("latency", null);
+    final List<Scenario> scenarios = parseScenarios(benchmarkArgs.get("scenarios", ""),
+                                                    Boolean.parseBoolean(benchmarkArgs.get("uniqueIds", "true")));
+    final Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+    scenarios.forEach(scenario -> recorders.putIfAbsent(scenario.bank, new LatencyRecorder()));
+    final HttpClient httpClient = HttpClient.newBuilder()
+                                            .executor(Executors.newFixedThreadPool(32))
+                                            .connectTimeout(Duration.ofSeconds(10))
+                                            .build();
+    try (StubServer ignored = StubServer.start(Integer.parseInt(benchmarkArgs.get("stubPort", "8000")),
+                                               Paths.get(benchmarkArgs.get("mappings", "LEAPNEO_APIs.json")),
+                                               LatencyProfile.load(latency == null ? null : Paths.get(latency)))) {
+      final AtomicLong inFlight = new AtomicLong();
+      final AtomicLong peakInFlight = new AtomicLong();
+      final long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rps;
+      final long total = rps * durationSeconds;
+      final long start = System.nanoTime();
+      for (long i = 0; i < total; i++) {
+        final long scheduled = start + i * intervalNanos;
+        LockSupport.parkNanos(scheduled - System.nanoTime());
+        final Scenario scenario = scenarios.get((int) (i % scenarios.size()));
+        final LatencyRecorder recorder = recorders.get(scenario.bank);
+        peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        // Latency is measured from the scheduled send time to avoid coordinated omission
+        httpClient.sendAsync(scenario.request(app), HttpResponse.BodyHandlers.ofString())
+                  .whenComplete((response, e) -> {
+                    recorder.record(System.nanoTime() - scheduled,
+                                    e != null ? LatencyRecorder.Outcome.ERROR
+                                              : outcome(response.statusCode(), response.body()));
+                    inFlight.decrementAndGet();
+                  });
+      }
+      while (inFlight.get() > 0) {
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+      }
+      log.info("Sent {} requests at {} rps, peak in flight {}", total, rps, peakInFlight.get());
+      recorders.forEach((bank, recorder) -> log.info("{} : {}", bank, recorder.summary()));
+    }
+    System.exit(0);
+  }
+
+  /**
+   * Parses bank:endpoint:body-file entries separated by commas.
+   */
+  static List<Scenario> parseScenarios(final String spec, final boolean uniqueIds) throws IOException {
+
+    final List<Scenario> scenarios = new ArrayList<>();
+    for (final String scenario : spec.split(",")) {
+      if (scenario.isBlank()) {
+        continue;
+      }
+      final String[] parts = scenario.trim().split(":");
+      if (parts.length != 3) {
+        throw new IllegalArgumentException("Expected bank:endpoint:body-file but got " + scenario);
+      }
+      scenarios.add(new Scenario(parts[0], parts[1],
+                                 new RequestBodies(new String(Files.readAllBytes(Paths.get(parts[2]))), uniqueIds)));
+    }
+    if (scenarios.isEmpty()) {
+      throw new IllegalArgumentException("No scenarios given, pass scenarios=bank:endpoint:body-file,...");
+    }
+    return scenarios;
+  }
+
+  static LatencyRecorder.Outcome outcome(final int status, final String body) {
+
+    if (status < 300) {
+      return LatencyRecorder.Outcome.SUCCESS;
+    }
+    try {
+      final String errorCode = objectMapper.readTree(body).path("error_code").asText(null);
+      if (errorCode != null) {
+        return ERROR_CODES.contains(errorCode) ? LatencyRecorder.Outcome.ERROR : LatencyRecorder.Outcome.DECLINED;
+      }
+    } catch (final IOException e) {
+      // Not one of the app's error bodies, e.g. a gateway error page
+    }
+    return status >= 500 ? LatencyRecorder.Outcome.ERROR : LatencyRecorder.Outcome.DECLINED;
+  }
+
+  static class Scenario {
+
+    private final String bank;
+    private final String endpoint;
+    private final RequestBodies bodies;
+
+    Scenario(final String bank, final String endpoint, final RequestBodies bodies) {
+
+      this.bank = bank;
+      this.endpoint = endpoint;
+      this.bodies = bodies;
+    }
+
+    String getBank() {
+
+      return bank;
+    }
+
+    HttpRequest request(final String app) {
+
+      return HttpRequest.newBuilder(URI.create(app + API_PATH + endpoint))
+                        .header("Content-Type", "application/json")
+                        .header("Accept", "application/json")
+                        .timeout(Duration.ofSeconds(60))
+                        .POST(HttpRequest.BodyPublishers.ofString(bodies.next()))
+                        .build();
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package com.billdesk.banks.benchmark;
+
+import com.billdesk.core.enums.FlexErrorCode;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class LoadTestRunnerTest {
+
+  private static final ObjectMapper objectMapper = new ObjectMapper();
+  @TempDir
+  Path tempDir;
+
+  @Test
+  @SneakyThrows
+  void testParseScenarios() {
+
+    final Path body = Files.writeString(tempDir.resolve("sbi.json"), "{\"pg_ref_no\":\"14568908092830\"}");
+    final List<LoadTestRunner.Scenario> scenarios =
+      LoadTestRunner.parseScenarios("SBI:book-loan:" + body + ", ", true);
+    Assertions.assertEquals(1, scenarios.size());
+    Assertions.assertEquals("SBI", scenarios.get(0).getBank());
+    Assertions.assertThrows(IllegalArgumentException.class, () -> LoadTestRunner.parseScenarios("", true));
+    Assertions.assertThrows(IllegalArgumentException.class,
+                            () -> LoadTestRunner.parseScenarios("SBI:book-loan", true));
+  }
+
+  @Test
+  @SneakyThrows
+  void testUniqueIdsKeepTheirLength() {
+
+    final RequestBodies bodies =
+      new RequestBodies("{\"pg_ref_no\":\"14568908092830\",\"transaction_id\":\"100000A031\",\"tenure\":6}", true);
+    final JsonNode first = objectMapper.readTree(bodies.next());
+    final JsonNode second = objectMapper.readTree(bodies.next());
+    Assertions.assertNotEquals(first.get("pg_ref_no"), second.get("pg_ref_no"));
+    Assertions.assertNotEquals(first.get("transaction_id"), second.get("transaction_id"));
+    Assertions.assertEquals(14, second.get("pg_ref_no").asText().length());
+    Assertions.assertEquals(10, second.get("transaction_id").asText().length());
+    Assertions.assertEquals(6, second.get("tenure").asInt());
+    final RequestBodies fixed = new RequestBodies("{\"pg_ref_no\":\"14568908092830\"}", false);
+    Assertions.assertEquals(fixed.next(), fixed.next());
+  }
+
+  @Test
+  void testOutcome() {
+
+    final String internalError =
+      "{\"error_code\":\"" + FlexErrorCode.INTERNAL_SERVER_ERROR.getErrorCode() + "\"}";
+    final String declined = "{\"error_code\":\"" + FlexErrorCode.INVALID_CREDENTIALS.getErrorCode() + "\"}";
+    Assertions.assertEquals(LatencyRecorder.Outcome.SUCCESS, LoadTestRunner.outcome(200, "{}"));
+    Assertions.assertEquals(LatencyRecorder.Outcome.ERROR, LoadTestRunner.outcome(500, internalError));
+    Assertions.assertEquals(LatencyRecorder.Outcome.DECLINED, LoadTestRunner.outcome(500, declined));
+    Assertions.assertEquals(LatencyRecorder.Outcome.DECLINED, LoadTestRunner.outcome(400, ""));
+    Assertions.assertEquals(LatencyRecorder.Outcome.ERROR, LoadTestRunner.outcome(502, "<html>Bad Gateway</html>"));
+  }
+
+  @Test
+  void testSummarySeparatesDeclinesFromErrors() {
+
+    final LatencyRecorder recorder = new LatencyRecorder();
+    recorder.record(1_000_000, LatencyRecorder.Outcome.SUCCESS);
+    recorder.record(1_000_000, LatencyRecorder.Outcome.DECLINED);
+    recorder.record(1_000_000, LatencyRecorder.Outcome.DECLINED);
+    recorder.record(1_000_000, LatencyRecorder.Outcome.ERROR);
+    final String summary = recorder.summary();
+    Assertions.assertTrue(summary.contains("declineRate=50.00%"), summary);
+    Assertions.assertTrue(summary.contains("errorRate=25.00%"), summary);
+  }
+}
@@ -0,0 +1,139 @@
+package com.billdesk.banks.support;
+
+import com.billdesk.core.model.BookLoanRequest;
+import com.billdesk.core.model.BookLoanResponse;
+import com.billdesk.core.model.EligibilityRequest;
+import org.apache.logging.log4j.util.StringBuilderFormattable;
+
+/**
+ * Log parameter that renders a chosen set of fields of a payload, with sensitive fields masked, only when the log
+ * line is actually written. Use it in place of logging whole request objects, whose toString walks the full graph
+ * and prints card, OTP and customer details in clear. Log4j2 renders it straight into its reusable buffer.
+ */
+public final class LogSummary<T> implements StringBuilderFormattable {
+
+  private static final Renderer<BookLoanRequest> BOOK_LOAN_REQUEST =
+    (request, out) -> out.field("bankId", request.getBankId())
+                         .field("mercId", request.getMercId())
+                         .field("pgRefNo", request.getPgRefNo())
+                         .field("transactionId", request.getTransactionId())
+                         .field("invoiceNumber", request.getInvoiceNumber())
+                         .field("amount", request.getAmount())
+                         .field("tenure", request.getTenure());
+  private static final Renderer<BookLoanResponse> BOOK_LOAN_RESPONSE =
+    (response, out) -> out.field("mercId", response.getMercId())
+                          .field("pgRefNo", response.getPgRefNo())
+                          .field("bankReferenceNo", response.getBankReferenceNo());
+  private static final Renderer<EligibilityRequest> ELIGIBILITY_REQUEST = (request, out) -> {
+    out.field("bankId", request.getBankId())
+       .field("mercId", request.getMercId())
+       .field("pgRefNo", request.getPgRefNo())
+       .field("transactionId", request.getTransactionId())
+       .field("amount", request.getAmount())
+       .field("tenure", request.getTenure());
+    if (request.getCardless() != null) {
+      out.masked("mobileNumber", request.getCardless().getMobileNumber(), MaskPlan.MOBILE)
+         .field("cardEnd", request.getCardless().getCardEnd())
+         .masked("panNumber", request.getCardless().getPanNumber(), MaskPlan.PAN);
+    }
+  };
+  private final T source;
+  private final Renderer<T> renderer;
+
+  private LogSummary(final T source, final Renderer<T> renderer) {
+
+    this.source = source;
+    this.renderer = renderer;
+  }
+
+  public static <T> LogSummary<T> of(final T source, final Renderer<T> renderer) {
+
+    return new LogSummary<>(source, renderer);
+  }
+
+  public static LogSummary<BookLoanRequest> of(final BookLoanRequest bookLoanRequest) {
+
+    return of(bookLoanRequest, BOOK_LOAN_REQUEST);
+  }
+
+  public static LogSummary<BookLoanResponse> of(final BookLoanResponse bookLoanResponse) {
+
+    return of(bookLoanResponse, BOOK_LOAN_RESPONSE);
+  }
+
+  public static LogSummary<EligibilityRequest> of(final EligibilityRequest eligibilityRequest) {
+
+    return of(eligibilityRequest, ELIGIBILITY_REQUEST);
+  }
+
+  @Override
+  public void formatTo(final StringBuilder buffer) {
+
+    if (source == null) {
+      buffer.append("null");
+      return;
+    }
+    final Fields fields = new Fields(buffer);
+    buffer.append('{');
+    renderer.render(source, fields);
+    buffer.append('}');
+  }
+
+  @Override
+  public String toString() {
+
+    final StringBuilder buffer = new StringBuilder(128);
+    formatTo(buffer);
+    return buffer.toString();
+  }
+
+  @FunctionalInterface
+  public interface Renderer<T> {
+
+    void render(T source, Fields out);
+  }
+
+  public static final class Fields {
+
+    private final StringBuilder buffer;
+    private boolean first = true;
+
+    private Fields(final StringBuilder buffer) {
+
+      this.buffer = buffer;
+    }
+
+    public Fields field(final String name, final Object value) {
+
+      name(name).append(value);
+      return this;
+    }
+
+    public Fields field(final String name, final double value) {
+
+      name(name).append(value);
+      return this;
+    }
+
+    public Fields field(final String name, final long value) {
+
+      name(name).append(value);
+      return this;
+    }
+
+    public Fields masked(final String name, final Object value, final MaskPlan plan) {
+
+      plan.mask(value == null ? null : value.toString(), name(name));
+      return this;
+    }
+
+    private StringBuilder name(final String name) {
+
+      if (!first) {
+        buffer.append(", ");
+      }
+      first = false;
+      return buffer.append(name).append('=');
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package com.billdesk.banks.support;
+
+import com.billdesk.banks.AbstractTest;
+import com.billdesk.core.model.BookLoanRequest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class LogSummaryTest extends AbstractTest {
+
+  @Test
+  void testMaskPlans() {
+
+    Assertions.assertEquals("400000******0002", MaskPlan.CARD.mask("4000000000000002"));
+    Assertions.assertEquals("******7890", MaskPlan.MOBILE.mask("1234567890"));
+    Assertions.assertEquals("******", MaskPlan.SECRET.mask("223130"));
+    Assertions.assertEquals("****", MaskPlan.CARD.mask("4000"));
+    Assertions.assertEquals("null", MaskPlan.CARD.mask(null));
+  }
+
+  @Test
+  void testBookLoanSummaryLeavesOutOtp() {
+
+    final BookLoanRequest bookLoanRequest = getBookLoanRequest();
+    final String summary = LogSummary.of(bookLoanRequest).toString();
+    Assertions.assertTrue(summary.startsWith("{bankId=" + bookLoanRequest.getBankId() + ", "));
+    Assertions.assertTrue(summary.contains("pgRefNo=" + bookLoanRequest.getPgRefNo()));
+    Assertions.assertFalse(summary.contains("otp"));
+  }
+
+  @Test
+  void testCustomRenderer() {
+
+    final StringBuilder buffer = new StringBuilder("request ");
+    LogSummary.of("4000000000000002", (card, out) -> out.masked("cardNumber", card, MaskPlan.CARD)
+                                                        .field("length", card.length()))
+              .formatTo(buffer);
+    Assertions.assertEquals("request {cardNumber=400000******0002, length=16}", buffer.toString());
+    Assertions.assertEquals("null", LogSummary.of((BookLoanRequest) null).toString());
+  }
+}
@@ -0,0 +1,86 @@
+package com.billdesk.banks.benchmark;
+
+import com.billdesk.banks.support.LogSummary;
+import com.billdesk.banks.support.MaskPlan;
+import com.billdesk.core.model.BookLoanRequest;
+import com.billdesk.core.model.EligibilityRequest;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Logging cost a request thread pays per request line. The message is formatted on the caller, and with async
+ * loggers that formatting is all the caller pays, so it is what is compared here: Lombok toString of the request
+ * graph against a LogSummary, and regex card masking against a MaskPlan. Run with -prof gc to compare allocation as
+ * well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggingBenchmark {
+
+  private static final Pattern CARD_PATTERN = Pattern.compile("(?<=\\d{6})\\d(?=\\d{4})");
+  private BookLoanRequest bookLoanRequest;
+  private EligibilityRequest eligibilityRequest;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+
+    bookLoanRequest = BenchmarkFixtures.bookLoanRequest();
+    eligibilityRequest = BenchmarkFixtures.eligibilityRequest();
+  }
+
+  @Benchmark
+  public String bookLoanToString() {
+
+    return new ParameterizedMessage("book-loan request received : {}", bookLoanRequest).getFormattedMessage();
+  }
+
+  @Benchmark
+  public String bookLoanSummary() {
+
+    return new ParameterizedMessage("book-loan request received : {}",
+                                    LogSummary.of(bookLoanRequest)).getFormattedMessage();
+  }
+
+  @Benchmark
+  public String eligibilityToString() {
+
+    return new ParameterizedMessage("Check eligibility request received : {}",
+                                    eligibilityRequest).getFormattedMessage();
+  }
+
+  @Benchmark
+  public String eligibilitySummary() {
+
+    return new ParameterizedMessage("Check eligibility request received : {}",
+                                    LogSummary.of(eligibilityRequest)).getFormattedMessage();
+  }
+
+  @Benchmark
+  public String maskCardRegex() {
+
+    return CARD_PATTERN.matcher(BenchmarkFixtures.CARD_NUMBER).replaceAll("*");
+  }
+
+  @Benchmark
+  public String maskCardPlan() {
+
+    return MaskPlan.CARD.mask(BenchmarkFixtures.CARD_NUMBER);
+  }
+}
@@ -0,0 +1,50 @@
+package com.billdesk.banks.support;
+
+/**
+ * Masking rule for one kind of sensitive field, fixed when the plan is created so masking a value is a single pass
+ * that appends straight into the log line, without regex or intermediate strings.
+ */
+public final class MaskPlan {
+
+  public static final MaskPlan CARD = new MaskPlan(6, 4);
+  public static final MaskPlan MOBILE = new MaskPlan(0, 4);
+  public static final MaskPlan PAN = new MaskPlan(0, 4);
+  public static final MaskPlan SECRET = new MaskPlan(0, 0);
+  private static final char MASK = '*';
+  private final int keepLeading;
+  private final int keepTrailing;
+
+  public MaskPlan(final int keepLeading, final int keepTrailing) {
+
+    this.keepLeading = keepLeading;
+    this.keepTrailing = keepTrailing;
+  }
+
+  public void mask(final CharSequence value, final StringBuilder out) {
+
+    if (value == null) {
+      out.append("null");
+      return;
+    }
+    final int length = value.length();
+    // Values too short to keep both ends are masked entirely rather than revealed
+    if (length <= keepLeading + keepTrailing) {
+      for (int i = 0; i < length; i++) {
+        out.append(MASK);
+      }
+      return;
+    }
+    out.append(value, 0, keepLeading);
+    for (int i = keepLeading; i < length - keepTrailing; i++) {
+      out.append(MASK);
+    }
+    out.append(value, length - keepTrailing, length);
+  }
+
+  public String mask(final CharSequence value) {
+
+    final StringBuilder out = new StringBuilder(value == null ? 4 : value.length());
+    mask(value, out);
+    return out.toString();
+  }
+}
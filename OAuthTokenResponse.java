@@ -0,0 +1,19 @@
+package com.billdesk.banks.hdfc.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class OAuthTokenResponse {
+
+  @JsonProperty("token_type")
+  private String tokenType;
+  @JsonProperty("access_token")
+  private String accessToken;
+  @JsonProperty("scope")
+  private String scope;
+  @JsonProperty("expires_in")
+  private long expiresIn;
+}
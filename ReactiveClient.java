@@ -0,0 +1,26 @@
+package com.billdesk.banks.service;
+
+import com.billdesk.core.service.Client;
+import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variant of {@link Client}. Implementations keep {@link Client#send} only as a blocking adapter over
+ * {@link #sendAsync} for callers that have not moved to the reactive path yet.
+ */
+public interface ReactiveClient extends Client {
+
+  <K, T> Mono<K> sendAsync(String url, T request, Class<K> clazz);
+
+  /**
+   * Headers sent with every request to this bank, built once from {@link #getHeaders()} and read only. Only headers
+   * that really differ per request should be added at send time.
+   */
+  HttpHeaders getDefaultHeaders();
+
+  @Override
+  default <K, T> K send(final String url, final T request, final Class<K> clazz) {
+
+    return sendAsync(url, request, clazz).block();
+  }
+}
@@ -0,0 +1,58 @@
+package com.billdesk.banks.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Request bodies built from a JSON template with the pgRefNo and transactionId made unique per request, so load
+ * reaches the bank instead of being answered by the idempotency and eligibility caches. The counter replaces the
+ * tail of each id so its length, and with it request validation, is unchanged.
+ */
+final class RequestBodies {
+
+  private static final ObjectMapper objectMapper = new ObjectMapper();
+  private static final List<String> ID_FIELDS = List.of("pg_ref_no", "pgRefNo", "transaction_id", "transactionId");
+  private final JsonNode template;
+  private final boolean uniqueIds;
+  private final AtomicLong sequence = new AtomicLong();
+
+  RequestBodies(final String template, final boolean uniqueIds) {
+
+    try {
+      this.template = objectMapper.readTree(template);
+    } catch (final JsonProcessingException e) {
+      throw new UncheckedIOException(e);
+    }
+    this.uniqueIds = uniqueIds;
+  }
+
+  String next() {
+
+    if (!uniqueIds || !template.isObject()) {
+      return template.toString();
+    }
+    final ObjectNode body = ((ObjectNode) template).deepCopy();
+    final String suffix = Long.toString(sequence.incrementAndGet());
+    for (final String field : ID_FIELDS) {
+      final JsonNode value = body.get(field);
+      if (value != null && value.isTextual()) {
+        body.put(field, withSuffix(value.asText(), suffix));
+      }
+    }
+    return body.toString();
+  }
+
+  private static String withSuffix(final String id, final String suffix) {
+
+    if (suffix.length() >= id.length()) {
+      return suffix.substring(suffix.length() - id.length());
+    }
+    return id.substring(0, id.length() - suffix.length()) + suffix;
+  }
+}
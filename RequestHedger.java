@@ -0,0 +1,148 @@
+package com.billdesk.banks.support;
+
+import com.billdesk.banks.config.HedgingConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Sends a second copy of a read-only bank request when the first has not answered within the configured percentile
+ * of recent latencies. The first response wins and the other request is cancelled; once a hedge is sent the request
+ * only fails when both copies have. Each copy borrows its own connection from the bank's pool, so the hedge never
+ * queues behind the slow request. Hedges are paid for from a budget earned by ordinary requests, which keeps the
+ * extra load bounded while a bank is down. The delay percentile is taken over first attempts that succeeded.
+ */
+@Component
+@Log4j2
+public class RequestHedger {
+
+  private static final int SAMPLE_SIZE = 512;
+  private static final long BUDGET_UNIT = 100;
+  // Operations the bank acts on, a second copy could book a loan or spend an OTP twice
+  private static final Set<String> NOT_HEDGEABLE = Set.of("book-loan", "generate-otp", "validate-otp");
+  private final Map<String, Hedge> hedges = new ConcurrentHashMap<>();
+  @Autowired
+  private HedgingConfig hedgingConfig;
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @PostConstruct
+  public void init() {
+
+    final Set<String> unsafe = new HashSet<>(hedgingConfig.getOperations());
+    unsafe.retainAll(NOT_HEDGEABLE);
+    if (!unsafe.isEmpty()) {
+      throw new IllegalStateException("hedging.operations must only list read-only operations, remove " + unsafe);
+    }
+  }
+
+  public <T> Mono<T> execute(final String bank, final String operation, final Supplier<Mono<T>> call) {
+
+    if (!hedgingConfig.getEnabledBanks().contains(bank) || !hedgingConfig.getOperations().contains(operation)) {
+      return call.get();
+    }
+    final Hedge hedge = hedges.computeIfAbsent(bank + ':' + operation, key -> new Hedge(bank, operation));
+    hedge.earn();
+    return Mono.defer(() -> {
+      final AtomicBoolean hedged = new AtomicBoolean();
+      // Set by whichever copy fails first once the hedge is out, so the second failure is the one reported
+      final AtomicBoolean oneFailed = new AtomicBoolean();
+      final Mono<T> first = hedge.timed(call.get())
+                                 .onErrorResume(e -> hedged.get() && oneFailed.compareAndSet(false, true)
+                                                     ? Mono.never()
+                                                     : Mono.error(e));
+      final Mono<T> second = Mono.delay(hedge.delay())
+                                 .flatMap(tick -> {
+                                   if (!hedge.spend()) {
+                                     return Mono.<T>never();
+                                   }
+                                   hedged.set(true);
+                                   log.debug("Hedging {} {} request", bank, operation);
+                                   return call.get().onErrorResume(e -> oneFailed.compareAndSet(false, true)
+                                                                        ? Mono.never()
+                                                                        : Mono.error(e));
+                                 });
+      return Mono.firstWithSignal(first, second);
+    });
+  }
+
+  private class Hedge {
+
+    private final long[] samples = new long[SAMPLE_SIZE];
+    private final AtomicLong budget = new AtomicLong();
+    private final Counter sent;
+    private int position;
+    private int count;
+    private volatile long delayNanos;
+
+    Hedge(final String bank, final String operation) {
+
+      this.delayNanos = TimeUnit.MILLISECONDS.toNanos(hedgingConfig.getDefaultDelayMs());
+      this.sent = Counter.builder("bank.hedge.sent").tag("bank", bank).tag("operation", operation)
+                         .register(meterRegistry);
+    }
+
+    Duration delay() {
+
+      return Duration.ofNanos(delayNanos);
+    }
+
+    void earn() {
+
+      final long cap = hedgingConfig.getMaxBurst() * BUDGET_UNIT;
+      budget.getAndUpdate(current -> Math.min(cap, current + hedgingConfig.getBudgetPercent()));
+    }
+
+    boolean spend() {
+
+      while (true) {
+        final long current = budget.get();
+        if (current < BUDGET_UNIT) {
+          return false;
+        }
+        if (budget.compareAndSet(current, current - BUDGET_UNIT)) {
+          sent.increment();
+          return true;
+        }
+      }
+    }
+
+    <T> Mono<T> timed(final Mono<T> call) {
+
+      return Mono.defer(() -> {
+        final long start = System.nanoTime();
+        return call.doOnSuccess(response -> record(System.nanoTime() - start));
+      });
+    }
+
+    private synchronized void record(final long latencyNanos) {
+
+      samples[position] = latencyNanos;
+      position = (position + 1) % SAMPLE_SIZE;
+      count = Math.min(SAMPLE_SIZE, count + 1);
+      // Recomputed every 64 samples, sorting on each response would cost more than the hedge saves
+      if (count >= hedgingConfig.getMinSamples() && position % 64 == 0) {
+        final long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        final long percentile =
+          sorted[Math.min(count - 1, (int) Math.ceil(hedgingConfig.getPercentile() * count) - 1)];
+        delayNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(hedgingConfig.getMinDelayMs()), percentile);
+      }
+    }
+  }
+}
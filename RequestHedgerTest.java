@@ -0,0 +1,116 @@
+package com.billdesk.banks.support;
+
+import com.billdesk.banks.AbstractTest;
+import com.billdesk.banks.config.HedgingConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RequestHedgerTest extends AbstractTest {
+
+  private static final String BANK = "icici";
+  private static final String ELIGIBILITY = "eligibility";
+  @Spy
+  private HedgingConfig hedgingConfig = new HedgingConfig();
+  @Spy
+  private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  @InjectMocks
+  private RequestHedger requestHedger;
+  private final AtomicInteger calls = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() {
+
+    hedgingConfig.setEnabledBanks(Set.of(BANK));
+    hedgingConfig.setDefaultDelayMs(20);
+    hedgingConfig.setBudgetPercent(100);
+  }
+
+  @Test
+  void testSlowRequestIsHedged() {
+
+    final String response = requestHedger.execute(BANK, ELIGIBILITY, this::slowThenFast).block();
+    Assertions.assertEquals("2", response);
+    Assertions.assertEquals(2, calls.get());
+    Assertions.assertEquals(1, meterRegistry.counter("bank.hedge.sent", "bank", BANK, "operation", ELIGIBILITY)
+                                            .count());
+  }
+
+  @Test
+  void testFastRequestIsNotHedged() {
+
+    final String response =
+      requestHedger.execute(BANK, ELIGIBILITY, () -> Mono.fromCallable(() -> "" + calls.incrementAndGet()))
+                   .block();
+    Assertions.assertEquals("1", response);
+    Assertions.assertEquals(1, calls.get());
+  }
+
+  @Test
+  void testNonHedgeableOperationIsNotHedged() {
+
+    final String response = requestHedger.execute(BANK, "book-loan", this::slowThenFast).block();
+    Assertions.assertEquals("1", response);
+    Assertions.assertEquals(1, calls.get());
+  }
+
+  @Test
+  void testFailedFirstAttemptWaitsForHedge() {
+
+    final String response = requestHedger.execute(BANK, ELIGIBILITY, () -> {
+      final int call = calls.incrementAndGet();
+      return call == 1
+             ? connectionResetAfter(100)
+             : Mono.just(String.valueOf(call)).delayElement(Duration.ofMillis(200));
+    }).block();
+    Assertions.assertEquals("2", response);
+  }
+
+  @Test
+  void testBothAttemptsFailing() {
+
+    Assertions.assertThrows(IllegalStateException.class, () -> requestHedger.execute(BANK, ELIGIBILITY, () -> {
+      calls.incrementAndGet();
+      return connectionResetAfter(50);
+    }).block());
+    Assertions.assertEquals(2, calls.get());
+  }
+
+  @Test
+  void testNonIdempotentOperationsAreRejectedAtStartup() {
+
+    hedgingConfig.setOperations(Set.of("eligibility", "book-loan"));
+    Assertions.assertThrows(IllegalStateException.class, requestHedger::init);
+  }
+
+  @Test
+  void testHedgesStopWhenBudgetIsSpent() {
+
+    hedgingConfig.setBudgetPercent(50);
+    requestHedger.execute(BANK, ELIGIBILITY, this::slowThenFast).block();
+    Assertions.assertEquals(1, calls.get());
+    calls.set(0);
+    requestHedger.execute(BANK, ELIGIBILITY, this::slowThenFast).block();
+    Assertions.assertEquals(2, calls.get());
+  }
+
+  private static Mono<String> connectionResetAfter(final long millis) {
+
+    return Mono.<String>error(new IllegalStateException("connection reset"))
+               .delaySubscription(Duration.ofMillis(millis));
+  }
+
+  private Mono<String> slowThenFast() {
+
+    final int call = calls.incrementAndGet();
+    return Mono.just(String.valueOf(call)).delayElement(Duration.ofMillis(call == 1 ? 300 : 1));
+  }
+}
@@ -0,0 +1,13 @@
+package com.billdesk.banks.validation;
+
+/**
+ * Validator generated at build time from a request type's bean validation constraints, see {@link GenerateValidator}.
+ * Checks run as straight-line code in field declaration order and stop at the first violation.
+ */
+public interface RequestValidator<T> {
+
+  /**
+   * @return the first violated constraint, or null if the request is valid
+   */
+  Violation validate(T request);
+}
@@ -0,0 +1,27 @@
+package com.billdesk.banks.validation;
+
+import com.billdesk.core.model.BookLoanRequest;
+import com.billdesk.core.model.EligibilityRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * Build-time generated validators for the LeapNeo requests, used in place of @Valid so a request is checked without
+ * reflection or a ConstraintViolation set per call.
+ */
+@Component
+@GenerateValidator({ BookLoanRequest.class, EligibilityRequest.class })
+public class RequestValidators {
+
+  private final RequestValidator<BookLoanRequest> bookLoanRequestValidator = new BookLoanRequestValidator();
+  private final RequestValidator<EligibilityRequest> eligibilityRequestValidator = new EligibilityRequestValidator();
+
+  public Violation validate(final BookLoanRequest bookLoanRequest) {
+
+    return bookLoanRequestValidator.validate(bookLoanRequest);
+  }
+
+  public Violation validate(final EligibilityRequest eligibilityRequest) {
+
+    return eligibilityRequestValidator.validate(eligibilityRequest);
+  }
+}
@@ -0,0 +1,89 @@
+package com.billdesk.banks.validation;
+
+import com.billdesk.banks.AbstractTest;
+import com.billdesk.core.model.BookLoanRequest;
+import com.billdesk.core.model.EligibilityRequest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import java.util.Set;
+import java.util.function.Consumer;
+
+public class RequestValidatorsTest extends AbstractTest {
+
+  private final RequestValidators requestValidators = new RequestValidators();
+  private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+  @Test
+  void testValidRequests() {
+
+    Assertions.assertNull(requestValidators.validate(getBookLoanRequest()));
+    Assertions.assertNull(requestValidators.validate(getEligibilityRequest()));
+  }
+
+  @Test
+  void testBookLoanViolationsMatchBeanValidation() {
+
+    assertMatches(request -> request.setPgRefNo(null));
+    assertMatches(request -> request.setBankId(null));
+    assertMatches(request -> request.setMercId(""));
+    assertMatches(request -> request.setTenure(-1));
+    assertMatches(request -> request.setAmount(-1.0));
+    assertMatches(request -> request.setOtp(-1));
+  }
+
+  @Test
+  void testEligibilityViolationsMatchBeanValidation() {
+
+    assertEligibilityMatches(request -> request.setPgRefNo(null));
+    assertEligibilityMatches(request -> request.setTransactionId(" "));
+    assertEligibilityMatches(request -> request.setTenure(-1));
+    assertEligibilityMatches(request -> request.setAmount(-1.0));
+  }
+
+  @Test
+  void testToBindingResult() {
+
+    final BookLoanRequest bookLoanRequest = getBookLoanRequest();
+    final Violation violation = new Violation("pgRefNo", "NotBlank", "PG_REF_NO_BLANK", null);
+    final BindingResult bindingResult = violation.toBindingResult(bookLoanRequest, "bookLoanRequest");
+    Assertions.assertEquals(1, bindingResult.getErrorCount());
+    final FieldError fieldError = bindingResult.getFieldError();
+    Assertions.assertNotNull(fieldError);
+    Assertions.assertEquals("pgRefNo", fieldError.getField());
+    Assertions.assertEquals("PG_REF_NO_BLANK", fieldError.getDefaultMessage());
+    Assertions.assertEquals("NotBlank", fieldError.getCode());
+  }
+
+  private void assertMatches(final Consumer<BookLoanRequest> mutation) {
+
+    final BookLoanRequest bookLoanRequest = getBookLoanRequest();
+    mutation.accept(bookLoanRequest);
+    assertMatches(requestValidators.validate(bookLoanRequest), validator.validate(bookLoanRequest));
+  }
+
+  private void assertEligibilityMatches(final Consumer<EligibilityRequest> mutation) {
+
+    final EligibilityRequest eligibilityRequest = getEligibilityRequest();
+    mutation.accept(eligibilityRequest);
+    assertMatches(requestValidators.validate(eligibilityRequest), validator.validate(eligibilityRequest));
+  }
+
+  private static <T> void assertMatches(final Violation violation, final Set<ConstraintViolation<T>> expected) {
+
+    if (expected.isEmpty()) {
+      Assertions.assertNull(violation);
+      return;
+    }
+    Assertions.assertNotNull(violation);
+    Assertions.assertTrue(expected.stream()
+                                  .anyMatch(v -> v.getPropertyPath().toString().equals(violation.getField())
+                                                 && v.getMessage().equals(violation.getMessage())),
+                          () -> violation + " not in " + expected);
+  }
+}
@@ -7,8 +7,13 @@ import com.billdesk.banks.sbi.eligibility.CustomerBlockRequest;
 import com.billdesk.banks.sbi.eligibility.CustomerBlockResponse;
 import com.billdesk.banks.sbi.eligibility.ObjectFactory;
 import com.billdesk.banks.sbi.translator.BDToSBIBookLoanRequestTranslator;
-import com.billdesk.banks.service.BookLoanResponseDao;
-import com.billdesk.banks.support.FlexExceptionFactory;
+import com.billdesk.banks.service.BookLoanWriteBehindPersister;
+import com.billdesk.banks.support.BankErrorCodes;
+import com.billdesk.banks.support.CipherPool;
+import com.billdesk.banks.support.CircuitBreakerRegistry;
+import com.billdesk.banks.support.Deadline;
+import com.billdesk.banks.support.LogSummary;
+import com.billdesk.banks.support.MaskPlan;
 import com.billdesk.core.enums.API;
 import com.billdesk.core.enums.FlexErrorCode;
 import com.billdesk.core.exception.FlexException;
@@ -30,6 +35,13 @@ import static com.billdesk.banks.sbi.constants.ErrorCodeConstants.BANK_SUCCESS_C
 public class SBIBookLoanService implements BookLoanService {
 
   private static final ObjectFactory objectFactory = new ObjectFactory();
+  private static final String BANK_NAME = "sbi";
+  private static final String OPERATION = "book-loan";
+  private static final LogSummary.Renderer<CardDetailsBlock> CARD_DETAILS =
+    (cardDetails, out) -> out.masked("cardNumber", cardDetails.getCardNumber(), MaskPlan.CARD)
+                             .masked("otpValue", cardDetails.getOtpValue(), MaskPlan.SECRET);
+  private static final LogSummary.Renderer<CustomerBlockApiResponse> BANK_RESPONSE =
+    (response, out) -> out.field("responseCode", response.getResponse().getResponseCode());
   @Autowired
   private SBIConfig sbiConfig;
   @Autowired
@@ -38,12 +50,19 @@ public class SBIBookLoanService implements BookLoanService {
   private ObjectMapper objectMapper;
   @Autowired
   private SBIEncryptionService sbiEncryptionService;
+  // Only configured when sbi.encryption.public-key is set, see SBIEncryptionConfig
+  @Autowired(required = false)
+  private CipherPool sbiCipherPool;
   @Autowired
   private SBISoapClient sbiSoapClient;
   @Autowired
-  private BookLoanResponseDao persister;
+  private CircuitBreakerRegistry circuitBreakerRegistry;
+  @Autowired
+  private BookLoanWriteBehindPersister persister;
   @Autowired
   private SBIBookLoanResponseTransformService transformService;
+  @Autowired
+  private BankErrorCodes bankErrorCodes;
 
   @Override
   public BookLoanResponse bookLoan(BookLoanRequest bookLoanRequest) {
@@ -51,43 +70,56 @@ public class SBIBookLoanService implements BookLoanService {
     try {
       log.info("Book loan request - URL [{}]", sbiConfig.getBookLoanUrl());
       final CustomerBlockRequest customerBlockRequest = translator.translate(bookLoanRequest);
-      log.info("Sending Book loan request to SBI bank {}", customerBlockRequest);
-      CardDetailsBlock cardDetailsBlock =
+      final CardDetailsBlock cardDetailsBlock =
         customerBlockRequest.getCustomerBlockApiRequest().getCardDetails();
-      final String encryptedCardNo =
-        sbiEncryptionService.encryptRequest(cardDetailsBlock.getCardNumber());
-      final String encryptedOtpValue =
-        sbiEncryptionService.encryptRequest(cardDetailsBlock.getOtpValue());
-      cardDetailsBlock.setCardNumber(encryptedCardNo);
-      cardDetailsBlock.setOtpValue(encryptedOtpValue);
+      log.info("Sending Book loan request to SBI bank {} {}", LogSummary.of(bookLoanRequest),
+               LogSummary.of(cardDetailsBlock, CARD_DETAILS));
+      // Already off the event loop on bankCallScheduler, so encrypting inline blocks nothing else
+      final String[] encrypted = encrypt(cardDetailsBlock.getCardNumber(), cardDetailsBlock.getOtpValue());
+      cardDetailsBlock.setCardNumber(encrypted[0]);
+      cardDetailsBlock.setOtpValue(encrypted[1]);
       customerBlockRequest.getCustomerBlockApiRequest().setCardDetails(cardDetailsBlock);
-      log.debug("Encrypted SBI book-loan request sending to the  bank {}", customerBlockRequest);
+      log.debug("Encrypted SBI book-loan request sending to the  bank {}",
+                LogSummary.of(cardDetailsBlock, CARD_DETAILS));
       final JAXBElement<CustomerBlockRequest> bankRequest =
         objectFactory.createCustomerBlockRequest(customerBlockRequest);
+      // Encryption may have used up what was left of the caller's deadline
+      Deadline.checkCurrent();
+      // The bank id's bulkhead was taken by LeapNeoController before this call was scheduled
       final JAXBElement<CustomerBlockResponse> response =
-        sbiSoapClient.send(bankRequest, JAXBElement.class, sbiConfig.getBookLoanUrl());
+        circuitBreakerRegistry.execute(BANK_NAME, OPERATION,
+                                       () -> sbiSoapClient.send(bankRequest, JAXBElement.class,
+                                                                sbiConfig.getBookLoanUrl()));
       final CustomerBlockApiResponse customerBlockApiResponse =
         response.getValue().getCustomerBlockApiResponse();
-      log.info("Book-loan sbi response received from the bank {}", response.getValue());
+      log.info("Book-loan sbi response received from the bank {}",
+               LogSummary.of(customerBlockApiResponse, BANK_RESPONSE));
       final String errorCode =
         String.valueOf(customerBlockApiResponse.getResponse().getResponseCode());
       // Considering 0000 as success code mentioned in doc, if code changes needs to change code here as well
       if (!errorCode.equals(BANK_SUCCESS_CODE)) {
-        throw FlexExceptionFactory.get(errorCode, API.ORDER_CONFIRMATION);
+        throw bankErrorCodes.get(BANK_NAME, errorCode, API.ORDER_CONFIRMATION);
       }
       persister.saveBookLoanDetails(customerBlockApiResponse, bookLoanRequest);
       return transformService.transform(customerBlockApiResponse, bookLoanRequest);
     } catch (final FlexException ex) {
-      log.error(ex.getStackTrace());
       log.error("Error occurred during book-loan process {}", ex.getMessage());
       throw ex;
     } catch (final Exception ex) {
-      log.error(ex.getStackTrace());
-      log.error("Error occurred at runtime during book-loan process {}", ex.getMessage());
+      log.error("Error occurred at runtime during book-loan process {}", ex.getMessage(), ex);
       throw new FlexException(FlexErrorCode.INTERNAL_SERVER_ERROR, API.ORDER_CONFIRMATION);
     }
   }
 
+  private String[] encrypt(final String cardNumber, final String otpValue) throws Exception {
+
+    if (sbiCipherPool != null) {
+      return sbiCipherPool.encrypt(cardNumber, otpValue);
+    }
+    return new String[] { sbiEncryptionService.encryptRequest(cardNumber),
+                          sbiEncryptionService.encryptRequest(otpValue) };
+  }
+
   @Override
   public List<String> getServiceType() {
 
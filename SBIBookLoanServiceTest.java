@@ -4,9 +4,16 @@ import com.billdesk.banks.AbstractTest;
 import com.billdesk.banks.sbi.config.SBIConfig;
 import com.billdesk.banks.sbi.eligibility.CustomerBlockApiResponse;
 import com.billdesk.banks.sbi.eligibility.CustomerBlockRequest;
+import com.billdesk.banks.sbi.eligibility.CustomerBlockResponse;
 import com.billdesk.banks.sbi.eligibility.ObjectFactory;
 import com.billdesk.banks.sbi.translator.BDToSBIBookLoanRequestTranslator;
-import com.billdesk.banks.service.BookLoanResponseDao;
+import com.billdesk.banks.service.BookLoanWriteBehindPersister;
+import com.billdesk.banks.support.BankErrorCodes;
+import com.billdesk.banks.support.CipherPool;
+import com.billdesk.banks.support.CircuitBreakerRegistry;
+import com.billdesk.core.enums.API;
+import com.billdesk.core.enums.FlexErrorCode;
+import com.billdesk.core.exception.FlexException;
 import com.billdesk.core.model.BookLoanRequest;
 import com.billdesk.core.model.BookLoanResponse;
 import lombok.SneakyThrows;
@@ -16,8 +23,10 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.xml.bind.JAXBElement;
+import java.util.function.Supplier;
 
 import static com.billdesk.banks.constants.AppTestConstants.ENCRYPTED_CARD_NO;
 import static com.billdesk.banks.constants.AppTestConstants.ENCRYPTED_OTP_VALUE;
@@ -37,13 +46,19 @@ public class SBIBookLoanServiceTest extends AbstractTest {
   @Mock
   SBIEncryptionService sbiEncryptionService;
   @Mock
+  CipherPool sbiCipherPool;
+  @Mock
   SBISoapClient sbiSoapClient;
   @Mock
   SBIBookLoanResponseTransformService transformService;
   @InjectMocks
   SBIBookLoanService sbiBookLoanService;
   @Mock
-  private BookLoanResponseDao persister;
+  private BookLoanWriteBehindPersister persister;
+  @Mock
+  private CircuitBreakerRegistry circuitBreakerRegistry;
+  @Mock
+  private BankErrorCodes bankErrorCodes;
 
   @Test
   @SneakyThrows
@@ -54,9 +69,11 @@ public class SBIBookLoanServiceTest extends AbstractTest {
     final CustomerBlockRequest customerBlockRequest = getCustomerBlockRequest();
     when(sbiConfig.getMerchantName()).thenReturn(RandomStringUtils.randomAlphanumeric(5));
     Mockito.when(translator.translate(any(BookLoanRequest.class))).thenReturn(customerBlockRequest);
-    Mockito.when(sbiEncryptionService.encryptRequest(anyString())).thenReturn(ENCRYPTED_CARD_NO);
-    Mockito.when(sbiEncryptionService.encryptRequest(anyString())).thenReturn(ENCRYPTED_OTP_VALUE);
+    Mockito.when(sbiCipherPool.encrypt(anyString(), anyString())).thenReturn(
+      new String[] { ENCRYPTED_CARD_NO, ENCRYPTED_OTP_VALUE });
     when(sbiConfig.getBookLoanUrl()).thenReturn(RandomStringUtils.randomAlphanumeric(10));
+    when(circuitBreakerRegistry.execute(anyString(), anyString(), any(Supplier.class))).thenAnswer(
+      invocation -> ((Supplier<?>) invocation.getArgument(2)).get());
     when(sbiSoapClient.send(any(JAXBElement.class), eq(JAXBElement.class), anyString())).thenReturn(
       objectFactory.createCustomerBlockResponse(getCustomerBlockResponse(customerBlockRequest)));
     when(transformService.transform(any(CustomerBlockApiResponse.class),
@@ -68,6 +85,29 @@ public class SBIBookLoanServiceTest extends AbstractTest {
     Assertions.assertEquals(bookLoanRequest.getPgRefNo(), bookLoanResponse.getPgRefNo());
   }
 
+  @Test
+  @SneakyThrows
+  void testBankDecline() {
+
+    final CustomerBlockRequest customerBlockRequest = getCustomerBlockRequest();
+    Mockito.when(translator.translate(any(BookLoanRequest.class))).thenReturn(customerBlockRequest);
+    Mockito.when(sbiCipherPool.encrypt(anyString(), anyString())).thenReturn(
+      new String[] { ENCRYPTED_CARD_NO, ENCRYPTED_OTP_VALUE });
+    when(sbiConfig.getBookLoanUrl()).thenReturn(RandomStringUtils.randomAlphanumeric(10));
+    when(circuitBreakerRegistry.execute(anyString(), anyString(), any(Supplier.class))).thenAnswer(
+      invocation -> ((Supplier<?>) invocation.getArgument(2)).get());
+    final CustomerBlockResponse customerBlockResponse = getCustomerBlockResponse(customerBlockRequest);
+    customerBlockResponse.getCustomerBlockApiResponse().getResponse().setResponseCode("1111");
+    when(sbiSoapClient.send(any(JAXBElement.class), eq(JAXBElement.class), anyString())).thenReturn(
+      objectFactory.createCustomerBlockResponse(customerBlockResponse));
+    when(bankErrorCodes.get("sbi", "1111", API.ORDER_CONFIRMATION)).thenReturn(
+      new FlexException(FlexErrorCode.CUSTOMER_NOT_ELIGIBLE, API.ORDER_CONFIRMATION));
+    final FlexException exception =
+      Assertions.assertThrows(FlexException.class, () -> sbiBookLoanService.bookLoan(getBookLoanRequest()));
+    Assertions.assertEquals(FlexErrorCode.CUSTOMER_NOT_ELIGIBLE, exception.getErrorCode());
+    Mockito.verifyNoInteractions(persister);
+  }
+
   @Test()
   @SneakyThrows
   void testRuntimeError() {
@@ -76,9 +116,12 @@ public class SBIBookLoanServiceTest extends AbstractTest {
     bookLoanRequest.setBankId(SBI_BANK_ID);
     final CustomerBlockRequest customerBlockRequest = getCustomerBlockRequest();
     Mockito.when(translator.translate(any(BookLoanRequest.class))).thenReturn(customerBlockRequest);
-    Mockito.when(sbiEncryptionService.encryptRequest(anyString())).thenReturn(ENCRYPTED_CARD_NO);
-    Mockito.when(sbiEncryptionService.encryptRequest(anyString())).thenReturn(ENCRYPTED_OTP_VALUE);
+    // Without the pooled cipher configured the fields go through SBIEncryptionService
+    ReflectionTestUtils.setField(sbiBookLoanService, "sbiCipherPool", null);
+    Mockito.when(sbiEncryptionService.encryptRequest(anyString())).thenReturn(ENCRYPTED_CARD_NO, ENCRYPTED_OTP_VALUE);
     when(sbiConfig.getBookLoanUrl()).thenReturn(RandomStringUtils.randomAlphanumeric(10));
+    when(circuitBreakerRegistry.execute(anyString(), anyString(), any(Supplier.class))).thenAnswer(
+      invocation -> ((Supplier<?>) invocation.getArgument(2)).get());
     when(sbiSoapClient.send(any(JAXBElement.class), eq(JAXBElement.class), anyString())).thenThrow(
       new RuntimeException());
     Assertions.assertThrows(RuntimeException.class,
@@ -0,0 +1,39 @@
+package com.billdesk.banks.config;
+
+import com.billdesk.banks.support.CipherPool;
+import lombok.Data;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Optional pooled cipher for SBI book-loan card number and OTP encryption. Without sbi.encryption.public-key the
+ * fields are encrypted by SBIEncryptionService as before. When set, the key and transformation must be the ones
+ * SBIEncryptionService uses, and startup fails if the transformation is missing.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "sbi.encryption")
+public class SBIEncryptionConfig {
+
+  // Base64 encoded X.509 public key SBI card numbers and OTPs are encrypted with
+  private String publicKey;
+  private String keyAlgorithm = "RSA";
+  // Cipher transformation SBI expects, e.g. as configured for SBIEncryptionService
+  private String transformation;
+  // Initialised ciphers kept for reuse, sized to the expected concurrent book-loans
+  private int poolSize = 16;
+
+  @Bean
+  @ConditionalOnProperty(prefix = "sbi.encryption", name = "public-key")
+  public CipherPool sbiCipherPool() {
+
+    if (StringUtils.isAnyBlank(publicKey, transformation)) {
+      throw new IllegalStateException("sbi.encryption.public-key and sbi.encryption.transformation must both be set"
+                                      + " to use the pooled SBI cipher, or both left out to use SBIEncryptionService");
+    }
+    return new CipherPool(transformation, CipherPool.publicKey(keyAlgorithm, publicKey), poolSize);
+  }
+}
@@ -0,0 +1,125 @@
+package com.billdesk.banks.support;
+
+import com.billdesk.core.enums.FlexErrorCode;
+import com.billdesk.core.exception.FlexException;
+import lombok.extern.log4j.Log4j2;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.CharArrayReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Single pass StAX extraction of the few fields we use from bank SOAP responses. Elements are matched by local name,
+ * or by their key attribute for TransUnion style {@code <Field key="StatusCode">} entries; the first occurrence of a
+ * field wins and reading stops once every field is found. Documents embedded as text (the CDATA DCResponse inside
+ * ExecuteXMLStringResult) are read straight from the parser's character buffer, without DOM or String copies.
+ */
+@Log4j2
+public final class SoapResponseReader {
+
+  private static final XMLInputFactory xmlInputFactory = createInputFactory();
+
+  private SoapResponseReader() {
+
+  }
+
+  public static Map<String, String> read(final String xml, final Set<String> fields) {
+
+    return read(new StringReader(xml), fields, Set.of());
+  }
+
+  public static Map<String, String> read(final String xml, final Set<String> fields, final Set<String> nestedDocuments) {
+
+    return read(new StringReader(xml), fields, nestedDocuments);
+  }
+
+  public static Map<String, String> read(final Reader source, final Set<String> fields, final Set<String> nestedDocuments) {
+
+    final Map<String, String> values = new HashMap<>(fields.size() * 2);
+    XMLStreamReader reader = null;
+    try {
+      reader = xmlInputFactory.createXMLStreamReader(source);
+      collect(reader, fields, nestedDocuments, values);
+    } catch (final XMLStreamException e) {
+      log.error("Encountered error while reading bank response. Error - {}", e.getMessage());
+      throw new FlexException(FlexErrorCode.GENERIC_ERROR);
+    } finally {
+      close(reader);
+    }
+    return values;
+  }
+
+  private static void collect(final XMLStreamReader reader,
+                              final Set<String> fields,
+                              final Set<String> nestedDocuments,
+                              final Map<String, String> values) throws XMLStreamException {
+
+    while (values.size() < fields.size() && reader.hasNext()) {
+      if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+        continue;
+      }
+      final String name = reader.getLocalName();
+      if (nestedDocuments.contains(name)) {
+        final int event = reader.next();
+        if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA) {
+          collectNested(reader, fields, nestedDocuments, values);
+        }
+        continue;
+      }
+      final String key = reader.getAttributeCount() > 0 ? reader.getAttributeValue(null, "key") : null;
+      final String field = key != null && fields.contains(key) ? key : fields.contains(name) ? name : null;
+      if (field != null && !values.containsKey(field)) {
+        values.put(field, reader.getElementText().trim());
+      }
+    }
+  }
+
+  private static void collectNested(final XMLStreamReader reader,
+                                    final Set<String> fields,
+                                    final Set<String> nestedDocuments,
+                                    final Map<String, String> values) throws XMLStreamException {
+
+    // The buffer is only valid until the outer reader moves on, so the nested document is read completely here
+    final char[] text = reader.getTextCharacters();
+    int start = reader.getTextStart();
+    final int end = start + reader.getTextLength();
+    while (start < end && Character.isWhitespace(text[start])) {
+      start++;
+    }
+    final XMLStreamReader nested = xmlInputFactory.createXMLStreamReader(new CharArrayReader(text, start, end - start));
+    try {
+      collect(nested, fields, nestedDocuments, values);
+    } finally {
+      close(nested);
+    }
+  }
+
+  private static void close(final XMLStreamReader reader) {
+
+    if (reader == null) {
+      return;
+    }
+    try {
+      reader.close();
+    } catch (final XMLStreamException e) {
+      log.debug("Unable to close xml reader. Error - {}", e.getMessage());
+    }
+  }
+
+  private static XMLInputFactory createInputFactory() {
+
+    final XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+    return factory;
+  }
+}
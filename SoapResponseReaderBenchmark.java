@@ -0,0 +1,117 @@
+package com.billdesk.banks.benchmark;
+
+import com.billdesk.banks.sbi.eligibility.CustomerBlockResponse;
+import com.billdesk.banks.sbi.eligibility.ObjectFactory;
+import com.billdesk.banks.support.SoapResponseReader;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xml.sax.InputSource;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StAX single pass reading against the current paths: JAXB unmarshalling of the SBI CustomerBlockResponse body and
+ * a DOM parse of the Axis envelope followed by a second DOM parse of the CDATA DCResponse. Response bodies are taken
+ * from LEAPNEO_APIs.json (override with -Dmappings=...).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SoapResponseReaderBenchmark {
+
+  private static final Set<String> SBI_FIELDS = Set.of("responseCode", "transactionReferenceNumber");
+  private static final Set<String> AXIS_FIELDS = Set.of("Status", "StatusCode", "Token");
+  private static final Set<String> AXIS_NESTED = Set.of("ExecuteXMLStringResult");
+  private String sbiResponse;
+  private String axisResponse;
+  private JAXBContext jaxbContext;
+  private DocumentBuilderFactory documentBuilderFactory;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+
+    final JsonNode mappings = new ObjectMapper().readTree(Files.readAllBytes(Paths.get(System.getProperty(
+      "mappings", "LEAPNEO_APIs.json")))).get("mappings");
+    for (final JsonNode mapping : mappings) {
+      final String name = mapping.path("name").asText();
+      if ("SBI BOOK-LOAN SUCCESS".equals(name)) {
+        sbiResponse = mapping.path("response").path("body").asText();
+      } else if ("Axis Book Loan Error 010".equals(name)) {
+        axisResponse = mapping.path("response").path("body").asText();
+      }
+    }
+    jaxbContext = JAXBContext.newInstance(ObjectFactory.class);
+    documentBuilderFactory = DocumentBuilderFactory.newInstance();
+    documentBuilderFactory.setNamespaceAware(true);
+  }
+
+  @Benchmark
+  public Map<String, String> sbiStax() {
+
+    return SoapResponseReader.read(sbiResponse, SBI_FIELDS);
+  }
+
+  @Benchmark
+  public Object sbiJaxb() throws Exception {
+
+    final Node body = soapBody(parse(sbiResponse));
+    final JAXBElement<CustomerBlockResponse> response =
+      jaxbContext.createUnmarshaller().unmarshal(body, CustomerBlockResponse.class);
+    return response.getValue().getCustomerBlockApiResponse().getResponse().getResponseCode();
+  }
+
+  @Benchmark
+  public Map<String, String> axisStax() {
+
+    return SoapResponseReader.read(axisResponse, AXIS_FIELDS, AXIS_NESTED);
+  }
+
+  @Benchmark
+  public String axisDoubleDom() throws Exception {
+
+    final String dcResponse =
+      parse(axisResponse).getElementsByTagNameNS("*", "ExecuteXMLStringResult").item(0).getTextContent();
+    final Document document = parse(dcResponse.trim());
+    return document.getElementsByTagName("Status").item(0).getTextContent()
+           + document.getElementsByTagName("Token").item(0).getTextContent();
+  }
+
+  private Document parse(final String xml) throws Exception {
+
+    return documentBuilderFactory.newDocumentBuilder().parse(new InputSource(new StringReader(xml)));
+  }
+
+  private static Node soapBody(final Document document) {
+
+    Node node = document.getElementsByTagNameNS("*", "Body").item(0).getFirstChild();
+    while (node != null && !(node instanceof Element)) {
+      node = node.getNextSibling();
+    }
+    return node;
+  }
+}
@@ -0,0 +1,60 @@
+package com.billdesk.banks.support;
+
+import com.billdesk.core.exception.FlexException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+public class SoapResponseReaderTest {
+
+  private static final String SBI_RESPONSE =
+    "<soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\" "
+    + "xmlns:sbi=\"http://sbi.Customerservice.co.in/\"><soapenv:Header/><soapenv:Body><sbi:CustomerBlockResponse>"
+    + "<CustomerBlockApiResponse><transactionReferenceNumber>SBIHI73779450230078964995</transactionReferenceNumber>"
+    + "<response><responseCode>0000</responseCode><responseDesciption>SUCCESS</responseDesciption></response>"
+    + "</CustomerBlockApiResponse></sbi:CustomerBlockResponse></soapenv:Body></soapenv:Envelope>";
+  private static final String AXIS_RESPONSE =
+    "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<s:Envelope xmlns:s=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+    + "<s:Body><ExecuteXMLStringResponse xmlns=\"http://tempuri.org/\"><ExecuteXMLStringResult><![CDATA["
+    + "<?xml version=\"1.0\"?><DCResponse>\n<Status>Success</Status><Authentication><Status>Success</Status>\n"
+    + "<Token>32b3d392-be00-4fab-b64b-ee19904ad61b</Token></Authentication><ContextData>\n"
+    + "<Field key=\"StatusCode\">010</Field>\n<Field key=\"Decision\">Declined</Field>\n"
+    + "</ContextData></DCResponse>]]></ExecuteXMLStringResult></ExecuteXMLStringResponse></s:Body></s:Envelope>";
+
+  @Test
+  void testReadSbiResponse() {
+
+    final Map<String, String> values =
+      SoapResponseReader.read(SBI_RESPONSE, Set.of("responseCode", "transactionReferenceNumber"));
+    Assertions.assertEquals("0000", values.get("responseCode"));
+    Assertions.assertEquals("SBIHI73779450230078964995", values.get("transactionReferenceNumber"));
+  }
+
+  @Test
+  void testReadNestedDcResponse() {
+
+    final Map<String, String> values =
+      SoapResponseReader.read(AXIS_RESPONSE, Set.of("Status", "Token", "StatusCode", "Decision"),
+                              Set.of("ExecuteXMLStringResult"));
+    Assertions.assertEquals("Success", values.get("Status"));
+    Assertions.assertEquals("32b3d392-be00-4fab-b64b-ee19904ad61b", values.get("Token"));
+    Assertions.assertEquals("010", values.get("StatusCode"));
+    Assertions.assertEquals("Declined", values.get("Decision"));
+  }
+
+  @Test
+  void testMissingFieldIsAbsent() {
+
+    final Map<String, String> values = SoapResponseReader.read(SBI_RESPONSE, Set.of("Token"));
+    Assertions.assertFalse(values.containsKey("Token"));
+  }
+
+  @Test
+  void testMalformedResponse() {
+
+    Assertions.assertThrows(FlexException.class,
+                            () -> SoapResponseReader.read("<Envelope><Body>", Set.of("responseCode")));
+  }
+}
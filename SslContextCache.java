@@ -0,0 +1,186 @@
+package com.billdesk.banks.support;
+
+import com.billdesk.core.enums.FlexErrorCode;
+import com.billdesk.core.exception.FlexException;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ResourceUtils;
+
+import javax.annotation.PreDestroy;
+import javax.net.ssl.TrustManagerFactory;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.KeyStore;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Caches client SslContexts per keystore path. A single watcher thread rebuilds an entry only when the content hash
+ * of the keystore on disk changes, and then notifies the registered listeners so they can swap their connection.
+ */
+@Component
+@Log4j2
+public class SslContextCache {
+
+  private final Map<Path, SslEntry> entries = new ConcurrentHashMap<>();
+  private final Map<Path, List<Consumer<SslContext>>> listeners = new ConcurrentHashMap<>();
+  private final Set<Path> watchedDirectories = ConcurrentHashMap.newKeySet();
+  private volatile WatchService watchService;
+
+  public SslContext get(final String keyStorePath, final String keyStorePass) {
+
+    final Path path = resolve(keyStorePath);
+    final SslEntry entry = entries.computeIfAbsent(path, key -> load(key, keyStorePass, read(key)));
+    watch(path);
+    return entry.getSslContext();
+  }
+
+  public void onRotation(final String keyStorePath, final Consumer<SslContext> listener) {
+
+    listeners.computeIfAbsent(resolve(keyStorePath), key -> new CopyOnWriteArrayList<>()).add(listener);
+  }
+
+  void reload(final Path path) {
+
+    final SslEntry current = entries.get(path);
+    if (current == null || !Files.exists(path)) {
+      return;
+    }
+    try {
+      final byte[] content = read(path);
+      if (Arrays.equals(current.getHash(), hash(content))) {
+        log.debug("Keystore {} touched but content unchanged, keeping current SSL context", path);
+        return;
+      }
+      final SslEntry rotated = load(path, current.getKeyStorePass(), content);
+      entries.put(path, rotated);
+      log.info("Keystore {} changed on disk, SSL context rebuilt", path);
+      listeners.getOrDefault(path, List.of()).forEach(listener -> listener.accept(rotated.getSslContext()));
+    } catch (final FlexException e) {
+      // A half written keystore must not take down the current context, the next event will retry
+      log.error("Unable to rebuild SSL context for {}, keeping the previous one", path);
+    }
+  }
+
+  @PreDestroy
+  public void close() throws IOException {
+
+    if (watchService != null) {
+      watchService.close();
+    }
+  }
+
+  private SslEntry load(final Path path, final String keyStorePass, final byte[] content) {
+
+    try {
+      final KeyStore trustStore = KeyStore.getInstance("JKS");
+      trustStore.load(new ByteArrayInputStream(content), keyStorePass.toCharArray());
+      final TrustManagerFactory trustManagerFactory =
+        TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+      trustManagerFactory.init(trustStore);
+      final SslContext sslContext =
+        SslContextBuilder.forClient().protocols("TLS").trustManager(trustManagerFactory).build();
+      return new SslEntry(hash(content), keyStorePass, sslContext);
+    } catch (final Exception e) {
+      log.error("Encountered error while creating SSL Context for {}. Error - {}", path, e.getMessage());
+      throw new FlexException(FlexErrorCode.GENERIC_ERROR);
+    }
+  }
+
+  private synchronized void watch(final Path path) {
+
+    final Path directory = path.getParent();
+    if (directory == null || watchedDirectories.contains(directory)) {
+      return;
+    }
+    try {
+      if (watchService == null) {
+        watchService = FileSystems.getDefault().newWatchService();
+        final Thread watcher = new Thread(this::processEvents, "ssl-keystore-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+      }
+      directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+      watchedDirectories.add(directory);
+    } catch (final IOException e) {
+      // Keystore is still served from the cache, only rotation without restart is lost
+      log.error("Unable to watch keystore directory {}. Error - {}", directory, e.getMessage());
+    }
+  }
+
+  private void processEvents() {
+
+    try {
+      while (true) {
+        final WatchKey key = watchService.take();
+        final Path directory = (Path) key.watchable();
+        for (final WatchEvent<?> event : key.pollEvents()) {
+          if (event.kind() != StandardWatchEventKinds.OVERFLOW) {
+            reload(directory.resolve((Path) event.context()));
+          }
+        }
+        key.reset();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (final ClosedWatchServiceException e) {
+      log.info("Keystore watcher stopped");
+    }
+  }
+
+  private static Path resolve(final String keyStorePath) {
+
+    try {
+      return ResourceUtils.getFile(keyStorePath).toPath().toAbsolutePath().normalize();
+    } catch (final IOException e) {
+      log.error("Unable to resolve keystore path {}. Error - {}", keyStorePath, e.getMessage());
+      throw new FlexException(FlexErrorCode.GENERIC_ERROR);
+    }
+  }
+
+  private static byte[] read(final Path path) {
+
+    try {
+      return Files.readAllBytes(path);
+    } catch (final IOException e) {
+      log.error("Unable to read keystore {}. Error - {}", path, e.getMessage());
+      throw new FlexException(FlexErrorCode.GENERIC_ERROR);
+    }
+  }
+
+  private static byte[] hash(final byte[] content) {
+
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(content);
+    } catch (final Exception e) {
+      throw new FlexException(FlexErrorCode.GENERIC_ERROR);
+    }
+  }
+
+  @Getter
+  @AllArgsConstructor
+  private static class SslEntry {
+
+    private final byte[] hash;
+    private final String keyStorePass;
+    private final SslContext sslContext;
+  }
+}
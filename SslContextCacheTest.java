@@ -0,0 +1,103 @@
+package com.billdesk.banks.support;
+
+import io.netty.handler.ssl.SslContext;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SslContextCacheTest {
+
+  private static final String KEY_STORE_PASS = "changeit";
+  private final SslContextCache sslContextCache = new SslContextCache();
+  @TempDir
+  Path tempDir;
+
+  @AfterEach
+  @SneakyThrows
+  void tearDown() {
+
+    sslContextCache.close();
+  }
+
+  @Test
+  @SneakyThrows
+  void testContextIsCached() {
+
+    final Path keyStore = writeKeyStore();
+    final SslContext first = sslContextCache.get(keyStore.toString(), KEY_STORE_PASS);
+    final SslContext second = sslContextCache.get(keyStore.toString(), KEY_STORE_PASS);
+    Assertions.assertSame(first, second);
+  }
+
+  @Test
+  @SneakyThrows
+  void testUnchangedContentIsNotReloaded() {
+
+    final Path keyStore = writeKeyStore();
+    final AtomicInteger rotations = new AtomicInteger();
+    final SslContext sslContext = sslContextCache.get(keyStore.toString(), KEY_STORE_PASS);
+    sslContextCache.onRotation(keyStore.toString(), context -> rotations.incrementAndGet());
+    writeKeyStore();
+    sslContextCache.reload(keyStore.toAbsolutePath().normalize());
+    Assertions.assertEquals(0, rotations.get());
+    Assertions.assertSame(sslContext, sslContextCache.get(keyStore.toString(), KEY_STORE_PASS));
+  }
+
+  @Test
+  @SneakyThrows
+  void testCorruptKeyStoreKeepsPreviousContext() {
+
+    final Path keyStore = writeKeyStore();
+    final AtomicInteger rotations = new AtomicInteger();
+    final SslContext sslContext = sslContextCache.get(keyStore.toString(), KEY_STORE_PASS);
+    sslContextCache.onRotation(keyStore.toString(), context -> rotations.incrementAndGet());
+    Files.write(keyStore, new byte[] { 1, 2, 3 });
+    sslContextCache.reload(keyStore.toAbsolutePath().normalize());
+    Assertions.assertEquals(0, rotations.get());
+    Assertions.assertSame(sslContext, sslContextCache.get(keyStore.toString(), KEY_STORE_PASS));
+  }
+
+  @Test
+  @SneakyThrows
+  void testChangedContentRebuildsContextAndNotifiesListeners() {
+
+    final Path keyStore = writeKeyStore();
+    final List<SslContext> rotated = new ArrayList<>();
+    final SslContext sslContext = sslContextCache.get(keyStore.toString(), KEY_STORE_PASS);
+    sslContextCache.onRotation(keyStore.toString(), rotated::add);
+    // PKCS12 stores are salted, so this writes different bytes that still load as a keystore
+    writeKeyStore("PKCS12");
+    sslContextCache.reload(keyStore.toAbsolutePath().normalize());
+    Assertions.assertEquals(1, rotated.size());
+    final SslContext rebuilt = sslContextCache.get(keyStore.toString(), KEY_STORE_PASS);
+    Assertions.assertNotSame(sslContext, rebuilt);
+    Assertions.assertSame(rebuilt, rotated.get(0));
+  }
+
+  private Path writeKeyStore() {
+
+    return writeKeyStore("JKS");
+  }
+
+  @SneakyThrows
+  private Path writeKeyStore(final String type) {
+
+    final Path path = tempDir.resolve("bank.jks");
+    final KeyStore keyStore = KeyStore.getInstance(type);
+    keyStore.load(null, KEY_STORE_PASS.toCharArray());
+    try (OutputStream outputStream = Files.newOutputStream(path)) {
+      keyStore.store(outputStream, KEY_STORE_PASS.toCharArray());
+    }
+    return path;
+  }
+}
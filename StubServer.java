@@ -0,0 +1,70 @@
+package com.billdesk.banks.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.common.Json;
+import com.github.tomakehurst.wiremock.extension.responsetemplating.ResponseTemplateTransformer;
+import com.github.tomakehurst.wiremock.http.DelayDistribution;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Function;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+/**
+ * Serves the LEAPNEO_APIs.json mappings from a local WireMock instance. Each mapping gets the delay distribution
+ * returned for its request url, so the app can be driven against slow banks without touching the stub file.
+ */
+@Log4j2
+public class StubServer implements AutoCloseable {
+
+  private final WireMockServer wireMockServer;
+
+  private StubServer(final WireMockServer wireMockServer) {
+
+    this.wireMockServer = wireMockServer;
+  }
+
+  public static StubServer start(final int port,
+                                 final Path mappingsFile,
+                                 final Function<String, DelayDistribution> delayForUrl) throws IOException {
+
+    final WireMockServer wireMockServer =
+      new WireMockServer(options().port(port)
+                                  .containerThreads(500)
+                                  .asynchronousResponseEnabled(true)
+                                  .extensions(new ResponseTemplateTransformer(false)));
+    final JsonNode mappings = new ObjectMapper().readTree(Files.readAllBytes(mappingsFile)).get("mappings");
+    for (final JsonNode mapping : mappings) {
+      final StubMapping stubMapping = Json.read(mapping.toString(), StubMapping.class);
+      final DelayDistribution delay = delayForUrl.apply(urlOf(stubMapping));
+      if (delay != null) {
+        stubMapping.setResponse(ResponseDefinitionBuilder.like(stubMapping.getResponse())
+                                                         .withRandomDelay(delay)
+                                                         .build());
+      }
+      wireMockServer.addStubMapping(stubMapping);
+    }
+    wireMockServer.start();
+    log.info("Loaded {} stub mappings on port {}", mappings.size(), port);
+    return new StubServer(wireMockServer);
+  }
+
+  public static String urlOf(final StubMapping stubMapping) {
+
+    final String url = stubMapping.getRequest().getUrl();
+    return url != null ? url : stubMapping.getRequest().getUrlPath();
+  }
+
+  @Override
+  public void close() {
+
+    wireMockServer.stop();
+  }
+}
@@ -0,0 +1,90 @@
+package com.billdesk.banks.benchmark;
+
+import com.billdesk.banks.validation.RequestValidators;
+import com.billdesk.banks.validation.Violation;
+import com.billdesk.core.model.BookLoanRequest;
+import com.billdesk.core.model.EligibilityRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request validation as the controller pays for it: Hibernate Validator through @Valid against the generated
+ * validators, for valid requests and for a book-loan request with an invalid tenure. Run with -prof gc to compare
+ * allocation as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationBenchmark {
+
+  private Validator validator;
+  private RequestValidators requestValidators;
+  private BookLoanRequest bookLoanRequest;
+  private BookLoanRequest invalidBookLoanRequest;
+  private EligibilityRequest eligibilityRequest;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+
+    validator = Validation.buildDefaultValidatorFactory().getValidator();
+    requestValidators = new RequestValidators();
+    bookLoanRequest = BenchmarkFixtures.bookLoanRequest();
+    invalidBookLoanRequest = BenchmarkFixtures.bookLoanRequest();
+    invalidBookLoanRequest.setTenure(-1);
+    eligibilityRequest = BenchmarkFixtures.eligibilityRequest();
+  }
+
+  @Benchmark
+  public Set<ConstraintViolation<BookLoanRequest>> bookLoanHibernate() {
+
+    return validator.validate(bookLoanRequest);
+  }
+
+  @Benchmark
+  public Violation bookLoanGenerated() {
+
+    return requestValidators.validate(bookLoanRequest);
+  }
+
+  @Benchmark
+  public Set<ConstraintViolation<BookLoanRequest>> invalidBookLoanHibernate() {
+
+    return validator.validate(invalidBookLoanRequest);
+  }
+
+  @Benchmark
+  public Violation invalidBookLoanGenerated() {
+
+    return requestValidators.validate(invalidBookLoanRequest);
+  }
+
+  @Benchmark
+  public Set<ConstraintViolation<EligibilityRequest>> eligibilityHibernate() {
+
+    return validator.validate(eligibilityRequest);
+  }
+
+  @Benchmark
+  public Violation eligibilityGenerated() {
+
+    return requestValidators.validate(eligibilityRequest);
+  }
+}
@@ -0,0 +1,45 @@
+package com.billdesk.banks.validation;
+
+import lombok.Getter;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+
+/**
+ * First constraint a request violated. The message is the constraint's message interpolated at build time, the same
+ * text bean validation reports, so it resolves to the same GenericErrorCode or FlexErrorCode.
+ */
+@Getter
+public class Violation {
+
+  private final String field;
+  private final String constraint;
+  private final String message;
+  private final Object invalidValue;
+
+  public Violation(final String field, final String constraint, final String message, final Object invalidValue) {
+
+    this.field = field;
+    this.constraint = constraint;
+    this.message = message;
+    this.invalidValue = invalidValue;
+  }
+
+  /**
+   * The violation as the single field error Spring's validator adapter would have produced for it.
+   */
+  public BindingResult toBindingResult(final Object target, final String objectName) {
+
+    final BindingResult bindingResult = new BeanPropertyBindingResult(target, objectName);
+    bindingResult.addError(new FieldError(objectName, field, invalidValue, false,
+                                          new String[] { constraint + "." + objectName + "." + field, constraint },
+                                          null, message));
+    return bindingResult;
+  }
+
+  @Override
+  public String toString() {
+
+    return field + " " + constraint + " " + message;
+  }
+}
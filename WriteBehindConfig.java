@@ -0,0 +1,29 @@
+package com.billdesk.banks.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "book-loan.write-behind")
+public class WriteBehindConfig {
+
+  private boolean enabled;
+  private String logPath = "data/book-loan-write-behind.log";
+  private int logSizeBytes = 64 * 1024 * 1024;
+  private int batchSize = 100;
+  private long flushIntervalMillis = 200;
+  // Wait until each record is forced to disk before the booking returns, so an accepted booking survives a host
+  // crash. Forces are group committed: bookings that arrive while one force runs share the next, so the cost is one
+  // msync per group rather than per booking, but each booking still waits for one. With false the record is only in
+  // the page cache when the booking returns; a process crash loses nothing, a host crash can lose what the OS had not
+  // yet written back (up to about 30 seconds with default Linux writeback settings).
+  private boolean forceOnAppend = true;
+  // Base64 AES key (16, 24 or 32 bytes) every record is encrypted with before it is written, required when enabled.
+  // Records hold the full book-loan request and bank response, OTP and card data included.
+  private String encryptionKey;
+  // Records the database keeps rejecting are moved here so they do not block the rest of the log
+  private String deadLetterPath = "data/book-loan-dead-letter.log";
+  private int deadLetterSizeBytes = 16 * 1024 * 1024;
+}
@@ -0,0 +1,17 @@
+package com.billdesk.banks.validation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates a {@link RequestValidator} named {@code <Model>Validator} in this package for each listed request type,
+ * compiled from the bean validation constraints declared on the type's fields.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateValidator {
+
+  Class<?>[] value();
+}
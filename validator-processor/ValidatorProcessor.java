@@ -0,0 +1,602 @@
+package com.billdesk.banks.validation.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Generates the validators requested by {@code @GenerateValidator}. The request types usually come from another
+ * module, so their field constraints are read from the compiled classes on the classpath. Every constraint becomes an
+ * inline check in field declaration order; patterns and decimal bounds become constants. Messages are interpolated
+ * at build time the way Hibernate Validator does with its default English messages, so a violation carries the same
+ * text. Constraints with groups, class level and custom constraints, constraints this processor does not know and
+ * messages it cannot resolve (bundle keys other than the constraint's default, expressions) fail the build rather
+ * than being skipped. Kept in its own module, which the application puts on annotationProcessorPaths, because the
+ * validators it generates are compiled into the application itself.
+ */
+@SupportedAnnotationTypes(ValidatorProcessor.GENERATE_VALIDATOR)
+public class ValidatorProcessor extends AbstractProcessor {
+
+  static final String GENERATE_VALIDATOR = "com.billdesk.banks.validation.GenerateValidator";
+  private static final String TARGET_PACKAGE = "com.billdesk.banks.validation";
+  private static final String VALID = "Valid";
+  private static final String[] CONSTRAINT_PACKAGES = { "javax.validation.constraints",
+                                                        "jakarta.validation.constraints" };
+  private static final String[] CASCADE_ANNOTATIONS = { "javax.validation.Valid", "jakarta.validation.Valid" };
+  private static final String[] CONSTRAINT_META_ANNOTATIONS = { "javax.validation.Constraint",
+                                                                "jakarta.validation.Constraint" };
+  // Hibernate Validator's default messages, DecimalMin and DecimalMax are resolved in defaultMessage
+  private static final Map<String, String> DEFAULT_MESSAGES = Map.ofEntries(
+    Map.entry("NotNull", "must not be null"),
+    Map.entry("Null", "must be null"),
+    Map.entry("NotBlank", "must not be blank"),
+    Map.entry("NotEmpty", "must not be empty"),
+    Map.entry("Size", "size must be between {min} and {max}"),
+    Map.entry("Pattern", "must match \"{regexp}\""),
+    Map.entry("AssertTrue", "must be true"),
+    Map.entry("AssertFalse", "must be false"),
+    Map.entry("Min", "must be greater than or equal to {value}"),
+    Map.entry("Max", "must be less than or equal to {value}"),
+    Map.entry("Positive", "must be greater than 0"),
+    Map.entry("PositiveOrZero", "must be greater than or equal to 0"),
+    Map.entry("Negative", "must be less than 0"),
+    Map.entry("NegativeOrZero", "must be less than or equal to 0"),
+    Map.entry("Digits", "numeric value out of bounds (<{integer} digits>.<{fraction} digits> expected)"));
+  private static final Pattern MESSAGE_PARAMETER = Pattern.compile("\\{([^{}]+)}");
+  private Elements elements;
+  private Types types;
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+
+    elements = processingEnv.getElementUtils();
+    types = processingEnv.getTypeUtils();
+    final TypeElement generateValidator = elements.getTypeElement(GENERATE_VALIDATOR);
+    if (generateValidator == null) {
+      return false;
+    }
+    for (final Element element : roundEnv.getElementsAnnotatedWith(generateValidator)) {
+      for (final TypeMirror requestType : requestTypes(element, generateValidator)) {
+        try {
+          generate((TypeElement) types.asElement(requestType));
+        } catch (final UnsupportedConstraintException e) {
+          processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), element);
+        } catch (final IOException e) {
+          processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                                                   "Unable to write validator for " + requestType + ": "
+                                                   + e.getMessage(), element);
+        }
+      }
+    }
+    return true;
+  }
+
+  private List<TypeMirror> requestTypes(final Element element, final TypeElement generateValidator) {
+
+    final List<TypeMirror> requestTypes = new ArrayList<>();
+    for (final AnnotationMirror mirror : element.getAnnotationMirrors()) {
+      if (!types.isSameType(mirror.getAnnotationType(), generateValidator.asType())) {
+        continue;
+      }
+      for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry :
+        mirror.getElementValues().entrySet()) {
+        for (final Object value : (List<?>) entry.getValue().getValue()) {
+          requestTypes.add((TypeMirror) ((AnnotationValue) value).getValue());
+        }
+      }
+    }
+    return requestTypes;
+  }
+
+  private void generate(final TypeElement requestType) throws IOException {
+
+    final String className = requestType.getSimpleName() + "Validator";
+    final Generator generator = new Generator();
+    generator.method(requestType);
+    final StringBuilder source = new StringBuilder();
+    source.append("package ").append(TARGET_PACKAGE).append(";\n\n")
+          .append("/**\n * Generated by ").append(getClass().getSimpleName()).append(" from the constraints on ")
+          .append(requestType.getQualifiedName()).append(", do not edit.\n */\n")
+          .append("public final class ").append(className).append(" implements RequestValidator<")
+          .append(requestType.getQualifiedName()).append("> {\n\n");
+    generator.constants.forEach((name, initializer) -> source.append("  private static final ").append(initializer)
+                                                               .append(";\n"));
+    if (!generator.constants.isEmpty()) {
+      source.append('\n');
+    }
+    source.append("  @Override\n  public Violation validate(final ").append(requestType.getQualifiedName())
+          .append(" request) {\n\n    return ").append(generator.methodName(requestType))
+          .append("(request, \"\");\n  }\n");
+    source.append(generator.methods);
+    source.append("}\n");
+    try (Writer writer = processingEnv.getFiler()
+                                      .createSourceFile(TARGET_PACKAGE + "." + className, requestType)
+                                      .openWriter()) {
+      writer.write(source.toString());
+    }
+  }
+
+  private class Generator {
+
+    private final Map<String, String> constants = new LinkedHashMap<>();
+    private final Map<String, String> methodNames = new LinkedHashMap<>();
+    private final Deque<TypeElement> pending = new ArrayDeque<>();
+    private final StringBuilder methods = new StringBuilder();
+
+    String methodName(final TypeElement type) {
+
+      return methodNames.computeIfAbsent(type.getQualifiedName().toString(), name -> {
+        pending.add(type);
+        return "validate" + type.getSimpleName() + methodNames.size();
+      });
+    }
+
+    void method(final TypeElement root) {
+
+      methodName(root);
+      while (!pending.isEmpty()) {
+        final TypeElement type = pending.poll();
+        for (final AnnotationMirror mirror : type.getAnnotationMirrors()) {
+          final TypeElement annotation = (TypeElement) mirror.getAnnotationType().asElement();
+          if (oneOf(elements.getPackageOf(annotation).getQualifiedName().toString(), CONSTRAINT_PACKAGES)
+              || isConstraint(annotation)) {
+            throw new UnsupportedConstraintException("@" + annotation.getSimpleName() + " on "
+                                                     + type.getQualifiedName()
+                                                     + ": class level constraints are not supported by the compiled"
+                                                     + " validator");
+          }
+        }
+        methods.append("\n  private static Violation ").append(methodName(type)).append("(final ")
+               .append(type.getQualifiedName()).append(" bean, final String path) {\n\n");
+        for (final VariableElement field : fields(type)) {
+          field(type, field);
+        }
+        methods.append("    return null;\n  }\n");
+      }
+    }
+
+    private List<VariableElement> fields(final TypeElement type) {
+
+      final Deque<TypeElement> hierarchy = new ArrayDeque<>();
+      for (TypeElement current = type; current != null && !"java.lang.Object".equals(
+        current.getQualifiedName().toString()); current = (TypeElement) types.asElement(current.getSuperclass())) {
+        hierarchy.push(current);
+      }
+      final List<VariableElement> fields = new ArrayList<>();
+      for (final TypeElement current : hierarchy) {
+        for (final VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+          if (!field.getModifiers().contains(Modifier.STATIC)) {
+            fields.add(field);
+          }
+        }
+      }
+      return fields;
+    }
+
+    private void field(final TypeElement owner, final VariableElement field) {
+
+      final List<String> checks = new ArrayList<>();
+      boolean cascade = false;
+      for (final AnnotationMirror mirror : field.getAnnotationMirrors()) {
+        final TypeElement annotation = (TypeElement) mirror.getAnnotationType().asElement();
+        final String annotationName = annotation.getQualifiedName().toString();
+        if (oneOf(annotationName, CASCADE_ANNOTATIONS)) {
+          cascade = true;
+        } else if (oneOf(elements.getPackageOf(annotation).getQualifiedName().toString(), CONSTRAINT_PACKAGES)
+                   || isConstraint(annotation)) {
+          checks.add(check(owner, field, mirror));
+        }
+      }
+      if (checks.isEmpty() && !cascade) {
+        return;
+      }
+      final TypeMirror type = field.asType();
+      methods.append("    {\n      final ").append(types.erasure(type)).append(" value = bean.")
+             .append(getter(owner, field)).append("();\n");
+      checks.forEach(methods::append);
+      if (cascade) {
+        cascade(owner, field, type);
+      }
+      methods.append("    }\n");
+    }
+
+    private String check(final TypeElement owner, final VariableElement field, final AnnotationMirror mirror) {
+
+      final String constraint = mirror.getAnnotationType().asElement().getSimpleName().toString();
+      final Map<String, Object> attributes = new LinkedHashMap<>();
+      elements.getElementValuesWithDefaults(mirror)
+              .forEach((key, value) -> attributes.put(key.getSimpleName().toString(), value.getValue()));
+      if (attributes.get("groups") instanceof List && !((List<?>) attributes.get("groups")).isEmpty()) {
+        throw unsupported(owner, field, constraint, "validation groups");
+      }
+      final String condition = condition(owner, field, constraint, attributes);
+      return "      if (" + condition + ") {\n        return new Violation(path + \"" + field.getSimpleName()
+             + "\", \"" + constraint + "\", " + literal(message(owner, field, constraint, attributes))
+             + ", value);\n      }\n";
+    }
+
+    private String message(final TypeElement owner, final VariableElement field, final String constraint,
+                           final Map<String, Object> attributes) {
+
+      final String template = String.valueOf(attributes.get("message"));
+      if (template.contains("${")) {
+        throw unsupported(owner, field, constraint, "the expression in message " + template);
+      }
+      final Matcher parameters = MESSAGE_PARAMETER.matcher(template);
+      final StringBuilder message = new StringBuilder();
+      while (parameters.find()) {
+        final String parameter = parameters.group(1);
+        final String value;
+        if (isDefaultMessageKey(parameter, constraint)) {
+          value = message(owner, field, constraint, defaultMessage(owner, field, constraint, attributes));
+        } else if (attributes.containsKey(parameter) && !"message".equals(parameter)) {
+          value = String.valueOf(attributes.get(parameter));
+        } else {
+          throw unsupported(owner, field, constraint, "the parameter {" + parameter + "} in message " + template);
+        }
+        parameters.appendReplacement(message, Matcher.quoteReplacement(value));
+      }
+      parameters.appendTail(message);
+      return message.toString();
+    }
+
+    private boolean isDefaultMessageKey(final String parameter, final String constraint) {
+
+      for (final String constraintPackage : CONSTRAINT_PACKAGES) {
+        if (parameter.equals(constraintPackage + "." + constraint + ".message")) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private Map<String, Object> defaultMessage(final TypeElement owner, final VariableElement field,
+                                               final String constraint, final Map<String, Object> attributes) {
+
+      final String template;
+      if ("DecimalMin".equals(constraint) || "DecimalMax".equals(constraint)) {
+        template = "must be " + ("DecimalMin".equals(constraint) ? "greater" : "less") + " than "
+                   + (Boolean.TRUE.equals(attributes.get("inclusive")) ? "or equal to " : "") + "{value}";
+      } else if (DEFAULT_MESSAGES.containsKey(constraint)) {
+        template = DEFAULT_MESSAGES.get(constraint);
+      } else {
+        throw unsupported(owner, field, constraint, "the default message");
+      }
+      final Map<String, Object> resolved = new LinkedHashMap<>(attributes);
+      resolved.put("message", template);
+      return resolved;
+    }
+
+    private String condition(final TypeElement owner, final VariableElement field, final String constraint,
+                             final Map<String, Object> attributes) {
+
+      final ValueKind kind = kindOf(field.asType());
+      final String nonNull = kind == ValueKind.PRIMITIVE ? "" : "value != null && ";
+      switch (constraint) {
+        case "NotNull":
+          return kind == ValueKind.PRIMITIVE ? "false" : "value == null";
+        case "Null":
+          return kind == ValueKind.PRIMITIVE ? "true" : "value != null";
+        case "NotBlank":
+          requireKind(owner, field, constraint, kind, ValueKind.TEXT);
+          return "com.billdesk.banks.validation.Checks.isBlank(value)";
+        case "NotEmpty":
+          return "value == null || " + size(owner, field, constraint, kind) + " == 0";
+        case "Size":
+          final String size = size(owner, field, constraint, kind);
+          return "value != null && (" + size + " < " + attributes.get("min") + " || " + size + " > "
+                 + attributes.get("max") + ")";
+        case "Pattern":
+          requireKind(owner, field, constraint, kind, ValueKind.TEXT);
+          return "value != null && !" + pattern(attributes) + ".matcher(value).matches()";
+        case "AssertTrue":
+          return nonNull + "!value";
+        case "AssertFalse":
+          return nonNull + "value";
+        case "Min":
+          return bound(owner, field, constraint, kind, nonNull, String.valueOf(attributes.get("value")), true, true);
+        case "Max":
+          return bound(owner, field, constraint, kind, nonNull, String.valueOf(attributes.get("value")), false,
+                       true);
+        case "DecimalMin":
+          return bound(owner, field, constraint, kind, nonNull, String.valueOf(attributes.get("value")), true,
+                       (Boolean) attributes.get("inclusive"));
+        case "DecimalMax":
+          return bound(owner, field, constraint, kind, nonNull, String.valueOf(attributes.get("value")), false,
+                       (Boolean) attributes.get("inclusive"));
+        case "Positive":
+          return bound(owner, field, constraint, kind, nonNull, "0", true, false);
+        case "PositiveOrZero":
+          return bound(owner, field, constraint, kind, nonNull, "0", true, true);
+        case "Negative":
+          return bound(owner, field, constraint, kind, nonNull, "0", false, false);
+        case "NegativeOrZero":
+          return bound(owner, field, constraint, kind, nonNull, "0", false, true);
+        case "Digits":
+          return "value != null && !com.billdesk.banks.validation.Checks.digits(value, " + attributes.get("integer")
+                 + ", " + attributes.get("fraction") + ")";
+        default:
+          throw unsupported(owner, field, constraint, "this constraint");
+      }
+    }
+
+    private String bound(final TypeElement owner, final VariableElement field, final String constraint,
+                         final ValueKind kind, final String nonNull, final String bound, final boolean minimum,
+                         final boolean inclusive) {
+
+      if (kind == ValueKind.PRIMITIVE || kind == ValueKind.BOXED) {
+        final String operator = minimum ? inclusive ? "<" : "<=" : inclusive ? ">" : ">=";
+        final BigDecimal value = new BigDecimal(bound);
+        final boolean integralBound = value.stripTrailingZeros().scale() <= 0;
+        return nonNull + "value " + operator + " "
+               + (isIntegral(field.asType()) && integralBound ? value.longValueExact() + "L" : value.doubleValue());
+      }
+      if (kind == ValueKind.TEXT || kind == ValueKind.BIG_NUMBER) {
+        final String name = "BOUND_" + constants.size();
+        constants.put(name, "java.math.BigDecimal " + name + " = new java.math.BigDecimal(" + literal(bound) + ")");
+        return "value != null && com.billdesk.banks.validation.Checks.violates" + (minimum ? "Min" : "Max")
+               + "(value, " + name + ", " + inclusive + ")";
+      }
+      throw unsupported(owner, field, constraint, "fields of type " + field.asType());
+    }
+
+    private String size(final TypeElement owner, final VariableElement field, final String constraint,
+                        final ValueKind kind) {
+
+      switch (kind) {
+        case TEXT:
+          return "value.length()";
+        case COLLECTION:
+          return "value.size()";
+        case ARRAY:
+          return "value.length";
+        default:
+          throw unsupported(owner, field, constraint, "fields of type " + field.asType());
+      }
+    }
+
+    private String pattern(final Map<String, Object> attributes) {
+
+      int flags = 0;
+      for (final Object flag : (List<?>) attributes.get("flags")) {
+        flags |= patternFlag(((AnnotationValue) flag).getValue().toString());
+      }
+      final String name = "PATTERN_" + constants.size();
+      constants.put(name, "java.util.regex.Pattern " + name + " = java.util.regex.Pattern.compile("
+                          + literal(String.valueOf(attributes.get("regexp"))) + ", " + flags + ")");
+      return name;
+    }
+
+    private void cascade(final TypeElement owner, final VariableElement field, final TypeMirror type) {
+
+      final ValueKind kind = kindOf(type);
+      if (kind == ValueKind.BEAN) {
+        methods.append("      if (value != null) {\n        final Violation nested = ")
+               .append(methodName((TypeElement) types.asElement(type))).append("(value, path + \"")
+               .append(field.getSimpleName()).append(".\");\n        if (nested != null) {\n")
+               .append("          return nested;\n        }\n      }\n");
+      } else if (kind == ValueKind.COLLECTION && isSubtype(type, "java.util.List") && isBeanList((DeclaredType) type)) {
+        final TypeElement element =
+          (TypeElement) types.asElement(((DeclaredType) type).getTypeArguments().get(0));
+        methods.append("      if (value != null) {\n        int i = 0;\n        for (final Object element : value) {\n")
+               .append("          final Violation nested = element == null ? null : ").append(methodName(element))
+               .append("((").append(element.getQualifiedName()).append(") element, path + \"")
+               .append(field.getSimpleName()).append("[\" + i + \"].\");\n")
+               .append("          if (nested != null) {\n            return nested;\n          }\n")
+               .append("          i++;\n        }\n      }\n");
+      } else {
+        throw unsupported(owner, field, VALID, "fields of type " + type);
+      }
+    }
+
+    private boolean isBeanList(final DeclaredType type) {
+
+      return type.getTypeArguments().size() == 1 && kindOf(type.getTypeArguments().get(0)) == ValueKind.BEAN;
+    }
+
+    private String getter(final TypeElement owner, final VariableElement field) {
+
+      final String name = field.getSimpleName().toString();
+      final String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+      final String[] candidates = field.asType().getKind() == TypeKind.BOOLEAN
+        ? new String[] { "is" + capitalized, "get" + capitalized }
+        : new String[] { "get" + capitalized };
+      for (final ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(owner))) {
+        if (method.getParameters().isEmpty() && method.getModifiers().contains(Modifier.PUBLIC)
+            && oneOf(method.getSimpleName().toString(), candidates)) {
+          return method.getSimpleName().toString();
+        }
+      }
+      throw new UnsupportedConstraintException(owner.getQualifiedName() + "." + name
+                                               + " has constraints but no public getter");
+    }
+
+
+    private void requireKind(final TypeElement owner, final VariableElement field, final String constraint,
+                             final ValueKind kind, final ValueKind required) {
+
+      if (kind != required) {
+        throw unsupported(owner, field, constraint, "fields of type " + field.asType());
+      }
+    }
+
+    private boolean isConstraint(final TypeElement annotation) {
+
+      for (final AnnotationMirror meta : annotation.getAnnotationMirrors()) {
+        if (oneOf(((TypeElement) meta.getAnnotationType().asElement()).getQualifiedName().toString(),
+                  CONSTRAINT_META_ANNOTATIONS)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  private enum ValueKind {
+    PRIMITIVE, BOXED, TEXT, BIG_NUMBER, COLLECTION, ARRAY, BEAN, OTHER
+  }
+
+  private ValueKind kindOf(final TypeMirror type) {
+
+    if (type.getKind().isPrimitive()) {
+      return ValueKind.PRIMITIVE;
+    }
+    if (type.getKind() == TypeKind.ARRAY) {
+      return ValueKind.ARRAY;
+    }
+    if (type.getKind() != TypeKind.DECLARED) {
+      return ValueKind.OTHER;
+    }
+    final String name = ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+    switch (name) {
+      case "java.lang.Integer":
+      case "java.lang.Long":
+      case "java.lang.Short":
+      case "java.lang.Byte":
+      case "java.lang.Double":
+      case "java.lang.Float":
+      case "java.lang.Boolean":
+        return ValueKind.BOXED;
+      case "java.lang.String":
+      case "java.lang.CharSequence":
+        return ValueKind.TEXT;
+      case "java.math.BigDecimal":
+      case "java.math.BigInteger":
+        return ValueKind.BIG_NUMBER;
+      default:
+        break;
+    }
+    if (isSubtype(type, "java.util.Collection") || isSubtype(type, "java.util.Map")) {
+      return ValueKind.COLLECTION;
+    }
+    if (name.startsWith("java.") || ((DeclaredType) type).asElement().getKind() == ElementKind.ENUM) {
+      return ValueKind.OTHER;
+    }
+    return ValueKind.BEAN;
+  }
+
+  private boolean isIntegral(final TypeMirror type) {
+
+    final TypeKind kind = type.getKind().isPrimitive() ? type.getKind() : types.unboxedType(type).getKind();
+    return kind == TypeKind.INT || kind == TypeKind.LONG || kind == TypeKind.SHORT || kind == TypeKind.BYTE;
+  }
+
+  private boolean isSubtype(final TypeMirror type, final String superType) {
+
+    return types.isAssignable(types.erasure(type), types.erasure(elements.getTypeElement(superType).asType()));
+  }
+
+  private static boolean oneOf(final String value, final String[] candidates) {
+
+    for (final String candidate : candidates) {
+      if (candidate.equals(value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static int patternFlag(final String flag) {
+
+    switch (flag) {
+      case "UNIX_LINES":
+        return Pattern.UNIX_LINES;
+      case "CASE_INSENSITIVE":
+        return Pattern.CASE_INSENSITIVE;
+      case "COMMENTS":
+        return Pattern.COMMENTS;
+      case "MULTILINE":
+        return Pattern.MULTILINE;
+      case "DOTALL":
+        return Pattern.DOTALL;
+      case "UNICODE_CASE":
+        return Pattern.UNICODE_CASE;
+      case "CANON_EQ":
+        return Pattern.CANON_EQ;
+      default:
+        throw new UnsupportedConstraintException("Unknown pattern flag " + flag);
+    }
+  }
+
+  private static String literal(final String value) {
+
+    final StringBuilder literal = new StringBuilder("\"");
+    for (int i = 0; i < value.length(); i++) {
+      final char c = value.charAt(i);
+      switch (c) {
+        case '"':
+          literal.append("\\\"");
+          break;
+        case '\\':
+          literal.append("\\\\");
+          break;
+        case '\n':
+          literal.append("\\n");
+          break;
+        case '\r':
+          literal.append("\\r");
+          break;
+        case '\t':
+          literal.append("\\t");
+          break;
+        default:
+          if (c < ' ' || c > '~') {
+            literal.append(String.format("\\u%04x", (int) c));
+          } else {
+            literal.append(c);
+          }
+      }
+    }
+    return literal.append('"').toString();
+  }
+
+  private static UnsupportedConstraintException unsupported(final TypeElement owner, final VariableElement field,
+                                                            final String constraint, final String what) {
+
+    return new UnsupportedConstraintException("@" + constraint + " on " + owner.getQualifiedName() + "."
+                                              + field.getSimpleName() + ": " + what
+                                              + " is not supported by the compiled validator");
+  }
+
+  private static class UnsupportedConstraintException extends RuntimeException {
+
+    UnsupportedConstraintException(final String message) {
+
+      super(message);
+    }
+  }
+}